@@ -1,14 +1,34 @@
 package com.intellias.intellistart.interviewplanning.controller;
 
+import static com.intellias.intellistart.interviewplanning.service.IdempotencyService.IDEMPOTENCY_KEY_HEADER;
+
+import com.intellias.intellistart.interviewplanning.security.SecurityUtil;
+import com.intellias.intellistart.interviewplanning.service.BookingRequestService;
 import com.intellias.intellistart.interviewplanning.service.BookingService;
+import com.intellias.intellistart.interviewplanning.service.IdempotencyService;
+import com.intellias.intellistart.interviewplanning.service.SchedulerService;
 import com.intellias.intellistart.interviewplanning.service.dto.BookingDto;
+import com.intellias.intellistart.interviewplanning.service.dto.BookingFilterDto;
+import com.intellias.intellistart.interviewplanning.service.dto.BookingPageDto;
+import com.intellias.intellistart.interviewplanning.service.dto.BookingRequestDto;
+import com.intellias.intellistart.interviewplanning.service.dto.BookingResultDto;
+import com.intellias.intellistart.interviewplanning.service.dto.ScheduleProposalDto;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import lombok.AllArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DateTimeFormat.ISO;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -21,11 +41,15 @@ import org.springframework.web.bind.annotation.RestController;
 public class BookingController {
 
   private BookingService bookingService;
+  private SchedulerService schedulerService;
+  private IdempotencyService idempotencyService;
+  private BookingRequestService bookingRequestService;
 
   /**
    * Endpoint to create booking for interview.
    *
    * @param bookingDto request body of booking.
+   * @param idempotencyKey key of request, retry with same key returns already saved booking.
    *
    * @return saved booking.
    */
@@ -33,8 +57,66 @@ public class BookingController {
   @PostMapping("/bookings")
   @ResponseStatus(HttpStatus.CREATED)
   @PreAuthorize("hasAuthority('COORDINATOR')")
-  public BookingDto createBooking(@RequestBody BookingDto bookingDto) {
-    return bookingService.createBooking(bookingDto);
+  public BookingDto createBooking(@RequestBody BookingDto bookingDto,
+      @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
+    return idempotencyService.execute(
+        "POST /bookings " + SecurityUtil.getCurrentPrincipal().getEmail(), idempotencyKey,
+        bookingDto, () -> bookingService.createBooking(bookingDto));
+  }
+
+  /**
+   * Endpoint to queue booking for interview. Booking is created asynchronously,
+   * its state can be polled by returned request id.
+   *
+   * @param bookingDto request body of booking.
+   *
+   * @return pending booking request.
+   */
+  @PostMapping("/bookings/requests")
+  @ResponseStatus(HttpStatus.ACCEPTED)
+  @PreAuthorize("hasAuthority('COORDINATOR')")
+  public BookingRequestDto submitBooking(@RequestBody BookingDto bookingDto) {
+    return bookingRequestService.submit(bookingDto);
+  }
+
+  /**
+   * Endpoint to get state of queued booking.
+   *
+   * @param requestId id of booking request.
+   *
+   * @return booking request with saved booking or error when it is processed.
+   */
+  @GetMapping("/bookings/requests/{requestId}")
+  @PreAuthorize("hasAuthority('COORDINATOR')")
+  public BookingRequestDto getBookingRequest(@PathVariable String requestId) {
+    return bookingRequestService.getRequest(requestId);
+  }
+
+  /**
+   * Endpoint to create batch of bookings for interviews in one request.
+   *
+   * @param bookingDtos request body with bookings.
+   *
+   * @return result for each booking.
+   */
+  @PostMapping("/bookings/batch")
+  @PreAuthorize("hasAuthority('COORDINATOR')")
+  public List<BookingResultDto> createBookings(@RequestBody List<BookingDto> bookingDtos) {
+    return bookingService.createBookings(bookingDtos);
+  }
+
+  /**
+   * Endpoint to propose bookings for open candidate slots of week. Proposed bookings are
+   * not saved, they can be created with batch endpoint.
+   *
+   * @param weekNum number of week.
+   *
+   * @return proposed bookings.
+   */
+  @GetMapping("/weeks/{weekNum}/bookings/proposal")
+  @PreAuthorize("hasAuthority('COORDINATOR')")
+  public ScheduleProposalDto proposeBookings(@PathVariable int weekNum) {
+    return schedulerService.proposeBookings(weekNum);
   }
 
   /**
@@ -54,6 +136,52 @@ public class BookingController {
     return bookingService.updateBooking(bookingId, bookingDto);
   }
 
+  /**
+   * Endpoint to search bookings. Filter which is not given is not applied.
+   *
+   * @param interviewerEmail email of interviewer.
+   * @param candidateEmail email of candidate.
+   * @param from first date of bookings, e.g. 2022-10-24
+   * @param to last date of bookings.
+   * @param weekNum number of week.
+   * @param cursor next cursor of previous page.
+   * @param limit max number of bookings on page.
+   *
+   * @return page of bookings.
+   */
+  @GetMapping("/bookings")
+  @PreAuthorize("hasAuthority('COORDINATOR')")
+  public BookingPageDto searchBookings(
+      @RequestParam(required = false) String interviewerEmail,
+      @RequestParam(required = false) String candidateEmail,
+      @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE) LocalDate from,
+      @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE) LocalDate to,
+      @RequestParam(required = false) Integer weekNum,
+      @RequestParam(required = false) Long cursor,
+      @RequestParam(defaultValue = "50") int limit) {
+    BookingFilterDto filter = BookingFilterDto.builder()
+        .interviewerEmail(interviewerEmail)
+        .candidateEmail(candidateEmail)
+        .from(from)
+        .to(to)
+        .weekNum(weekNum)
+        .build();
+    return bookingService.searchBookings(filter, cursor, limit);
+  }
+
+  /**
+   * Endpoint to get descriptions of bookings in one request.
+   *
+   * @param ids ids of bookings
+   *
+   * @return descriptions by booking id.
+   */
+  @GetMapping("/bookings/descriptions")
+  @PreAuthorize("hasAuthority('COORDINATOR')")
+  public Map<Long, String> getDescriptions(@RequestParam Set<Long> ids) {
+    return bookingService.getDescriptions(ids);
+  }
+
   /**
    * Endpoint to delete booking.
    *
@@ -1,11 +1,16 @@
 package com.intellias.intellistart.interviewplanning.controller;
 
+import static com.intellias.intellistart.interviewplanning.service.IdempotencyService.IDEMPOTENCY_KEY_HEADER;
+
 import com.fasterxml.jackson.annotation.JsonView;
 import com.intellias.intellistart.interviewplanning.exceptions.SlotNotFoundException;
 import com.intellias.intellistart.interviewplanning.model.slot.CandidateTimeSlot;
 import com.intellias.intellistart.interviewplanning.model.views.Views;
 import com.intellias.intellistart.interviewplanning.security.config.SimpleUserPrincipal;
+import com.intellias.intellistart.interviewplanning.service.CandidateMatchService;
 import com.intellias.intellistart.interviewplanning.service.CandidateTimeSlotService;
+import com.intellias.intellistart.interviewplanning.service.IdempotencyService;
+import com.intellias.intellistart.interviewplanning.service.dto.CandidateSlotMatchDto;
 import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -21,6 +26,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -36,26 +42,47 @@ public class CandidateController {
   private final CandidateTimeSlotService candidateService;
 
   @Autowired
-  public CandidateController(CandidateTimeSlotService candidateService) {
+  private final CandidateMatchService candidateMatchService;
+
+  @Autowired
+  private final IdempotencyService idempotencyService;
+
+  /**
+   * Create controller for candidate time slots.
+   *
+   * @param candidateService service of candidate time slots
+   * @param candidateMatchService service of matches for candidate time slots
+   * @param idempotencyService service of stored results of retried requests
+   */
+  @Autowired
+  public CandidateController(CandidateTimeSlotService candidateService,
+      CandidateMatchService candidateMatchService, IdempotencyService idempotencyService) {
     this.candidateService = candidateService;
+    this.candidateMatchService = candidateMatchService;
+    this.idempotencyService = idempotencyService;
   }
 
   /**
    * Create time slot for Candidate.
    *
    * @param timeSlotRequest request body of time slot
+   * @param idempotencyKey key of request, retry with same key returns already saved slot
    * @return response entity for candidate`s time slot and Http.Status.Created
    */
   @JsonView({Views.Public.class})
   @PostMapping("current/slots")
   @PreAuthorize("hasAuthority('CANDIDATE')")
   public ResponseEntity<CandidateTimeSlot> createSlot(
-      @RequestBody CandidateTimeSlot timeSlotRequest) throws RuntimeException {
+      @RequestBody CandidateTimeSlot timeSlotRequest,
+      @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey)
+      throws RuntimeException {
     SimpleUserPrincipal principal = (SimpleUserPrincipal) SecurityContextHolder.getContext()
             .getAuthentication().getPrincipal();
-    CandidateTimeSlot timeSlotResponse = candidateService.createSlot(principal.getEmail(),
-        timeSlotRequest.getDate(),
-        timeSlotRequest.getFrom(), timeSlotRequest.getTo());
+    CandidateTimeSlot timeSlotResponse = idempotencyService.execute(
+        "POST /candidates/current/slots " + principal.getEmail(), idempotencyKey,
+        timeSlotRequest, () -> candidateService.createSlot(principal.getEmail(),
+            timeSlotRequest.getDate(),
+            timeSlotRequest.getFrom(), timeSlotRequest.getTo()));
     return new ResponseEntity<>(timeSlotResponse, HttpStatus.CREATED);
   }
 
@@ -92,4 +119,17 @@ public class CandidateController {
     LOGGER.info("Updated candidate time slot with id " + id);
     return new ResponseEntity<>(candidateService.updateSlot(id, candidateTimeSlot), HttpStatus.OK);
   }
-}
\ No newline at end of file
+
+  /**
+   * Get free time of interviewers where interview with candidate fits.
+   *
+   * @param id id of candidate time slot
+   * @return response entity for free ranges of interviewer slots and Http.Status.OK
+   */
+  @GetMapping("/slots/{slotId}/matches")
+  @PreAuthorize("hasAuthority('COORDINATOR')")
+  public ResponseEntity<List<CandidateSlotMatchDto>> getMatches(
+      @PathVariable("slotId") final long id) {
+    return new ResponseEntity<>(candidateMatchService.getMatches(id), HttpStatus.OK);
+  }
+}
@@ -1,12 +1,28 @@
 package com.intellias.intellistart.interviewplanning.controller;
 
+import com.intellias.intellistart.interviewplanning.model.InterviewDayOfWeek;
+import com.intellias.intellistart.interviewplanning.service.DashboardCacheService.DashboardSnapshot;
+import com.intellias.intellistart.interviewplanning.service.DashboardEventService;
+import com.intellias.intellistart.interviewplanning.service.DashboardRangeService;
 import com.intellias.intellistart.interviewplanning.service.DashboardService;
+import com.intellias.intellistart.interviewplanning.service.DashboardService.SerializedDashboard;
+import com.intellias.intellistart.interviewplanning.service.dto.CompactDashboardDto;
+import com.intellias.intellistart.interviewplanning.service.dto.DashboardChangesDto;
 import com.intellias.intellistart.interviewplanning.service.dto.DashboardDto;
+import com.intellias.intellistart.interviewplanning.service.dto.DashboardFilterDto;
+import com.intellias.intellistart.interviewplanning.service.dto.DashboardPageDto;
+import com.intellias.intellistart.interviewplanning.service.dto.DashboardRangeDto;
 import lombok.AllArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 /**
  * Rest Controller for Dashboard.
@@ -17,11 +33,113 @@ import org.springframework.web.bind.annotation.RestController;
 public class DashboardController {
 
   private DashboardService dashboardService;
+  private DashboardEventService dashboardEventService;
+  private DashboardRangeService dashboardRangeService;
 
+  /**
+   * Get dashboard of week. Dashboard is tagged with its version, so client can send it back in
+   * If-None-Match header and get 304 Not Modified without body while week is unchanged.
+   * Dashboard is sent as JSON serialized once per its version.
+   *
+   * @param weekNum for which to get dashboard
+   * @param request to check If-None-Match header against current version
+   * @return dashboard with ETag header or 304 Not Modified
+   */
   @GetMapping("/weeks/{weekNum}/dashboard")
   @PreAuthorize("hasAuthority('COORDINATOR')")
-  public DashboardDto getDashboard(
-      @PathVariable int weekNum) {
-    return dashboardService.getDashboard(weekNum);
+  public ResponseEntity<byte[]> getDashboard(
+      @PathVariable int weekNum, WebRequest request) {
+    if (request.checkNotModified(toEtag(dashboardService.getDashboardVersion(weekNum)))) {
+      return null;
+    }
+    SerializedDashboard dashboard = dashboardService.getSerializedDashboard(weekNum);
+    return ResponseEntity.ok()
+        .contentType(MediaType.APPLICATION_JSON)
+        .eTag(toEtag(dashboard.getVersion()))
+        .body(dashboard.getJson());
+  }
+
+  /**
+   * Get compact dashboard of week, tagged with its version same as full dashboard.
+   * Booking descriptions are fetched separately.
+   *
+   * @param weekNum for which to get dashboard
+   * @param request to check If-None-Match header against current version
+   * @return compact dashboard with ETag header or 304 Not Modified
+   */
+  @GetMapping("/weeks/{weekNum}/dashboard/compact")
+  @PreAuthorize("hasAuthority('COORDINATOR')")
+  public ResponseEntity<CompactDashboardDto> getCompactDashboard(
+      @PathVariable int weekNum, WebRequest request) {
+    if (request.checkNotModified(toEtag(dashboardService.getDashboardVersion(weekNum)))) {
+      return null;
+    }
+    DashboardSnapshot snapshot = dashboardService.getDashboardSnapshot(weekNum);
+    return ResponseEntity.ok()
+        .eTag(toEtag(snapshot.getVersion()))
+        .body(DashboardService.toCompactDashboard(snapshot.getDashboard()));
+  }
+
+  @GetMapping("/weeks/{weekNum}/dashboard/changes")
+  @PreAuthorize("hasAuthority('COORDINATOR')")
+  public DashboardChangesDto getDashboardChanges(
+      @PathVariable int weekNum, @RequestParam long since) {
+    return dashboardService.getDashboardChanges(weekNum, since);
+  }
+
+  /**
+   * Get page of week dashboard filtered by interviewer email, day and presence of bookings.
+   *
+   * @param weekNum for which to get dashboard
+   * @param email   of interviewer
+   * @param day     of week, e.g. Mon
+   * @param booked  true for slots with bookings, false for free slots
+   * @param cursor  next cursor of previous page
+   * @param limit   max number of interviewer slots on page
+   * @return page of dashboard
+   */
+  @GetMapping("/weeks/{weekNum}/dashboard/page")
+  @PreAuthorize("hasAuthority('COORDINATOR')")
+  public DashboardPageDto getDashboardPage(@PathVariable int weekNum,
+      @RequestParam(required = false) String email,
+      @RequestParam(required = false) String day,
+      @RequestParam(required = false) Boolean booked,
+      @RequestParam(required = false) Long cursor,
+      @RequestParam(defaultValue = "50") int limit) {
+    DashboardFilterDto filter = DashboardFilterDto.builder()
+        .email(email)
+        .dayOfWeek(day != null ? InterviewDayOfWeek.forValue(day) : null)
+        .booked(booked)
+        .build();
+    return dashboardService.getDashboardPage(weekNum, filter, cursor, limit);
+  }
+
+  @GetMapping("/dashboard")
+  @PreAuthorize("hasAuthority('COORDINATOR')")
+  public DashboardRangeDto getDashboards(
+      @RequestParam int fromWeek, @RequestParam int toWeek) {
+    return dashboardRangeService.getDashboards(fromWeek, toWeek);
+  }
+
+  /**
+   * Subscribe to server-sent events with changes of week dashboard. Each event has dashboard
+   * version as id, so reconnecting client continues from Last-Event-ID.
+   *
+   * @param weekNum     for which to send changes
+   * @param since       version of dashboard client already has, whole dashboard is sent if absent
+   * @param lastEventId version of last event received before reconnect
+   * @return emitter of change events
+   */
+  @GetMapping(path = "/weeks/{weekNum}/dashboard/events",
+      produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  @PreAuthorize("hasAuthority('COORDINATOR')")
+  public SseEmitter subscribeToDashboardChanges(@PathVariable int weekNum,
+      @RequestParam(required = false) Long since,
+      @RequestHeader(name = "Last-Event-ID", required = false) Long lastEventId) {
+    return dashboardEventService.subscribe(weekNum, lastEventId != null ? lastEventId : since);
+  }
+
+  private static String toEtag(long version) {
+    return "\"" + version + "\"";
   }
 }
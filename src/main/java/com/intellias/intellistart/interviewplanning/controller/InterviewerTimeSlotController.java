@@ -1,13 +1,24 @@
 package com.intellias.intellistart.interviewplanning.controller;
 
+import static com.intellias.intellistart.interviewplanning.service.IdempotencyService.IDEMPOTENCY_KEY_HEADER;
+
 import com.intellias.intellistart.interviewplanning.model.BookingLimit;
+import com.intellias.intellistart.interviewplanning.model.slot.InterviewerSlotTemplate;
 import com.intellias.intellistart.interviewplanning.model.slot.InterviewerTimeSlot;
 import com.intellias.intellistart.interviewplanning.security.SecurityUtil;
+import com.intellias.intellistart.interviewplanning.service.AvailabilityService;
+import com.intellias.intellistart.interviewplanning.service.IdempotencyService;
+import com.intellias.intellistart.interviewplanning.service.InterviewerSlotTemplateService;
 import com.intellias.intellistart.interviewplanning.service.InterviewerTimeSlotService;
+import com.intellias.intellistart.interviewplanning.service.dto.AvailableInterviewerDto;
 import com.intellias.intellistart.interviewplanning.service.dto.InterviewerTimeSlotDto;
 import com.intellias.intellistart.interviewplanning.service.dto.InterviewerTimeSlotRequestForm;
+import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.List;
 import lombok.AllArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DateTimeFormat.ISO;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -15,6 +26,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
@@ -27,20 +39,69 @@ import org.springframework.web.bind.annotation.RestController;
 public class InterviewerTimeSlotController {
 
   private InterviewerTimeSlotService interviewerTimeSlotService;
+  private IdempotencyService idempotencyService;
+  private InterviewerSlotTemplateService slotTemplateService;
+  private AvailabilityService availabilityService;
 
   /**
    * Endpoint to create time slot for Interviewer.
    *
    * @param interviewerTimeSlot request body of time slot
+   * @param idempotencyKey      key of request, retry with same key returns already saved slot
    * @return saved interviewer time slot
    */
   @PostMapping("/interviewers/slots")
   @PreAuthorize("hasAuthority('INTERVIEWER')")
   @ResponseStatus(HttpStatus.CREATED)
   public InterviewerTimeSlot createSlot(
-      @RequestBody InterviewerTimeSlot interviewerTimeSlot) {
-    return interviewerTimeSlotService.createSlot(SecurityUtil.getCurrentPrincipal().getEmail(),
-        interviewerTimeSlot);
+      @RequestBody InterviewerTimeSlot interviewerTimeSlot,
+      @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
+    String email = SecurityUtil.getCurrentPrincipal().getEmail();
+    return idempotencyService.execute("POST /interviewers/slots " + email, idempotencyKey,
+        interviewerTimeSlot, () -> interviewerTimeSlotService.createSlot(email,
+            interviewerTimeSlot));
+  }
+
+  /**
+   * Endpoint to copy all time slots of Interviewer from one week to next week.
+   *
+   * @param fromWeek week number from which copy slots
+   * @param toWeek   week number to which copy slots
+   * @return created interviewer time slots
+   */
+  @PostMapping("/interviewers/slots/copy")
+  @PreAuthorize("hasAuthority('INTERVIEWER')")
+  @ResponseStatus(HttpStatus.CREATED)
+  public List<InterviewerTimeSlot> copySlots(@RequestParam int fromWeek,
+      @RequestParam int toWeek) {
+    return interviewerTimeSlotService.copySlots(SecurityUtil.getCurrentPrincipal().getEmail(),
+        fromWeek, toWeek);
+  }
+
+  /**
+   * Endpoint to create recurring time slot template for Interviewer. Slots of template
+   * are created when week is read for the first time.
+   *
+   * @param template request body of template
+   * @return saved template
+   */
+  @PostMapping("/interviewers/templates")
+  @PreAuthorize("hasAuthority('INTERVIEWER')")
+  @ResponseStatus(HttpStatus.CREATED)
+  public InterviewerSlotTemplate createTemplate(@RequestBody InterviewerSlotTemplate template) {
+    return slotTemplateService.createTemplate(SecurityUtil.getCurrentPrincipal().getEmail(),
+        template);
+  }
+
+  /**
+   * Endpoint to get recurring time slot templates of Interviewer.
+   *
+   * @return interviewer time slot templates
+   */
+  @GetMapping("/interviewers/templates")
+  @PreAuthorize("hasAuthority('INTERVIEWER')")
+  public List<InterviewerSlotTemplate> getTemplates() {
+    return slotTemplateService.getTemplates(SecurityUtil.getCurrentPrincipal().getEmail());
   }
 
   /**
@@ -89,6 +150,21 @@ public class InterviewerTimeSlotController {
         weekNum);
   }
 
+  /**
+   * Endpoint to get interviewers who are free for interview starting at given time.
+   *
+   * @param date date of interview in current or next week, e.g. 2022-10-24
+   * @param from start of interview, e.g. 10:30
+   * @return free interviewer slots sorted by interviewer email
+   */
+  @GetMapping("/interviewers/availability")
+  @PreAuthorize("hasAuthority('COORDINATOR')")
+  public List<AvailableInterviewerDto> getAvailableInterviewers(
+      @RequestParam @DateTimeFormat(iso = ISO.DATE) LocalDate date,
+      @RequestParam @DateTimeFormat(pattern = "HH:mm") LocalTime from) {
+    return availabilityService.getAvailableInterviewers(date, from);
+  }
+
   /**
    * Endpoint to set booking limit Interviewer.
    *
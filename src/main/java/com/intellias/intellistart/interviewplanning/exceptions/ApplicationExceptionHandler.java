@@ -20,12 +20,12 @@ public class ApplicationExceptionHandler {
   private static final String INTERVIEWER_NOT_FOUND = "interviewer_not_found";
   private static final String USER_NOT_FOUND = "user_not_found";
   private static final String SLOT_IS_OVERLAPPING = "slot_is_overlapping";
-  private static final String BOOKING_IS_OVERLAPPING = "booking_is_overlapping";
+  public static final String BOOKING_IS_OVERLAPPING = "booking_is_overlapping";
   public static final String MAX_COUNT_OF_BOOKING = "max_count_of_booking";
   public static final String INVALID_BOUNDARIES = "invalid_boundaries";
   public static final String SUBJECT_DESCRIPTION_NOT_VALID = "subject_or_description_not_valid";
   private static final String INVALID_DAY_OF_WEEK = "invalid_day_of_week";
-  private static final String SLOT_NOT_FOUND = "slot_not_found";
+  public static final String SLOT_NOT_FOUND = "slot_not_found";
   private static final String WEEK_NUMBER_NOT_ACCEPTABLE = "week_number_not_acceptable";
   private static final String USER_ALREADY_EXIST = "user_already_exist";
   public static final String EMAIL_NOT_VALID = "email_not_valid";
@@ -33,6 +33,12 @@ public class ApplicationExceptionHandler {
   private static final String INVALID_ACCESS_TOKEN = "invalid_access_token";
 
   private static final String BOOKING_NOT_FOUND = "booking_not_found";
+  public static final String INVALID_WEEK_RANGE = "invalid_week_range";
+  public static final String INVALID_DATE_RANGE = "invalid_date_range";
+  public static final String IDEMPOTENCY_KEY_REUSED = "idempotency_key_reused";
+  public static final String BOOKING_REQUEST_FAILED = "booking_request_failed";
+  private static final String BOOKING_REQUEST_NOT_FOUND = "booking_request_not_found";
+  private static final String BOOKING_QUEUE_IS_FULL = "booking_queue_is_full";
 
   @ResponseBody
   @ResponseStatus(value = HttpStatus.CONFLICT)
@@ -68,6 +74,26 @@ public class ApplicationExceptionHandler {
     return new ErrorResponse(BOOKING_NOT_FOUND, "booking was not found");
   }
 
+  /**
+   * Exception handler for BookingRequestNotFoundException.
+   */
+  @ResponseBody
+  @ResponseStatus(value = HttpStatus.NOT_FOUND)
+  @ExceptionHandler(BookingRequestNotFoundException.class)
+  public ErrorResponse handleBookingRequestNotFoundException() {
+    return new ErrorResponse(BOOKING_REQUEST_NOT_FOUND, "booking request was not found");
+  }
+
+  /**
+   * Exception handler for BookingQueueIsFullException.
+   */
+  @ResponseBody
+  @ResponseStatus(value = HttpStatus.SERVICE_UNAVAILABLE)
+  @ExceptionHandler(BookingQueueIsFullException.class)
+  public ErrorResponse handleBookingQueueIsFullException() {
+    return new ErrorResponse(BOOKING_QUEUE_IS_FULL,
+        "too many booking requests for interviewer, try again later");
+  }
 
   /**
    * Exception handler for UserNotFoundException.
@@ -0,0 +1,8 @@
+package com.intellias.intellistart.interviewplanning.exceptions;
+
+/**
+ * Exception for booking request which cannot be queued because queue of interviewer is full.
+ */
+public class BookingQueueIsFullException extends RuntimeException {
+
+}
@@ -0,0 +1,8 @@
+package com.intellias.intellistart.interviewplanning.exceptions;
+
+/**
+ * Exception for booking request not found.
+ */
+public class BookingRequestNotFoundException extends RuntimeException {
+
+}
@@ -11,4 +11,8 @@ public class WeekNumberNotAcceptableException extends RuntimeException {
   public WeekNumberNotAcceptableException(List<Integer> weeksNumbers) {
     super("Possible weeks numbers is: " + weeksNumbers);
   }
+
+  public WeekNumberNotAcceptableException(int minWeekNumber, int maxWeekNumber) {
+    super("Possible weeks numbers is from " + minWeekNumber + " to " + maxWeekNumber);
+  }
 }
@@ -0,0 +1,38 @@
+package com.intellias.intellistart.interviewplanning.model;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Booking Counter entity for number of bookings of interviewer in week.
+ */
+@Entity(name = "booking_counter")
+@Table(uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "week_number"}))
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class BookingCounter {
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @ManyToOne
+  private User user;
+
+  @Column(name = "week_number")
+  private int weekNum;
+
+  @Column(name = "bookings")
+  private int bookings;
+}
@@ -14,7 +14,9 @@ import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.OneToMany;
+import javax.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -26,6 +28,7 @@ import lombok.NoArgsConstructor;
  * CandidateTimeSlot entity for Spring JPA.
  */
 @Entity
+@Table(indexes = {@Index(columnList = "email"), @Index(columnList = "date")})
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
@@ -0,0 +1,68 @@
+package com.intellias.intellistart.interviewplanning.model.slot;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.intellias.intellistart.interviewplanning.model.InterviewDayOfWeek;
+import com.intellias.intellistart.interviewplanning.model.User;
+import java.time.LocalTime;
+import java.util.Set;
+import javax.persistence.CollectionTable;
+import javax.persistence.Column;
+import javax.persistence.ElementCollection;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.JoinColumn;
+import javax.persistence.ManyToOne;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * InterviewerSlotTemplate entity for Spring JPA. It is recurring time slot of interviewer
+ * which is valid from one week to another, or to any later week if toWeek is null.
+ * Weeks of validity and weeks for which slot of template is already created are kept
+ * together with their year, as year * 100 + week number, so template stays valid after
+ * the end of year.
+ */
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(Include.NON_EMPTY)
+public class InterviewerSlotTemplate {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+  @JsonFormat(pattern = "HH:mm")
+  @Column(name = "\"from\"")
+  private LocalTime from;
+  @JsonFormat(pattern = "HH:mm")
+  @Column(name = "\"to\"")
+  private LocalTime to;
+  @Enumerated(EnumType.STRING)
+  private InterviewDayOfWeek dayOfWeek;
+  private Integer fromWeek;
+  private Integer toWeek;
+  @JsonIgnore
+  private Integer fromYearWeek;
+  @JsonIgnore
+  private Integer toYearWeek;
+  @ManyToOne
+  @JsonIgnore
+  private User user;
+  @ElementCollection
+  @CollectionTable(name = "interviewer_slot_template_week",
+      joinColumns = @JoinColumn(name = "template_id"))
+  @Column(name = "year_week")
+  @JsonIgnore
+  private Set<Integer> materializedWeeks;
+}
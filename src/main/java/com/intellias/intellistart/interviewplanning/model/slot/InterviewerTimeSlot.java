@@ -17,8 +17,10 @@ import javax.persistence.Enumerated;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToMany;
+import javax.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -28,6 +30,7 @@ import lombok.NoArgsConstructor;
  * InterviewerTimeSlot entity for Spring JPA.
  */
 @Entity
+@Table(indexes = @Index(columnList = "user_id, weekNum, dayOfWeek"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
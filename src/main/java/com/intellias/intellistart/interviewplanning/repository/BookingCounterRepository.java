@@ -0,0 +1,52 @@
+package com.intellias.intellistart.interviewplanning.repository;
+
+import com.intellias.intellistart.interviewplanning.model.BookingCounter;
+import com.intellias.intellistart.interviewplanning.model.User;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Its repository for BookingCounter entity.
+ */
+@Repository
+public interface BookingCounterRepository extends JpaRepository<BookingCounter, Long> {
+
+  Optional<BookingCounter> findByUserAndWeekNum(User user, int weekNum);
+
+  boolean existsByUserAndWeekNum(User user, int weekNum);
+
+  List<BookingCounter> findAllByUserInAndWeekNum(Collection<User> users, int weekNum);
+
+  @Modifying
+  @Query("update booking_counter counter set counter.bookings = counter.bookings + :delta"
+      + " where counter.user = :user and counter.weekNum = :weekNum")
+  int addBookings(@Param("user") User user, @Param("weekNum") int weekNum,
+      @Param("delta") int delta);
+
+  /**
+   * Create missing counters of interviewers in week from their bookings visible to current
+   * transaction, in one statement. Counter which already exists, e.g. created by concurrent
+   * transaction meanwhile, is changed by delta instead, since its count does not include
+   * change of current transaction.
+   */
+  @Modifying
+  @Query(nativeQuery = true, value = "insert into booking_counter"
+      + " (user_id, week_number, bookings)"
+      + " select interviewer.id, :weekNum, (select count(booking.id) from booking"
+      + " join interviewer_time_slot slot on slot.id = booking.interviewer_time_slot_id"
+      + " where slot.user_id = interviewer.id and slot.week_num = :weekNum)"
+      + " from user interviewer where interviewer.id in :userIds"
+      + " on duplicate key update bookings = bookings + :delta")
+  int createCounters(@Param("userIds") Collection<Long> userIds,
+      @Param("weekNum") int weekNum, @Param("delta") int delta);
+
+  @Modifying
+  @Query("delete from booking_counter counter where counter.user = :user")
+  int deleteAllByUser(@Param("user") User user);
+}
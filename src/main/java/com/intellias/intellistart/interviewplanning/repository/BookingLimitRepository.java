@@ -2,8 +2,13 @@ package com.intellias.intellistart.interviewplanning.repository;
 
 import com.intellias.intellistart.interviewplanning.model.BookingLimit;
 import com.intellias.intellistart.interviewplanning.model.User;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -14,7 +19,11 @@ import org.springframework.stereotype.Repository;
 public interface BookingLimitRepository extends JpaRepository<BookingLimit, Long> {
   Optional<BookingLimit> findByUser(User user);
 
-  void deleteByUser(User user);
+  List<BookingLimit> findAllByUserIn(Collection<User> users);
+
+  @Modifying
+  @Query("delete from booking_limit bookingLimit where bookingLimit.user = :user")
+  int deleteByUser(@Param("user") User user);
 
   Optional<BookingLimit> findByUserAndWeekNum(User user, int weekNum);
 }
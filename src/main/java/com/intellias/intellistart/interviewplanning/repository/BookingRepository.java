@@ -2,17 +2,73 @@ package com.intellias.intellistart.interviewplanning.repository;
 
 import com.intellias.intellistart.interviewplanning.model.Booking;
 import com.intellias.intellistart.interviewplanning.model.User;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
  * Its repository for Booking entity.
  */
 @Repository
-public interface BookingRepository extends JpaRepository<Booking, Long> {
+public interface BookingRepository extends JpaRepository<Booking, Long>,
+    BookingSearchRepository {
 
-  void deleteAllByInterviewerTimeSlot_User(User user);
+  @Query("select booking.id from Booking booking where booking.interviewerTimeSlot.user = :user")
+  List<Long> findIdsByInterviewer(@Param("user") User user, Pageable pageable);
 
-  List<Booking> findAllByInterviewerTimeSlotUser(User user);
+  long countByInterviewerTimeSlotId(Long interviewerTimeSlotId);
+
+  @Query("select booking.interviewerTimeSlot.user.id from Booking booking"
+      + " where booking.id = :id")
+  Optional<Long> findInterviewerIdById(@Param("id") Long id);
+
+  @Modifying
+  @Query("delete from Booking booking where booking.id in :ids")
+  int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
+
+  @Query("select booking.id as id, booking.description as description from Booking booking"
+      + " where booking.id in :ids")
+  List<BookingDescription> findDescriptionsByIdIn(@Param("ids") Collection<Long> ids);
+
+  /**
+   * Projection with description of booking.
+   */
+  interface BookingDescription {
+
+    Long getId();
+
+    String getDescription();
+  }
+
+  /**
+   * Projection with booking details shown in search, without description.
+   */
+  interface BookingSummary {
+
+    Long getId();
+
+    Long getInterviewerTimeSlotId();
+
+    Long getCandidateTimeSlotId();
+
+    String getInterviewerEmail();
+
+    String getCandidateEmail();
+
+    LocalDate getDate();
+
+    LocalTime getStartTime();
+
+    LocalTime getEndTime();
+
+    String getSubject();
+  }
 }
@@ -0,0 +1,29 @@
+package com.intellias.intellistart.interviewplanning.repository;
+
+import com.intellias.intellistart.interviewplanning.repository.BookingRepository.BookingSummary;
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Its repository fragment for search of bookings. Only given filters are added to query,
+ * so each of them is plain condition which can use index.
+ */
+public interface BookingSearchRepository {
+
+  /**
+   * Find bookings matching filters, ordered by id and starting after given id.
+   * Null filter or afterId is not applied.
+   *
+   * @param interviewerEmail email of interviewer
+   * @param candidateEmail   email of candidate
+   * @param fromDate         first date of candidate slot
+   * @param toDate           last date of candidate slot
+   * @param weekNum          week of interviewer slot
+   * @param afterId          id of last booking of previous page
+   * @param pageable         page of bookings
+   * @return bookings without description
+   */
+  List<BookingSummary> findSummariesByFilter(String interviewerEmail, String candidateEmail,
+      LocalDate fromDate, LocalDate toDate, Integer weekNum, Long afterId, Pageable pageable);
+}
@@ -0,0 +1,96 @@
+package com.intellias.intellistart.interviewplanning.repository;
+
+import com.intellias.intellistart.interviewplanning.model.Booking;
+import com.intellias.intellistart.interviewplanning.model.User;
+import com.intellias.intellistart.interviewplanning.model.slot.CandidateTimeSlot;
+import com.intellias.intellistart.interviewplanning.model.slot.InterviewerTimeSlot;
+import com.intellias.intellistart.interviewplanning.repository.BookingRepository.BookingSummary;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.Tuple;
+import javax.persistence.TupleElement;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Join;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+
+/**
+ * Search of bookings by criteria query built from given filters.
+ */
+public class BookingSearchRepositoryImpl implements BookingSearchRepository {
+
+  private final ProjectionFactory projectionFactory = new SpelAwareProxyProjectionFactory();
+
+  @PersistenceContext
+  private EntityManager entityManager;
+
+  @Override
+  public List<BookingSummary> findSummariesByFilter(String interviewerEmail,
+      String candidateEmail, LocalDate fromDate, LocalDate toDate, Integer weekNum,
+      Long afterId, Pageable pageable) {
+    CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+    CriteriaQuery<Tuple> query = builder.createTupleQuery();
+    Root<Booking> booking = query.from(Booking.class);
+    Join<Booking, InterviewerTimeSlot> slot = booking.join("interviewerTimeSlot");
+    Join<InterviewerTimeSlot, User> interviewer = slot.join("user");
+    Join<Booking, CandidateTimeSlot> candidateSlot = booking.join("candidateTimeSlot");
+
+    List<Predicate> predicates = new ArrayList<>();
+    if (interviewerEmail != null) {
+      predicates.add(builder.equal(interviewer.get("email"), interviewerEmail));
+    }
+    if (candidateEmail != null) {
+      predicates.add(builder.equal(candidateSlot.get("email"), candidateEmail));
+    }
+    if (fromDate != null) {
+      predicates.add(builder.greaterThanOrEqualTo(candidateSlot.<LocalDate>get("date"), fromDate));
+    }
+    if (toDate != null) {
+      predicates.add(builder.lessThanOrEqualTo(candidateSlot.<LocalDate>get("date"), toDate));
+    }
+    if (weekNum != null) {
+      predicates.add(builder.equal(slot.get("weekNum"), weekNum));
+    }
+    if (afterId != null) {
+      predicates.add(builder.greaterThan(booking.<Long>get("id"), afterId));
+    }
+
+    query.multiselect(
+            booking.get("id").alias("id"),
+            slot.get("id").alias("interviewerTimeSlotId"),
+            candidateSlot.get("id").alias("candidateTimeSlotId"),
+            interviewer.get("email").alias("interviewerEmail"),
+            candidateSlot.get("email").alias("candidateEmail"),
+            candidateSlot.get("date").alias("date"),
+            booking.get("startTime").alias("startTime"),
+            booking.get("endTime").alias("endTime"),
+            booking.get("subject").alias("subject"))
+        .where(predicates.toArray(new Predicate[0]))
+        .orderBy(builder.asc(booking.get("id")));
+
+    return entityManager.createQuery(query)
+        .setFirstResult((int) pageable.getOffset())
+        .setMaxResults(pageable.getPageSize())
+        .getResultList().stream()
+        .map(tuple -> projectionFactory.createProjection(BookingSummary.class, toMap(tuple)))
+        .collect(Collectors.toList());
+  }
+
+  private static Map<String, Object> toMap(Tuple tuple) {
+    Map<String, Object> values = new HashMap<>();
+    for (TupleElement<?> element : tuple.getElements()) {
+      values.put(element.getAlias(), tuple.get(element));
+    }
+    return values;
+  }
+}
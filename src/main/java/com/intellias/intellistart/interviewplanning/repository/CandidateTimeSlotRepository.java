@@ -2,8 +2,11 @@ package com.intellias.intellistart.interviewplanning.repository;
 
 import com.intellias.intellistart.interviewplanning.model.slot.CandidateTimeSlot;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -17,7 +20,44 @@ public interface CandidateTimeSlotRepository extends JpaRepository<CandidateTime
 
   List<CandidateTimeSlot> findByEmail(String candidateEmail);
 
-  List<CandidateTimeSlot> findAllByDateBetween(LocalDate startDate, LocalDate endDate);
+  /**
+   * Find all slots between dates together with their bookings and interviewer slots
+   * of bookings in one query.
+   */
+  @Query("select distinct slot from CandidateTimeSlot slot"
+      + " left join fetch slot.bookings booking"
+      + " left join fetch booking.interviewerTimeSlot interviewerSlot"
+      + " left join fetch interviewerSlot.user"
+      + " where slot.date between :startDate and :endDate")
+  List<CandidateTimeSlot> findAllWithBookingsByDateBetween(
+      @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+  /**
+   * Find slots between dates with or without bookings, together with their bookings and
+   * interviewer slots of bookings in one query. Null booked is not applied.
+   */
+  @Query("select distinct slot from CandidateTimeSlot slot"
+      + " left join fetch slot.bookings booking"
+      + " left join fetch booking.interviewerTimeSlot interviewerSlot"
+      + " left join fetch interviewerSlot.user"
+      + " where slot.date between :startDate and :endDate"
+      + " and (:booked is null"
+      + " or (:booked = true and slot.bookings is not empty)"
+      + " or (:booked = false and slot.bookings is empty))")
+  List<CandidateTimeSlot> findAllWithBookingsByDateBetweenAndBooked(
+      @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate,
+      @Param("booked") Boolean booked);
+
+  /**
+   * Find slots by ids together with their bookings and interviewer slots of bookings
+   * in one query.
+   */
+  @Query("select distinct slot from CandidateTimeSlot slot"
+      + " left join fetch slot.bookings booking"
+      + " left join fetch booking.interviewerTimeSlot interviewerSlot"
+      + " left join fetch interviewerSlot.user"
+      + " where slot.id in :ids")
+  List<CandidateTimeSlot> findAllWithBookingsByIdIn(@Param("ids") Collection<Long> ids);
 
   List<CandidateTimeSlot> findByDateAndEmail(LocalDate date, String candidateEmail);
 }
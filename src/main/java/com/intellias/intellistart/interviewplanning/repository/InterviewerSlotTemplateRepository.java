@@ -0,0 +1,72 @@
+package com.intellias.intellistart.interviewplanning.repository;
+
+import com.intellias.intellistart.interviewplanning.model.User;
+import com.intellias.intellistart.interviewplanning.model.slot.InterviewerSlotTemplate;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Its repository for InterviewerSlotTemplate entity.
+ */
+@Repository
+public interface InterviewerSlotTemplateRepository
+    extends JpaRepository<InterviewerSlotTemplate, Long> {
+
+  List<InterviewerSlotTemplate> findAllByUserOrderById(User user);
+
+  @Query("select count(template) from InterviewerSlotTemplate template"
+      + " where template.fromYearWeek <= :yearWeek"
+      + " and (template.toYearWeek is null or template.toYearWeek >= :yearWeek)"
+      + " and :yearWeek not member of template.materializedWeeks")
+  long countNotMaterializedByYearWeek(@Param("yearWeek") int yearWeek);
+
+  /**
+   * Create slots of week for all templates valid in week which are not materialized for it yet,
+   * in one statement. Week is identified by its number and by its number qualified with year.
+   * Slots of template which overlap slot of interviewer on same day, including slot with same
+   * day and time, are not created, and slots which week already has are kept as they are.
+   */
+  @Modifying
+  @Query(nativeQuery = true, value = "insert into interviewer_time_slot"
+      + " (`from`, `to`, day_of_week, week_num, status, user_id)"
+      + " select template.`from`, template.`to`, template.day_of_week, :weekNum, :status,"
+      + " template.user_id"
+      + " from interviewer_slot_template template"
+      + " where template.from_year_week <= :yearWeek"
+      + " and (template.to_year_week is null or template.to_year_week >= :yearWeek)"
+      + " and not exists (select week.template_id from interviewer_slot_template_week week"
+      + " where week.template_id = template.id and week.year_week = :yearWeek)"
+      + " and not exists (select existing.id from interviewer_time_slot existing"
+      + " where existing.user_id = template.user_id and existing.week_num = :weekNum"
+      + " and existing.day_of_week = template.day_of_week"
+      + " and existing.`from` < template.`to` and existing.`to` > template.`from`)")
+  int materializeAllByWeekNum(@Param("weekNum") int weekNum, @Param("yearWeek") int yearWeek,
+      @Param("status") String status);
+
+  /**
+   * Mark all templates valid in week as materialized for it in one statement.
+   */
+  @Modifying
+  @Query(nativeQuery = true, value = "insert into interviewer_slot_template_week"
+      + " (template_id, year_week)"
+      + " select template.id, :yearWeek from interviewer_slot_template template"
+      + " where template.from_year_week <= :yearWeek"
+      + " and (template.to_year_week is null or template.to_year_week >= :yearWeek)"
+      + " and not exists (select week.template_id from interviewer_slot_template_week week"
+      + " where week.template_id = template.id and week.year_week = :yearWeek)")
+  int markAllMaterializedByYearWeek(@Param("yearWeek") int yearWeek);
+
+  @Modifying
+  @Query(nativeQuery = true, value = "delete from interviewer_slot_template_week"
+      + " where template_id in (select template.id from interviewer_slot_template template"
+      + " where template.user_id = :userId)")
+  int deleteAllMaterializedWeeksByUserId(@Param("userId") Long userId);
+
+  @Modifying
+  @Query("delete from InterviewerSlotTemplate template where template.user = :user")
+  int deleteAllByUser(@Param("user") User user);
+}
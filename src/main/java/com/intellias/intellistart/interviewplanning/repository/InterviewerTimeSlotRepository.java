@@ -1,23 +1,132 @@
 package com.intellias.intellistart.interviewplanning.repository;
 
+import com.intellias.intellistart.interviewplanning.model.InterviewDayOfWeek;
 import com.intellias.intellistart.interviewplanning.model.User;
 import com.intellias.intellistart.interviewplanning.model.slot.InterviewerTimeSlot;
+import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
  * Its repository for InterviewTimeSlot entity.
  */
 @Repository
-public interface InterviewerTimeSlotRepository extends JpaRepository<InterviewerTimeSlot, Long> {
+public interface InterviewerTimeSlotRepository extends JpaRepository<InterviewerTimeSlot, Long>,
+    InterviewerTimeSlotSearchRepository {
 
   List<InterviewerTimeSlot> findAllByUserAndWeekNum(User user, int weekNum);
 
   Optional<InterviewerTimeSlot> findById(Long id);
 
-  List<InterviewerTimeSlot> findAllByWeekNum(int weekNum);
+  /**
+   * Find id of slot of interviewer which has same day and boundaries as given ones.
+   * Only ids are selected, so page of one id makes it existence check on indexed columns.
+   */
+  @Query("select slot.id from InterviewerTimeSlot slot"
+      + " where slot.user = :user and slot.weekNum = :weekNum and slot.dayOfWeek = :dayOfWeek"
+      + " and slot.from = :from and slot.to = :to")
+  List<Long> findSameSlotIds(@Param("user") User user, @Param("weekNum") int weekNum,
+      @Param("dayOfWeek") InterviewDayOfWeek dayOfWeek, @Param("from") LocalTime from,
+      @Param("to") LocalTime to, Pageable pageable);
 
-  void deleteAllByUser(User user);
+  /**
+   * Find id of other slot of interviewer on same day which has same boundaries as given ones,
+   * or overlaps them, or is closer to them than buffer. Boundaries are passed already
+   * shifted by buffer: fromWithBuffer is from plus buffer and toWithBuffer is to minus buffer.
+   */
+  @Query("select slot.id from InterviewerTimeSlot slot"
+      + " where slot.user = :user and slot.weekNum = :weekNum and slot.dayOfWeek = :dayOfWeek"
+      + " and slot.id <> :slotId"
+      + " and ((slot.from < :fromWithBuffer and slot.to > :from)"
+      + " or (slot.from < :to and slot.to > :toWithBuffer)"
+      + " or (slot.from = :from and slot.to = :to))")
+  List<Long> findOverlappingSlotIds(@Param("user") User user, @Param("weekNum") int weekNum,
+      @Param("dayOfWeek") InterviewDayOfWeek dayOfWeek, @Param("slotId") Long slotId,
+      @Param("from") LocalTime from, @Param("to") LocalTime to,
+      @Param("fromWithBuffer") LocalTime fromWithBuffer,
+      @Param("toWithBuffer") LocalTime toWithBuffer, Pageable pageable);
+
+  /**
+   * Find all slots of week together with their interviewers, bookings and candidate slots
+   * of bookings in one query.
+   */
+  @Query("select distinct slot from InterviewerTimeSlot slot"
+      + " left join fetch slot.user"
+      + " left join fetch slot.bookings booking"
+      + " left join fetch booking.candidateTimeSlot"
+      + " where slot.weekNum = :weekNum")
+  List<InterviewerTimeSlot> findAllWithBookingsByWeekNum(@Param("weekNum") int weekNum);
+
+  /**
+   * Find all slots of several weeks together with their interviewers, bookings and candidate
+   * slots of bookings in one query.
+   */
+  @Query("select distinct slot from InterviewerTimeSlot slot"
+      + " left join fetch slot.user"
+      + " left join fetch slot.bookings booking"
+      + " left join fetch booking.candidateTimeSlot"
+      + " where slot.weekNum in :weekNums")
+  List<InterviewerTimeSlot> findAllWithBookingsByWeekNumIn(
+      @Param("weekNums") Collection<Integer> weekNums);
+
+  /**
+   * Find all slots of day of week together with their interviewers and bookings
+   * in one query.
+   */
+  @Query("select distinct slot from InterviewerTimeSlot slot"
+      + " left join fetch slot.user"
+      + " left join fetch slot.bookings"
+      + " where slot.weekNum = :weekNum and slot.dayOfWeek = :dayOfWeek")
+  List<InterviewerTimeSlot> findAllWithBookingsByWeekNumAndDayOfWeek(
+      @Param("weekNum") int weekNum, @Param("dayOfWeek") InterviewDayOfWeek dayOfWeek);
+
+  /**
+   * Find slots by ids together with their interviewers, bookings and candidate slots
+   * of bookings in one query.
+   */
+  @Query("select distinct slot from InterviewerTimeSlot slot"
+      + " left join fetch slot.user"
+      + " left join fetch slot.bookings booking"
+      + " left join fetch booking.candidateTimeSlot"
+      + " where slot.id in :ids")
+  List<InterviewerTimeSlot> findAllWithBookingsByIdIn(@Param("ids") Collection<Long> ids);
+
+  @Query("select distinct slot.user.id from InterviewerTimeSlot slot where slot.id in :ids")
+  List<Long> findUserIdsByIdIn(@Param("ids") Collection<Long> ids);
+
+  /**
+   * Copy slots of interviewer from one week to another in one statement.
+   * Slots which overlap slot of target week on same day, including slot with same day and
+   * time, are not copied, so copies never break the check of overlapping slots.
+   * It is native query since HQL insert does not accept from/to properties.
+   */
+  @Modifying
+  @Query(nativeQuery = true, value = "insert into interviewer_time_slot"
+      + " (`from`, `to`, day_of_week, week_num, status, user_id)"
+      + " select slot.`from`, slot.`to`, slot.day_of_week, :toWeek, :status, slot.user_id"
+      + " from interviewer_time_slot slot"
+      + " where slot.user_id = :userId and slot.week_num = :fromWeek"
+      + " and not exists (select existing.id from interviewer_time_slot existing"
+      + " where existing.user_id = :userId and existing.week_num = :toWeek"
+      + " and existing.day_of_week = slot.day_of_week"
+      + " and existing.`from` < slot.`to` and existing.`to` > slot.`from`)")
+  int copyAllByUserAndWeekNum(@Param("userId") Long userId, @Param("fromWeek") int fromWeek,
+      @Param("toWeek") int toWeek, @Param("status") String status);
+
+  @Query("select slot.id from InterviewerTimeSlot slot where slot.weekNum = :weekNum")
+  List<Long> findIdsByWeekNum(@Param("weekNum") int weekNum);
+
+  @Query("select slot.id from InterviewerTimeSlot slot where slot.user = :user")
+  List<Long> findIdsByUser(@Param("user") User user, Pageable pageable);
+
+  @Modifying
+  @Query("delete from InterviewerTimeSlot slot where slot.id in :ids")
+  int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
 }
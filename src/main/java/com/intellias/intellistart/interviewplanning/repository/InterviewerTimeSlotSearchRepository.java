@@ -0,0 +1,27 @@
+package com.intellias.intellistart.interviewplanning.repository;
+
+import com.intellias.intellistart.interviewplanning.model.InterviewDayOfWeek;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Its repository fragment for search of interviewer slots. Only given filters are added
+ * to query, so each of them is plain condition which can use index.
+ */
+public interface InterviewerTimeSlotSearchRepository {
+
+  /**
+   * Find ids of slots of week matching filters, ordered by id and starting after given id.
+   * Null filter or afterId is not applied. Booked selects slots with or without bookings.
+   *
+   * @param weekNum   week of slots
+   * @param email     email of interviewer
+   * @param dayOfWeek day of slots
+   * @param booked    whether slots have bookings
+   * @param afterId   id of last slot of previous page
+   * @param pageable  page of slots
+   * @return ids of slots
+   */
+  List<Long> findIdsByWeekNumAndFilter(int weekNum, String email, InterviewDayOfWeek dayOfWeek,
+      Boolean booked, Long afterId, Pageable pageable);
+}
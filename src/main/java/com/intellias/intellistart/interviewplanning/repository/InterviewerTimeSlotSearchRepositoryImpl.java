@@ -0,0 +1,64 @@
+package com.intellias.intellistart.interviewplanning.repository;
+
+import com.intellias.intellistart.interviewplanning.model.Booking;
+import com.intellias.intellistart.interviewplanning.model.InterviewDayOfWeek;
+import com.intellias.intellistart.interviewplanning.model.User;
+import com.intellias.intellistart.interviewplanning.model.slot.InterviewerTimeSlot;
+import java.util.ArrayList;
+import java.util.List;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Join;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Subquery;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Search of interviewer slots by criteria query built from given filters.
+ */
+public class InterviewerTimeSlotSearchRepositoryImpl implements
+    InterviewerTimeSlotSearchRepository {
+
+  @PersistenceContext
+  private EntityManager entityManager;
+
+  @Override
+  public List<Long> findIdsByWeekNumAndFilter(int weekNum, String email,
+      InterviewDayOfWeek dayOfWeek, Boolean booked, Long afterId, Pageable pageable) {
+    CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+    CriteriaQuery<Long> query = builder.createQuery(Long.class);
+    Root<InterviewerTimeSlot> slot = query.from(InterviewerTimeSlot.class);
+
+    List<Predicate> predicates = new ArrayList<>();
+    predicates.add(builder.equal(slot.get("weekNum"), weekNum));
+    if (email != null) {
+      Join<InterviewerTimeSlot, User> interviewer = slot.join("user");
+      predicates.add(builder.equal(interviewer.get("email"), email));
+    }
+    if (dayOfWeek != null) {
+      predicates.add(builder.equal(slot.get("dayOfWeek"), dayOfWeek));
+    }
+    if (booked != null) {
+      Subquery<Long> bookings = query.subquery(Long.class);
+      Root<Booking> booking = bookings.from(Booking.class);
+      bookings.select(booking.get("id"))
+          .where(builder.equal(booking.get("interviewerTimeSlot"), slot));
+      predicates.add(booked ? builder.exists(bookings) : builder.not(builder.exists(bookings)));
+    }
+    if (afterId != null) {
+      predicates.add(builder.greaterThan(slot.<Long>get("id"), afterId));
+    }
+
+    query.select(slot.get("id"))
+        .where(predicates.toArray(new Predicate[0]))
+        .orderBy(builder.asc(slot.get("id")));
+
+    return entityManager.createQuery(query)
+        .setFirstResult((int) pageable.getOffset())
+        .setMaxResults(pageable.getPageSize())
+        .getResultList();
+  }
+}
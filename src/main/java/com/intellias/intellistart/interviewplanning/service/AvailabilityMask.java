@@ -0,0 +1,119 @@
+package com.intellias.intellistart.interviewplanning.service;
+
+import java.time.LocalTime;
+
+/**
+ * Availability of one day as bitmask on grid of 30-minute ticks. Bit i stands for
+ * time from i * 30 minutes after midnight to next tick, so whole day takes 48 bits of long.
+ * Range is set of contiguous bits, and fit, overlap and cover checks of ranges are
+ * few bitwise operations instead of comparisons of boundaries.
+ */
+public final class AvailabilityMask {
+
+  public static final int TICK_MINUTES = 30;
+  public static final long EMPTY = 0L;
+
+  private static final int TICK_SECONDS = TICK_MINUTES * 60;
+
+  private AvailabilityMask() {
+  }
+
+  /**
+   * Check if time is on grid, it is rounded to :00 or :30.
+   *
+   * @param time time to check
+   * @return true if time is on grid
+   */
+  public static boolean isOnGrid(LocalTime time) {
+    return time.getNano() == 0 && time.toSecondOfDay() % TICK_SECONDS == 0;
+  }
+
+  /**
+   * Get tick which time falls into.
+   *
+   * @param time time of day
+   * @return number of tick
+   */
+  public static int toTick(LocalTime time) {
+    return time.toSecondOfDay() / TICK_SECONDS;
+  }
+
+  /**
+   * Create mask of range. Boundaries which are not on grid are widened to ticks they touch,
+   * so range of slot with boundaries on grid covers mask of range only if it covers range.
+   *
+   * @param from start of range
+   * @param to   end of range
+   * @return mask of range, empty if range is empty
+   */
+  public static long of(LocalTime from, LocalTime to) {
+    int toSeconds = to.toSecondOfDay() + (to.getNano() > 0 ? 1 : 0);
+
+    return ofTicks(toTick(from), (toSeconds + TICK_SECONDS - 1) / TICK_SECONDS);
+  }
+
+  /**
+   * Create mask of ticks from start inclusive to end exclusive.
+   *
+   * @param start first tick
+   * @param end   tick after last one
+   * @return mask of ticks, empty if there are no ticks between
+   */
+  public static long ofTicks(int start, int end) {
+    if (end <= start) {
+      return EMPTY;
+    }
+    return (-1L >>> (Long.SIZE - end)) & (-1L << start);
+  }
+
+  /**
+   * Get number of ticks which minutes take, partial tick is counted as whole one.
+   *
+   * @param minutes duration in minutes
+   * @return number of ticks
+   */
+  public static int toTicks(int minutes) {
+    return (minutes + TICK_MINUTES - 1) / TICK_MINUTES;
+  }
+
+  /**
+   * Check if every tick of range is available.
+   *
+   * @param available mask of available time
+   * @param range     mask of range
+   * @return true if range is covered
+   */
+  public static boolean covers(long available, long range) {
+    return (available & range) == range;
+  }
+
+  /**
+   * Check if masks have common ticks.
+   *
+   * @param first  first mask
+   * @param second second mask
+   * @return true if masks intersect
+   */
+  public static boolean intersects(long first, long second) {
+    return (first & second) != 0;
+  }
+
+  /**
+   * Get ticks at which run of given length of available ticks starts.
+   *
+   * @param available mask of available time
+   * @param length    number of ticks in run
+   * @return mask of start ticks of runs, empty if run does not fit
+   */
+  public static long fittingStarts(long available, int length) {
+    long starts = available;
+    int covered = 1;
+
+    while (covered < length && starts != EMPTY) {
+      int step = Math.min(covered, length - covered);
+      starts &= starts >>> step;
+      covered += step;
+    }
+    return starts;
+  }
+}
@@ -0,0 +1,179 @@
+package com.intellias.intellistart.interviewplanning.service;
+
+import com.intellias.intellistart.interviewplanning.exceptions.InvalidTimeSlotBoundariesException;
+import com.intellias.intellistart.interviewplanning.exceptions.WeekNumberNotAcceptableException;
+import com.intellias.intellistart.interviewplanning.model.Booking;
+import com.intellias.intellistart.interviewplanning.model.InterviewDayOfWeek;
+import com.intellias.intellistart.interviewplanning.model.slot.InterviewerTimeSlot;
+import com.intellias.intellistart.interviewplanning.repository.InterviewerTimeSlotRepository;
+import com.intellias.intellistart.interviewplanning.service.dto.AvailableInterviewerDto;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * It is service for finding interviewers who are free at given time. Free time of each day
+ * is kept in memory as lists of interviewer slots per tick where interview can start,
+ * so query is one lookup. Index of day is tagged with version of its week on dashboard
+ * and is rebuilt on first query after any slot or booking of week is changed.
+ * Slots are stored by week number without year, so only dates of current and next week
+ * are accepted, and their week numbers never clash.
+ */
+@Service
+@Slf4j
+@AllArgsConstructor
+public class AvailabilityService {
+
+  private static final int TICKS_PER_DAY = 24 * 60 / AvailabilityMask.TICK_MINUTES;
+
+  private final Map<LocalDate, DayIndex> days = new LinkedHashMap<>(16, 0.75f, true) {
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<LocalDate, DayIndex> eldest) {
+      return size() > maxCachedDays;
+    }
+  };
+
+  @Value("${interview.duration_minutes}")
+  private Integer interviewDuration;
+  @Value("${availability.max_cached_days}")
+  private Integer maxCachedDays;
+
+  private InterviewerTimeSlotRepository interviewerTimeSlotRepository;
+  private GetWeekNumberService weekService;
+  private DashboardCacheService dashboardCacheService;
+  private InterviewerSlotTemplateService slotTemplateService;
+
+  /**
+   * Get interviewers whose slots have free time for interview starting at given time.
+   * Booking limits of interviewers are not taken into account.
+   *
+   * @param date date of interview in current or next week
+   * @param from start of interview, rounded to :00 or :30
+   * @return free time of interviewer slots sorted by interviewer email
+   */
+  public List<AvailableInterviewerDto> getAvailableInterviewers(LocalDate date,
+      LocalTime from) {
+    if (!AvailabilityMask.isOnGrid(from)) {
+      throw new InvalidTimeSlotBoundariesException("Minutes should be rounded to :00 or :30");
+    }
+
+    LocalDate currentMonday = LocalDate.now().with(DayOfWeek.MONDAY);
+    LocalDate nextMonday = currentMonday.plusWeeks(1);
+    if (date.isBefore(currentMonday) || !date.isBefore(nextMonday.plusWeeks(1))) {
+      throw new WeekNumberNotAcceptableException(Arrays.asList(
+          weekService.getWeekNumForDate(currentMonday),
+          weekService.getWeekNumForDate(nextMonday)));
+    }
+
+    Optional<InterviewDayOfWeek> dayOfWeek = Arrays.stream(InterviewDayOfWeek.values())
+        .filter(day -> InterviewDayOfWeek.convertToDayOfWeek(day).equals(date.getDayOfWeek()))
+        .findAny();
+
+    if (dayOfWeek.isEmpty()) {
+      return List.of();
+    }
+
+    LocalTime to = from.plusMinutes(interviewDuration);
+    return getDayIndex(date, dayOfWeek.get()).getSlots(AvailabilityMask.toTick(from)).stream()
+        .map(slot -> AvailableInterviewerDto.builder()
+            .interviewerSlotId(slot.getSlotId())
+            .interviewerEmail(slot.getInterviewerEmail())
+            .date(date)
+            .from(from)
+            .to(to)
+            .build())
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * Get index of day if it is built for current version of week or build it again.
+   * Index is built outside of lock, so concurrent queries may build it twice, but
+   * queries of other days are not blocked by database. Version of week is changed only after
+   * mutation is committed and is read before slots, so index never holds older data than its
+   * version, and index built by slower query does not replace one of newer version.
+   */
+  private DayIndex getDayIndex(LocalDate date, InterviewDayOfWeek dayOfWeek) {
+    int weekNum = weekService.getWeekNumForDate(date);
+    slotTemplateService.materializeWeek(weekNum);
+    long version = dashboardCacheService.getVersion(weekNum);
+
+    DayIndex index;
+    synchronized (days) {
+      index = days.get(date);
+    }
+    if (index != null && index.getVersion() == version) {
+      return index;
+    }
+
+    index = buildDayIndex(weekNum, dayOfWeek, version);
+    synchronized (days) {
+      return days.merge(date, index,
+          (cached, built) -> cached.getVersion() > built.getVersion() ? cached : built);
+    }
+  }
+
+  private DayIndex buildDayIndex(int weekNum, InterviewDayOfWeek dayOfWeek, long version) {
+    List<InterviewerTimeSlot> slots = interviewerTimeSlotRepository
+        .findAllWithBookingsByWeekNumAndDayOfWeek(weekNum, dayOfWeek);
+    slots.sort(Comparator.comparing((InterviewerTimeSlot slot) -> slot.getUser().getEmail())
+        .thenComparing(InterviewerTimeSlot::getId));
+
+    List<List<FreeSlot>> slotsByTick = new ArrayList<>(TICKS_PER_DAY);
+    for (int tick = 0; tick < TICKS_PER_DAY; tick++) {
+      slotsByTick.add(new ArrayList<>());
+    }
+
+    int interviewTicks = AvailabilityMask.toTicks(interviewDuration);
+    for (InterviewerTimeSlot slot : slots) {
+      long free = AvailabilityMask.of(slot.getFrom(), slot.getTo());
+      for (Booking booking : slot.getBookings()) {
+        free &= ~AvailabilityMask.of(booking.getStartTime(), booking.getEndTime());
+      }
+
+      FreeSlot freeSlot = new FreeSlot(slot.getId(), slot.getUser().getEmail());
+      long starts = AvailabilityMask.fittingStarts(free, interviewTicks);
+      while (starts != AvailabilityMask.EMPTY) {
+        slotsByTick.get(Long.numberOfTrailingZeros(starts)).add(freeSlot);
+        starts &= starts - 1;
+      }
+    }
+
+    log.info("Built availability index of week {} {} from {} slots",
+        weekNum, dayOfWeek, slots.size());
+
+    return new DayIndex(version, slotsByTick);
+  }
+
+  @Getter
+  @AllArgsConstructor
+  private static class DayIndex {
+
+    private final long version;
+    private final List<List<FreeSlot>> slotsByTick;
+
+    private List<FreeSlot> getSlots(int tick) {
+      return tick < slotsByTick.size() ? slotsByTick.get(tick) : List.of();
+    }
+  }
+
+  @Getter
+  @AllArgsConstructor
+  private static class FreeSlot {
+
+    private final Long slotId;
+    private final String interviewerEmail;
+  }
+}
@@ -0,0 +1,139 @@
+package com.intellias.intellistart.interviewplanning.service;
+
+import com.intellias.intellistart.interviewplanning.model.BookingCounter;
+import com.intellias.intellistart.interviewplanning.model.User;
+import com.intellias.intellistart.interviewplanning.model.slot.InterviewerTimeSlot;
+import com.intellias.intellistart.interviewplanning.repository.BookingCounterRepository;
+import com.intellias.intellistart.interviewplanning.repository.BookingRepository;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import javax.transaction.Transactional;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * It is service for counters of interviewer bookings per week. Counter is created from
+ * bookings on first access and then changed in place in the same transaction as each
+ * booking change. Missing counters are created in transaction of caller by one statement,
+ * which changes counter created meanwhile by concurrent transaction instead of failing.
+ */
+@Service
+@Slf4j
+@AllArgsConstructor
+public class BookingCounterService {
+
+  private BookingCounterRepository bookingCounterRepository;
+  private BookingRepository bookingRepository;
+
+  /**
+   * Get count of interviewer bookings in week.
+   *
+   * @param interviewer owner of bookings
+   * @param weekNum number of week
+   * @return count of bookings
+   */
+  @Transactional
+  public int getCount(User interviewer, int weekNum) {
+    return bookingCounterRepository.findByUserAndWeekNum(interviewer, weekNum)
+        .or(() -> {
+          createCounters(List.of(interviewer), weekNum, 0);
+          return bookingCounterRepository.findByUserAndWeekNum(interviewer, weekNum);
+        })
+        .map(BookingCounter::getBookings)
+        .orElse(0);
+  }
+
+  /**
+   * Get counts of bookings in week for several interviewers.
+   *
+   * @param interviewers owners of bookings
+   * @param weekNum number of week
+   * @return count of bookings by id of interviewer
+   */
+  @Transactional
+  public Map<Long, Integer> getCounts(Collection<User> interviewers, int weekNum) {
+    Map<Long, Integer> counts = new HashMap<>();
+
+    bookingCounterRepository.findAllByUserInAndWeekNum(interviewers, weekNum)
+        .forEach(counter -> counts.put(counter.getUser().getId(), counter.getBookings()));
+
+    List<User> withoutCounter = interviewers.stream()
+        .filter(interviewer -> !counts.containsKey(interviewer.getId()))
+        .collect(Collectors.toList());
+
+    if (!withoutCounter.isEmpty()) {
+      createCounters(withoutCounter, weekNum, 0);
+      bookingCounterRepository.findAllByUserInAndWeekNum(withoutCounter, weekNum)
+          .forEach(counter -> counts.put(counter.getUser().getId(), counter.getBookings()));
+    }
+    return counts;
+  }
+
+  /**
+   * Count booking which was saved for interviewer in week. Should be called in transaction
+   * which saved booking, after it is saved.
+   *
+   * @param interviewer owner of booking
+   * @param weekNum week of interviewer slot of booking
+   */
+  @Transactional
+  public void bookingAdded(User interviewer, int weekNum) {
+    addBookings(interviewer, weekNum, 1);
+  }
+
+  /**
+   * Uncount booking which was deleted or moved from interviewer in week. Should be called
+   * in transaction which deleted or moved booking, after it is changed.
+   *
+   * @param interviewer owner of booking
+   * @param weekNum week of interviewer slot of booking
+   */
+  @Transactional
+  public void bookingRemoved(User interviewer, int weekNum) {
+    addBookings(interviewer, weekNum, -1);
+  }
+
+  /**
+   * Move counts of bookings of slot which was moved to other week. Should be called in
+   * transaction which saved slot, after it is saved.
+   *
+   * @param slot moved interviewer slot
+   * @param previousWeekNum week of slot before it was moved
+   */
+  @Transactional
+  public void slotMoved(InterviewerTimeSlot slot, int previousWeekNum) {
+    if (slot.getWeekNum() == previousWeekNum) {
+      return;
+    }
+
+    int bookings = (int) bookingRepository.countByInterviewerTimeSlotId(slot.getId());
+
+    if (bookings > 0) {
+      addBookings(slot.getUser(), previousWeekNum, -bookings);
+      addBookings(slot.getUser(), slot.getWeekNum(), bookings);
+    }
+  }
+
+  /**
+   * Change counter in place if it exists. Missing counter is created from bookings of
+   * current transaction, which already include the change.
+   */
+  private void addBookings(User interviewer, int weekNum, int delta) {
+    if (bookingCounterRepository.addBookings(interviewer, weekNum, delta) == 0) {
+      createCounters(List.of(interviewer), weekNum, delta);
+    }
+  }
+
+  private void createCounters(List<User> interviewers, int weekNum, int delta) {
+    log.info("Create booking counters of week {} for {} interviewers", weekNum,
+        interviewers.size());
+
+    bookingCounterRepository.createCounters(interviewers.stream()
+        .map(User::getId)
+        .collect(Collectors.toList()), weekNum, delta);
+  }
+}
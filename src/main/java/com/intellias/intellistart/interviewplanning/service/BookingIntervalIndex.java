@@ -0,0 +1,100 @@
+package com.intellias.intellistart.interviewplanning.service;
+
+import com.intellias.intellistart.interviewplanning.model.Booking;
+import java.time.LocalTime;
+import java.util.HashSet;
+import java.util.Map.Entry;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+/**
+ * Index of booked time of one slot. Booked ranges are kept merged and sorted by start, so
+ * conflict of new range is found with one lookup instead of scan of all bookings. Range
+ * shorter than buffer is checked as if it lasts buffer minutes, as bookings closer than
+ * that to each other cannot both take place.
+ */
+public class BookingIntervalIndex {
+
+  private static final int BUFFER_MINUTES = 30;
+
+  private final NavigableMap<Integer, Integer> busyRanges = new TreeMap<>();
+  private final Set<Long> bookedRanges = new HashSet<>();
+
+  /**
+   * Create index of bookings.
+   *
+   * @param bookings bookings of slot
+   * @return index of bookings
+   */
+  public static BookingIntervalIndex of(Stream<Booking> bookings) {
+    BookingIntervalIndex index = new BookingIntervalIndex();
+    bookings.forEach(booking -> index.add(booking.getStartTime(), booking.getEndTime()));
+    return index;
+  }
+
+  /**
+   * Add booked range.
+   *
+   * @param from start of booking
+   * @param to end of booking
+   */
+  public void add(LocalTime from, LocalTime to) {
+    int start = toMinutes(from);
+    int end = toMinutes(to);
+
+    bookedRanges.add(toRangeKey(start, end));
+
+    Entry<Integer, Integer> previous = busyRanges.floorEntry(start);
+    if (previous != null && previous.getValue() >= start) {
+      start = previous.getKey();
+      end = Math.max(end, previous.getValue());
+    }
+
+    Entry<Integer, Integer> next = busyRanges.ceilingEntry(start);
+    while (next != null && next.getKey() <= end) {
+      end = Math.max(end, next.getValue());
+      busyRanges.remove(next.getKey());
+      next = busyRanges.higherEntry(next.getKey());
+    }
+
+    busyRanges.put(start, end);
+  }
+
+  /**
+   * Check if booking with exactly the same range exists.
+   *
+   * @param from start of booking
+   * @param to end of booking
+   * @return true if range is already booked
+   */
+  public boolean contains(LocalTime from, LocalTime to) {
+    return bookedRanges.contains(toRangeKey(toMinutes(from), toMinutes(to)));
+  }
+
+  /**
+   * Check if range intersects any booking.
+   *
+   * @param from start of booking
+   * @param to end of booking
+   * @return true if range intersects booking
+   */
+  public boolean conflicts(LocalTime from, LocalTime to) {
+    int start = toMinutes(from);
+    int end = toMinutes(to);
+    int windowStart = Math.min(start, end - BUFFER_MINUTES);
+    int windowEnd = Math.max(end, start + BUFFER_MINUTES);
+
+    Entry<Integer, Integer> busyRange = busyRanges.lowerEntry(windowEnd);
+    return busyRange != null && busyRange.getValue() > windowStart;
+  }
+
+  private static int toMinutes(LocalTime time) {
+    return time.toSecondOfDay() / 60;
+  }
+
+  private static long toRangeKey(int start, int end) {
+    return (long) start << 32 | end;
+  }
+}
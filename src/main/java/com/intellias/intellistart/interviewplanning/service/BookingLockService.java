@@ -0,0 +1,67 @@
+package com.intellias.intellistart.interviewplanning.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Service;
+
+/**
+ * It is service for locks of booking changes. Changes for the same interviewer or the same
+ * candidate slot are serialized, changes for other interviewers run in parallel. Each key is
+ * mapped to one of fixed number of locks, locks are taken in order of their index, so
+ * callers cannot deadlock each other.
+ */
+@Service
+public class BookingLockService {
+
+  private static final int STRIPES = 64;
+
+  private final ReentrantLock[] locks = new ReentrantLock[STRIPES];
+
+  /**
+   * Create locks.
+   */
+  public BookingLockService() {
+    for (int i = 0; i < STRIPES; i++) {
+      locks[i] = new ReentrantLock();
+    }
+  }
+
+  /**
+   * Run action while holding locks of interviewers and candidate slots. Action should open
+   * and commit its own transaction, so no other change sees uncommitted state.
+   *
+   * @param interviewerIds ids of interviewers which bookings are changed
+   * @param candidateSlotIds ids of candidate slots which bookings are changed
+   * @param action change of bookings
+   * @return result of action
+   */
+  public <T> T withLocks(Collection<Long> interviewerIds, Collection<Long> candidateSlotIds,
+      Supplier<T> action) {
+    SortedSet<Integer> stripes = new TreeSet<>();
+    interviewerIds.forEach(id -> stripes.add(stripe("interviewer", id)));
+    candidateSlotIds.forEach(id -> stripes.add(stripe("candidate_slot", id)));
+
+    List<ReentrantLock> acquired = new ArrayList<>();
+    try {
+      for (int stripe : stripes) {
+        locks[stripe].lock();
+        acquired.add(locks[stripe]);
+      }
+      return action.get();
+    } finally {
+      for (int i = acquired.size() - 1; i >= 0; i--) {
+        acquired.get(i).unlock();
+      }
+    }
+  }
+
+  private static int stripe(String type, Long id) {
+    return Math.floorMod(Objects.hash(type, id), STRIPES);
+  }
+}
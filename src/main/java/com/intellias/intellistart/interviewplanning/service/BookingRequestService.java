@@ -0,0 +1,139 @@
+package com.intellias.intellistart.interviewplanning.service;
+
+import com.intellias.intellistart.interviewplanning.exceptions.BookingQueueIsFullException;
+import com.intellias.intellistart.interviewplanning.exceptions.BookingRequestNotFoundException;
+import com.intellias.intellistart.interviewplanning.exceptions.SlotNotFoundException;
+import com.intellias.intellistart.interviewplanning.repository.InterviewerTimeSlotRepository;
+import com.intellias.intellistart.interviewplanning.service.dto.BookingDto;
+import com.intellias.intellistart.interviewplanning.service.dto.BookingRequestDto;
+import com.intellias.intellistart.interviewplanning.service.dto.BookingRequestDto.Status;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * It is service which creates bookings asynchronously.
+ * Requests are partitioned by interviewer, and each partition is processed by its own worker
+ * one request at a time, so bookings of the same interviewer never wait for each other's locks
+ * and are created in order they were requested. States of recent requests are kept
+ * in bounded store, so clients can poll them by request id.
+ */
+@Service
+@Slf4j
+@AllArgsConstructor
+public class BookingRequestService {
+
+  private final List<ExecutorService> workers = new ArrayList<>();
+  private final Map<String, BookingRequestDto> requests = new LinkedHashMap<>() {
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<String, BookingRequestDto> eldest) {
+      return size() > maxStored;
+    }
+  };
+
+  @Value("${booking.requests.workers}")
+  private Integer workerCount;
+
+  @Value("${booking.requests.queue_size}")
+  private Integer queueSize;
+
+  @Value("${booking.requests.max_stored}")
+  private Integer maxStored;
+
+  private BookingService bookingService;
+  private InterviewerTimeSlotRepository interviewerTimeSlotRepository;
+
+  /**
+   * Start workers of booking requests.
+   */
+  @PostConstruct
+  public void start() {
+    for (int i = 0; i < workerCount; i++) {
+      workers.add(new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+          new ArrayBlockingQueue<>(queueSize)));
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    workers.forEach(ExecutorService::shutdownNow);
+  }
+
+  /**
+   * Queue booking to be created by worker of its interviewer.
+   *
+   * @param bookingDto booking which needs to create
+   * @return pending booking request
+   */
+  public BookingRequestDto submit(BookingDto bookingDto) {
+    Long interviewerId = interviewerTimeSlotRepository
+        .findUserIdsByIdIn(Collections.singletonList(bookingDto.getInterviewerTimeSlotId()))
+        .stream()
+        .findFirst()
+        .orElseThrow(SlotNotFoundException::new);
+    String requestId = UUID.randomUUID().toString();
+
+    store(new BookingRequestDto(requestId, Status.PENDING, null, null));
+    try {
+      workers.get((int) Math.floorMod(interviewerId, (long) workers.size()))
+          .execute(() -> process(requestId, bookingDto));
+    } catch (RejectedExecutionException e) {
+      synchronized (requests) {
+        requests.remove(requestId);
+      }
+      log.warn("Queue of booking requests for interviewer with id {} is full", interviewerId);
+      throw new BookingQueueIsFullException();
+    }
+
+    log.info("Queued booking request {} for interviewer with id {}", requestId, interviewerId);
+    return getRequest(requestId);
+  }
+
+  /**
+   * Get state of booking request.
+   *
+   * @param requestId id of booking request
+   * @return booking request
+   */
+  public BookingRequestDto getRequest(String requestId) {
+    synchronized (requests) {
+      BookingRequestDto request = requests.get(requestId);
+
+      if (request == null) {
+        throw new BookingRequestNotFoundException();
+      }
+      return request;
+    }
+  }
+
+  private void process(String requestId, BookingDto bookingDto) {
+    try {
+      BookingDto booking = bookingService.createBooking(bookingDto);
+      store(new BookingRequestDto(requestId, Status.DONE, booking, null));
+    } catch (RuntimeException e) {
+      log.info("Booking request {} failed: {}", requestId, e.getMessage());
+      store(new BookingRequestDto(requestId, Status.FAILED, null,
+          BookingService.toErrorResponse(e)));
+    }
+  }
+
+  private void store(BookingRequestDto request) {
+    synchronized (requests) {
+      requests.put(request.getId(), request);
+    }
+  }
+}
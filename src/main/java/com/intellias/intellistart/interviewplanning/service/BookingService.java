@@ -1,30 +1,57 @@
 package com.intellias.intellistart.interviewplanning.service;
 
+import static com.intellias.intellistart.interviewplanning.exceptions.ApplicationExceptionHandler.BOOKING_IS_OVERLAPPING;
+import static com.intellias.intellistart.interviewplanning.exceptions.ApplicationExceptionHandler.BOOKING_REQUEST_FAILED;
 import static com.intellias.intellistart.interviewplanning.exceptions.ApplicationExceptionHandler.INVALID_BOUNDARIES;
+import static com.intellias.intellistart.interviewplanning.exceptions.ApplicationExceptionHandler.INVALID_DATE_RANGE;
 import static com.intellias.intellistart.interviewplanning.exceptions.ApplicationExceptionHandler.MAX_COUNT_OF_BOOKING;
+import static com.intellias.intellistart.interviewplanning.exceptions.ApplicationExceptionHandler.SLOT_NOT_FOUND;
 import static com.intellias.intellistart.interviewplanning.exceptions.ApplicationExceptionHandler.SUBJECT_DESCRIPTION_NOT_VALID;
 
+import com.intellias.intellistart.interviewplanning.exceptions.ApplicationExceptionHandler.ErrorResponse;
 import com.intellias.intellistart.interviewplanning.exceptions.BookingIsAlreadyExistsException;
 import com.intellias.intellistart.interviewplanning.exceptions.BookingNotFoundException;
+import com.intellias.intellistart.interviewplanning.exceptions.InvalidLimitException;
+import com.intellias.intellistart.interviewplanning.exceptions.InvalidTimeSlotBoundariesException;
 import com.intellias.intellistart.interviewplanning.exceptions.SlotNotFoundException;
 import com.intellias.intellistart.interviewplanning.exceptions.ValidationException;
 import com.intellias.intellistart.interviewplanning.model.Booking;
 import com.intellias.intellistart.interviewplanning.model.BookingLimit;
+import com.intellias.intellistart.interviewplanning.model.User;
 import com.intellias.intellistart.interviewplanning.model.slot.CandidateTimeSlot;
 import com.intellias.intellistart.interviewplanning.model.slot.InterviewerTimeSlot;
 import com.intellias.intellistart.interviewplanning.repository.BookingLimitRepository;
 import com.intellias.intellistart.interviewplanning.repository.BookingRepository;
+import com.intellias.intellistart.interviewplanning.repository.BookingRepository.BookingDescription;
+import com.intellias.intellistart.interviewplanning.repository.BookingRepository.BookingSummary;
 import com.intellias.intellistart.interviewplanning.repository.CandidateTimeSlotRepository;
 import com.intellias.intellistart.interviewplanning.repository.InterviewerTimeSlotRepository;
 import com.intellias.intellistart.interviewplanning.service.dto.BookingDto;
-import java.time.LocalTime;
+import com.intellias.intellistart.interviewplanning.service.dto.BookingFilterDto;
+import com.intellias.intellistart.interviewplanning.service.dto.BookingPageDto;
+import com.intellias.intellistart.interviewplanning.service.dto.BookingResultDto;
+import com.intellias.intellistart.interviewplanning.service.dto.BookingSummaryDto;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import lombok.AllArgsConstructor;
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * It is service for finally booking an interview.
@@ -34,6 +61,10 @@ import org.springframework.stereotype.Service;
 @Slf4j
 public class BookingService {
 
+  private static final int MAX_DESCRIPTIONS = 200;
+  private static final int MAX_BATCH_SIZE = 100;
+  private static final int MAX_PAGE_SIZE = 200;
+
   @Value("${booking.subject_length}")
   private Integer subjectLength;
 
@@ -46,9 +77,85 @@ public class BookingService {
   private TimeSlotValidationService timeSlotValidationService;
   private BookingLimitRepository bookingLimitRepository;
   private GetWeekNumberService weekNumberService;
+  private DashboardCacheService dashboardCacheService;
+  private BookingCounterService bookingCounterService;
+  private BookingLockService bookingLockService;
+  private TransactionTemplate transactionTemplate;
 
   /**
-   * Create booking for interview.
+   * Find page of bookings matching filters. Bookings are ordered by id, and next page starts
+   * after last booking of previous one, so deep pages are as fast as first one.
+   *
+   * @param filter of bookings
+   * @param cursor next cursor of previous page, null for first page
+   * @param limit  max number of bookings on page
+   * @return page of bookings
+   */
+  public BookingPageDto searchBookings(BookingFilterDto filter, Long cursor, int limit) {
+    if (limit < 1 || limit > MAX_PAGE_SIZE) {
+      throw new InvalidLimitException("limit should be from 1 to " + MAX_PAGE_SIZE);
+    }
+    if (filter.getFrom() != null && filter.getTo() != null
+        && filter.getFrom().isAfter(filter.getTo())) {
+      throw new ValidationException("from date should not be after to date",
+          INVALID_DATE_RANGE);
+    }
+
+    log.info("Searching bookings with filter {} after booking {}", filter, cursor);
+
+    List<BookingSummaryDto> bookings = bookingRepository.findSummariesByFilter(
+            filter.getInterviewerEmail(), filter.getCandidateEmail(), filter.getFrom(),
+            filter.getTo(), filter.getWeekNum(), cursor, PageRequest.of(0, limit + 1))
+        .stream()
+        .map(BookingService::buildBookingSummaryDto)
+        .collect(Collectors.toList());
+    Long nextCursor = null;
+
+    if (bookings.size() > limit) {
+      bookings = bookings.subList(0, limit);
+      nextCursor = bookings.get(limit - 1).getId();
+    }
+
+    return new BookingPageDto(bookings, nextCursor);
+  }
+
+  private static BookingSummaryDto buildBookingSummaryDto(BookingSummary booking) {
+    return BookingSummaryDto.builder()
+        .id(booking.getId())
+        .interviewerTimeSlotId(booking.getInterviewerTimeSlotId())
+        .candidateTimeSlotId(booking.getCandidateTimeSlotId())
+        .interviewerEmail(booking.getInterviewerEmail())
+        .candidateEmail(booking.getCandidateEmail())
+        .date(booking.getDate())
+        .startTime(booking.getStartTime())
+        .endTime(booking.getEndTime())
+        .subject(booking.getSubject())
+        .build();
+  }
+
+  /**
+   * Get descriptions of bookings, e.g. for bookings of compact dashboard.
+   * Ids of missing bookings are skipped.
+   *
+   * @param bookingIds ids of bookings
+   * @return descriptions by booking id
+   */
+  public Map<Long, String> getDescriptions(Set<Long> bookingIds) {
+    if (bookingIds.isEmpty() || bookingIds.size() > MAX_DESCRIPTIONS) {
+      throw new InvalidLimitException("count of bookings should be from 1 to " + MAX_DESCRIPTIONS);
+    }
+
+    Map<Long, String> descriptions = new HashMap<>();
+    for (BookingDescription booking : bookingRepository.findDescriptionsByIdIn(bookingIds)) {
+      descriptions.put(booking.getId(), booking.getDescription());
+    }
+    return descriptions;
+  }
+
+  /**
+   * Create booking for interview. Bookings of the same interviewer or candidate slot are
+   * created one by one, so limit and overlap checks always see committed bookings.
+   * Counter is changed in the same transaction as booking, dashboard after it is committed.
    *
    * @param bookingDto booking which needs to create.
    * @return saved booking
@@ -56,38 +163,83 @@ public class BookingService {
   public BookingDto createBooking(BookingDto bookingDto) {
     log.info("Create booking with details {}", bookingDto);
 
-    InterviewerTimeSlot interviewerTimeSlot = interviewerTimeSlotRepository
-        .findById(bookingDto.getInterviewerTimeSlotId())
-        .orElseThrow(SlotNotFoundException::new);
+    return withBookingLocks(() -> findInterviewerIds(bookingDto.getInterviewerTimeSlotId()),
+        Collections.singletonList(bookingDto.getCandidateTimeSlotId()),
+        () -> {
+          Booking booking = transactionTemplate.execute(status -> countBooking(
+              saveBooking(bookingDto)));
+          dashboardCacheService.bookingCreated(booking);
+          bookingDto.setId(booking.getId());
+          return bookingDto;
+        });
+  }
 
-    Optional<BookingLimit> interviewerLimit = bookingLimitRepository.findByUser(
-        interviewerTimeSlot.getUser());
+  /**
+   * Run change of bookings while holding locks of its interviewers and candidate slots.
+   * Interviewers are resolved again under the locks, and the locks are taken again if they
+   * were changed meanwhile, e.g. by booking moved to slot of other interviewer.
+   */
+  private <T> T withBookingLocks(Supplier<Set<Long>> interviewerIds,
+      Collection<Long> candidateSlotIds, Supplier<T> change) {
+    List<T> result = new ArrayList<>(1);
+    Set<Long> lockedIds = interviewerIds.get();
+
+    while (result.isEmpty()) {
+      Set<Long> expectedIds = lockedIds;
+      lockedIds = bookingLockService.withLocks(expectedIds, candidateSlotIds, () -> {
+        Set<Long> currentIds = interviewerIds.get();
+        if (currentIds.equals(expectedIds)) {
+          result.add(change.get());
+        } else {
+          log.info("Interviewers {} of booking were changed to {}, locking again",
+              expectedIds, currentIds);
+        }
+        return currentIds;
+      });
+    }
+    return result.get(0);
+  }
 
-    List<Booking> currentInterviewerBookings = allInterviewerBookingsForCurrentWeek(
-        interviewerTimeSlot);
+  private Set<Long> findInterviewerIds(Long interviewerSlotId) {
+    return interviewerSlotId == null ? new HashSet<>()
+        : findInterviewerIds(Collections.singleton(interviewerSlotId));
+  }
 
-    if (interviewerLimit.isPresent() && !currentInterviewerBookings.isEmpty()
-        && interviewerLimit.get().getBookingLimit() == currentInterviewerBookings.size()) {
-      log.error("Cannot set more booking for interviewer than max booking limit {}",
-          interviewerLimit.get().getBookingLimit());
+  private Set<Long> findInterviewerIds(Collection<Long> interviewerSlotIds) {
+    return interviewerSlotIds.isEmpty() ? new HashSet<>()
+        : new HashSet<>(interviewerTimeSlotRepository.findUserIdsByIdIn(interviewerSlotIds));
+  }
 
-      throw new ValidationException(
-          String.format("cannot set more bookings for interviewer than max limit:%d",
-              interviewerLimit.get().getBookingLimit()), MAX_COUNT_OF_BOOKING);
-    }
+  private Booking countBooking(Booking booking) {
+    bookingCounterService.bookingAdded(booking.getInterviewerTimeSlot().getUser(),
+        booking.getInterviewerTimeSlot().getWeekNum());
+    return booking;
+  }
+
+  private Booking saveBooking(BookingDto bookingDto) {
+    InterviewerTimeSlot interviewerTimeSlot = interviewerTimeSlotRepository
+        .findById(bookingDto.getInterviewerTimeSlotId())
+        .orElseThrow(SlotNotFoundException::new);
+
+    validateBookingLimit(interviewerTimeSlot.getUser());
 
     CandidateTimeSlot candidateTimeSlot = candidateTimeSlotRepository
         .findById(bookingDto.getCandidateTimeSlotId())
         .orElseThrow(SlotNotFoundException::new);
 
-    if (isBookingWithRangePresented(interviewerTimeSlot.getBookings(), bookingDto)) {
+    BookingIntervalIndex interviewerBookings = BookingIntervalIndex.of(
+        interviewerTimeSlot.getBookings().stream());
+    BookingIntervalIndex candidateBookings = BookingIntervalIndex.of(
+        candidateTimeSlot.getBookings().stream());
+
+    if (interviewerBookings.contains(bookingDto.getStartTime(), bookingDto.getEndTime())) {
       log.error("Interviewer time slot with id {} already has booking with from/to",
           interviewerTimeSlot.getId());
 
       throw new BookingIsAlreadyExistsException("interviewer slot");
     }
 
-    if (isBookingWithRangePresented(candidateTimeSlot.getBookings(), bookingDto)) {
+    if (candidateBookings.contains(bookingDto.getStartTime(), bookingDto.getEndTime())) {
       log.error("Candidate time slot with id {} already has booking with from/to",
           candidateTimeSlot.getId());
 
@@ -97,8 +249,7 @@ public class BookingService {
     timeSlotValidationService.validateBookingTimeSlotBoundaries(bookingDto.getStartTime(),
         bookingDto.getEndTime());
 
-    if (isTimeNotInInterviewerSlotRange(interviewerTimeSlot, bookingDto.getStartTime())
-        || isTimeNotInInterviewerSlotRange(interviewerTimeSlot, bookingDto.getEndTime())) {
+    if (isNotInInterviewerSlot(interviewerTimeSlot, bookingDto)) {
       log.error("From/to does not fit into interviewer slot range {} - {}",
           interviewerTimeSlot.getFrom(), interviewerTimeSlot.getTo());
 
@@ -106,6 +257,8 @@ public class BookingService {
           INVALID_BOUNDARIES);
     }
 
+    validateNoIntersection(interviewerBookings, candidateBookings, bookingDto);
+
     if (bookingDto.getSubject().length() > subjectLength) {
       throw new ValidationException("subject max length is " + subjectLength + " chars",
           SUBJECT_DESCRIPTION_NOT_VALID);
@@ -128,36 +281,131 @@ public class BookingService {
 
     bookingRepository.save(booking);
 
-    bookingDto.setId(booking.getId());
-
     log.info("Booking successfully saved with id {}", booking.getId());
 
-    return bookingDto;
+    return booking;
+  }
+
+  /**
+   * Create batch of bookings in one transaction. Referenced slots, booking limits and counts
+   * of interviewers bookings are loaded once for whole batch. Each booking is validated
+   * against existing bookings and bookings accepted earlier in the same batch, invalid ones
+   * are reported and skipped. Counters are changed in the same transaction as batch,
+   * dashboard after it is committed.
+   *
+   * @param bookingDtos bookings which need to create
+   * @return result for each booking in order of request
+   */
+  public List<BookingResultDto> createBookings(List<BookingDto> bookingDtos) {
+    if (bookingDtos.isEmpty() || bookingDtos.size() > MAX_BATCH_SIZE) {
+      throw new InvalidLimitException("count of bookings should be from 1 to " + MAX_BATCH_SIZE);
+    }
+
+    log.info("Create batch of {} bookings", bookingDtos.size());
+
+    Set<Long> interviewerSlotIds = bookingDtos.stream()
+        .map(BookingDto::getInterviewerTimeSlotId)
+        .filter(Objects::nonNull)
+        .collect(Collectors.toSet());
+    Set<Long> candidateSlotIds = bookingDtos.stream()
+        .map(BookingDto::getCandidateTimeSlotId)
+        .filter(Objects::nonNull)
+        .collect(Collectors.toSet());
+
+    return withBookingLocks(() -> findInterviewerIds(interviewerSlotIds), candidateSlotIds,
+        () -> {
+          List<BookingResultDto> results = new ArrayList<>();
+          List<Booking> bookings = transactionTemplate.execute(status -> saveBookings(
+              bookingDtos, new BookingBatch(interviewerSlotIds, candidateSlotIds), results));
+          bookings.forEach(dashboardCacheService::bookingCreated);
+          return results;
+        });
+  }
+
+  private List<Booking> saveBookings(List<BookingDto> bookingDtos, BookingBatch batch,
+      List<BookingResultDto> results) {
+    List<Booking> bookings = new ArrayList<>();
+
+    for (BookingDto bookingDto : bookingDtos) {
+      try {
+        Booking booking = batch.accept(bookingDto);
+        bookings.add(booking);
+        results.add(new BookingResultDto(bookingDto, null));
+      } catch (ValidationException | InvalidTimeSlotBoundariesException
+          | BookingIsAlreadyExistsException | SlotNotFoundException e) {
+        results.add(new BookingResultDto(null, toErrorResponse(e)));
+      }
+    }
+
+    bookingRepository.saveAll(bookings);
+    bookings.forEach(this::countBooking);
+
+    Iterator<Booking> savedBookings = bookings.iterator();
+    for (BookingResultDto result : results) {
+      if (result.getBooking() != null) {
+        result.getBooking().setId(savedBookings.next().getId());
+      }
+    }
+
+    log.info("Saved {} of {} bookings from batch", bookings.size(), bookingDtos.size());
+
+    return bookings;
   }
 
-  private boolean isTimeNotInInterviewerSlotRange(InterviewerTimeSlot timeSlot, LocalTime target) {
-    return target.isBefore(timeSlot.getFrom()) || target.isAfter(timeSlot.getTo());
+  /**
+   * Map exception thrown while booking is created to error response, the same way as
+   * exception handler does for synchronous requests.
+   *
+   * @param e exception thrown while booking is created
+   * @return error response
+   */
+  static ErrorResponse toErrorResponse(RuntimeException e) {
+    if (e instanceof ValidationException) {
+      return new ErrorResponse(((ValidationException) e).getErrorMessage(), e.getMessage());
+    }
+    if (e instanceof InvalidTimeSlotBoundariesException) {
+      return new ErrorResponse(INVALID_BOUNDARIES, e.getMessage());
+    }
+    if (e instanceof BookingIsAlreadyExistsException) {
+      return new ErrorResponse(BOOKING_IS_OVERLAPPING, e.getMessage());
+    }
+    if (e instanceof SlotNotFoundException) {
+      return new ErrorResponse(SLOT_NOT_FOUND, "slot was not found");
+    }
+    return new ErrorResponse(BOOKING_REQUEST_FAILED, "booking was not created");
   }
 
-  private boolean isBookingWithRangePresented(List<Booking> bookings, BookingDto bookingDto) {
-    return bookings.stream()
-        .anyMatch(booking -> booking.getStartTime().equals(bookingDto.getStartTime())
-            && booking.getEndTime().equals(bookingDto.getEndTime()));
+  private static boolean isNotInInterviewerSlot(InterviewerTimeSlot timeSlot,
+      BookingDto bookingDto) {
+    return !AvailabilityMask.covers(AvailabilityMask.of(timeSlot.getFrom(), timeSlot.getTo()),
+        AvailabilityMask.of(bookingDto.getStartTime(), bookingDto.getEndTime()));
   }
 
-  private List<Booking> allInterviewerBookingsForCurrentWeek(
-      InterviewerTimeSlot interviewerTimeSlot) {
-    return
-        bookingRepository.findAllByInterviewerTimeSlotUser(
-                interviewerTimeSlot.getUser())
-            .stream()
-            .filter(
-                timeSlot -> timeSlot.getInterviewerTimeSlot().getWeekNum().equals(weekNumberService
-                    .getCurrentWeekNumber().getWeekNum())).collect(Collectors.toList());
+  private void validateBookingLimit(User interviewer) {
+    Optional<BookingLimit> interviewerLimit = bookingLimitRepository.findByUser(interviewer);
+
+    if (interviewerLimit.isEmpty()) {
+      return;
+    }
+
+    int bookingLimit = interviewerLimit.get().getBookingLimit();
+    int currentBookings = bookingCounterService.getCount(interviewer,
+        weekNumberService.getCurrentWeekNumber().getWeekNum());
+
+    if (currentBookings > 0 && currentBookings >= bookingLimit) {
+      log.error("Cannot set more booking for interviewer than max booking limit {}",
+          bookingLimit);
+
+      throw new ValidationException(
+          String.format("cannot set more bookings for interviewer than max limit:%d",
+              bookingLimit), MAX_COUNT_OF_BOOKING);
+    }
   }
 
   /**
-   * Update booking for interview.
+   * Update booking for interview. Interviewers of both previous and new slot of booking
+   * are locked, counters are changed in the same transaction as booking and dashboard after
+   * it is committed.
    *
    * @param bookingId id of the booking which needs to update.
    * @param bookingDto the body of the booking which needs to update.
@@ -168,25 +416,30 @@ public class BookingService {
       BookingDto bookingDto) {
     log.info("Update booking with details {}", bookingDto);
 
+    return withBookingLocks(() -> {
+      Set<Long> interviewerIds = findInterviewerIds(bookingDto.getInterviewerTimeSlotId());
+      bookingRepository.findInterviewerIdById(bookingId).ifPresent(interviewerIds::add);
+      return interviewerIds;
+    }, Collections.singletonList(bookingDto.getCandidateTimeSlotId()), () -> {
+      BookingChange change = transactionTemplate.execute(status -> {
+        BookingChange savedChange = saveUpdatedBooking(bookingId, bookingDto);
+        updateBookingCounters(savedChange.getPreviousBooking().getInterviewerTimeSlot(),
+            savedChange.getBooking().getInterviewerTimeSlot());
+        return savedChange;
+      });
+      dashboardCacheService.bookingUpdated(change.getPreviousBooking(), change.getBooking());
+      bookingDto.setId(bookingId);
+      return bookingDto;
+    });
+  }
+
+  private BookingChange saveUpdatedBooking(Long bookingId, BookingDto bookingDto) {
+
     InterviewerTimeSlot interviewerTimeSlot = interviewerTimeSlotRepository
         .findById(bookingDto.getInterviewerTimeSlotId())
         .orElseThrow(SlotNotFoundException::new);
 
-    Optional<BookingLimit> interviewerLimit = bookingLimitRepository.findByUser(
-        interviewerTimeSlot.getUser());
-
-    List<Booking> currentInterviewerBookings = allInterviewerBookingsForCurrentWeek(
-        interviewerTimeSlot);
-
-    if (interviewerLimit.isPresent() && !currentInterviewerBookings.isEmpty()
-        && interviewerLimit.get().getBookingLimit() == currentInterviewerBookings.size()) {
-      log.error("Cannot set more booking for interviewer than max booking limit {}",
-          interviewerLimit.get().getBookingLimit());
-
-      throw new ValidationException(
-          String.format("cannot set more bookings for interviewer than max limit:%d",
-              interviewerLimit.get().getBookingLimit()), MAX_COUNT_OF_BOOKING);
-    }
+    validateBookingLimit(interviewerTimeSlot.getUser());
 
     Booking outdatedBooking = bookingRepository
         .findById(bookingId)
@@ -206,13 +459,14 @@ public class BookingService {
         .validateBookingTimeSlotBoundaries(bookingDto.getStartTime(),
           bookingDto.getEndTime());
 
-    validateBookingInInterviewerTimeSlot(bookingDto, candidateTimeSlot, interviewerTimeSlot,
-        outdatedBooking);
-
-    validateBookingInCandidateTimeSlot(bookingDto, candidateTimeSlot, outdatedBooking);
+    validateNoIntersection(
+        indexBookings(interviewerTimeSlot.getBookings(), candidateTimeSlot, outdatedBooking),
+        indexBookings(candidateTimeSlot.getBookings(), candidateTimeSlot, outdatedBooking),
+        bookingDto);
 
     validateDescriptionAndSubject(bookingDto.getDescription(), bookingDto.getSubject());
 
+    final Booking previousBooking = outdatedBooking.toBuilder().build();
 
     outdatedBooking.setCandidateTimeSlot(candidateTimeSlot);
     outdatedBooking.setInterviewerTimeSlot(interviewerTimeSlot);
@@ -223,62 +477,30 @@ public class BookingService {
     bookingRepository.save(outdatedBooking);
     log.info("Booking successfully updated with id {}", bookingId);
 
-
-    bookingDto.setId(bookingId);
-    return bookingDto;
+    return new BookingChange(previousBooking, outdatedBooking);
   }
 
-  private void validateBookingInCandidateTimeSlot(
-      BookingDto bookingDto,
-      CandidateTimeSlot candidateTimeSlot,
-      Booking outdatedBooking) {
-
-
-    List<Booking> bookings = candidateTimeSlot.getBookings();
-
-    bookings.remove(outdatedBooking);
-
-    if (bookings.stream()
+  private static BookingIntervalIndex indexBookings(List<Booking> bookings,
+      CandidateTimeSlot candidateTimeSlot, Booking outdatedBooking) {
+    return BookingIntervalIndex.of(bookings.stream()
+        .filter(booking -> !Objects.equals(booking.getId(), outdatedBooking.getId()))
         .filter(booking -> booking.getCandidateTimeSlot().getDate()
-            .equals(candidateTimeSlot.getDate()))
-        .anyMatch(booking -> validateBookingTime(booking, bookingDto))) {
-      throw new ValidationException(
-          "already exist booking that intersect given from/to in candidate",
-             INVALID_BOUNDARIES);
-    }
+            .equals(candidateTimeSlot.getDate())));
   }
 
-  private void validateBookingInInterviewerTimeSlot(
-      BookingDto bookingDto,
-      CandidateTimeSlot candidateTimeSlot,
-      InterviewerTimeSlot interviewerTimeSlot,
-      Booking outdatedBooking) {
-
-    List<Booking> bookings = interviewerTimeSlot
-        .getBookings();
-
-    bookings.remove(outdatedBooking);
-
-    if (bookings.stream()
-        .filter(booking -> booking.getCandidateTimeSlot().getDate()
-            .equals(candidateTimeSlot.getDate()))
-        .anyMatch(booking -> validateBookingTime(booking, bookingDto))) {
+  private void validateNoIntersection(BookingIntervalIndex interviewerBookings,
+      BookingIntervalIndex candidateBookings, BookingDto bookingDto) {
+    if (interviewerBookings.conflicts(bookingDto.getStartTime(), bookingDto.getEndTime())) {
       throw new ValidationException(
           "already exist booking that intersect given from/to in interviewer",
           INVALID_BOUNDARIES);
     }
-  }
 
-  private boolean validateBookingTime(Booking booking,
-      BookingDto bookingDto) {
-    LocalTime startTarget = bookingDto.getStartTime();
-    LocalTime endTarget = bookingDto.getEndTime();
-
-    return (booking.getStartTime().minusMinutes(30L).isBefore(startTarget)
-        && booking.getEndTime().isAfter(startTarget)
-      || (booking.getStartTime().isBefore(endTarget)
-        && booking.getEndTime().plusMinutes(30L).isAfter(endTarget))
-      || (booking.getStartTime().equals(startTarget) && booking.getEndTime().equals(endTarget)));
+    if (candidateBookings.conflicts(bookingDto.getStartTime(), bookingDto.getEndTime())) {
+      throw new ValidationException(
+          "already exist booking that intersect given from/to in candidate",
+          INVALID_BOUNDARIES);
+    }
   }
 
   /**
@@ -307,22 +529,152 @@ public class BookingService {
 
 
 
+  private void updateBookingCounters(InterviewerTimeSlot previousSlot,
+      InterviewerTimeSlot currentSlot) {
+    if (Objects.equals(previousSlot.getUser(), currentSlot.getUser())
+        && Objects.equals(previousSlot.getWeekNum(), currentSlot.getWeekNum())) {
+      return;
+    }
+
+    bookingCounterService.bookingRemoved(previousSlot.getUser(), previousSlot.getWeekNum());
+    bookingCounterService.bookingAdded(currentSlot.getUser(), currentSlot.getWeekNum());
+  }
+
   /**
-   * Delete booking.
+   * Delete booking. Booking is deleted under lock of its interviewer, counter is changed in
+   * the same transaction and dashboard after booking is committed.
    *
    * @param bookingId id of the booking which needs to delete.
    *
    *
    */
   public void deleteBooking(Long bookingId) {
-    Booking outdatedBooking = bookingRepository
-        .findById(bookingId)
-        .orElseThrow(BookingNotFoundException::new);
+    withBookingLocks(() -> bookingRepository.findInterviewerIdById(bookingId)
+        .map(Set::of)
+        .orElseGet(Set::of), Collections.emptyList(), () -> {
+          Booking outdatedBooking = transactionTemplate.execute(status -> {
+            Booking booking = bookingRepository
+                .findById(bookingId)
+                .orElseThrow(BookingNotFoundException::new);
+
+            bookingRepository.delete(booking);
+            bookingCounterService.bookingRemoved(booking.getInterviewerTimeSlot().getUser(),
+                booking.getInterviewerTimeSlot().getWeekNum());
+            return booking;
+          });
+
+          dashboardCacheService.bookingDeleted(outdatedBooking);
+          return outdatedBooking;
+        });
+  }
+
+  /**
+   * Booking before and after update.
+   */
+  @Getter
+  @AllArgsConstructor
+  private static class BookingChange {
 
-    bookingRepository.delete(outdatedBooking);
+    private final Booking previousBooking;
+    private final Booking booking;
   }
-}
 
+  /**
+   * Slots, limits and bookings referenced by batch, loaded in bulk and updated with
+   * bookings accepted from batch.
+   */
+  private class BookingBatch {
+
+    private final Map<Long, InterviewerTimeSlot> interviewerSlots;
+    private final Map<Long, CandidateTimeSlot> candidateSlots;
+    private final Map<Long, Integer> limits = new HashMap<>();
+    private final Map<Long, Integer> bookingCounts = new HashMap<>();
+    private final Map<Long, BookingIntervalIndex> interviewerSlotBookings = new HashMap<>();
+    private final Map<Long, BookingIntervalIndex> candidateSlotBookings = new HashMap<>();
+    private final int currentWeekNum;
+
+    BookingBatch(Set<Long> interviewerSlotIds, Set<Long> candidateSlotIds) {
+      interviewerSlots = interviewerSlotIds.isEmpty() ? Map.of()
+          : interviewerTimeSlotRepository.findAllWithBookingsByIdIn(interviewerSlotIds).stream()
+              .collect(Collectors.toMap(InterviewerTimeSlot::getId, Function.identity()));
+      candidateSlots = candidateSlotIds.isEmpty() ? Map.of()
+          : candidateTimeSlotRepository.findAllWithBookingsByIdIn(candidateSlotIds).stream()
+              .collect(Collectors.toMap(CandidateTimeSlot::getId, Function.identity()));
+      currentWeekNum = weekNumberService.getCurrentWeekNumber().getWeekNum();
+
+      Set<User> interviewers = interviewerSlots.values().stream()
+          .map(InterviewerTimeSlot::getUser)
+          .collect(Collectors.toSet());
+
+      if (!interviewers.isEmpty()) {
+        bookingLimitRepository.findAllByUserIn(interviewers)
+            .forEach(limit -> limits.put(limit.getUser().getId(), limit.getBookingLimit()));
+      }
+
+      Set<User> limitedInterviewers = interviewers.stream()
+          .filter(interviewer -> limits.containsKey(interviewer.getId()))
+          .collect(Collectors.toSet());
+
+      if (!limitedInterviewers.isEmpty()) {
+        bookingCounts.putAll(bookingCounterService.getCounts(limitedInterviewers,
+            currentWeekNum));
+      }
+    }
+
+    Booking accept(BookingDto bookingDto) {
+      InterviewerTimeSlot interviewerTimeSlot = Optional.ofNullable(
+              interviewerSlots.get(bookingDto.getInterviewerTimeSlotId()))
+          .orElseThrow(SlotNotFoundException::new);
+
+      Long interviewerId = interviewerTimeSlot.getUser().getId();
+      Integer limit = limits.get(interviewerId);
+      int bookingCount = bookingCounts.getOrDefault(interviewerId, 0);
+
+      if (limit != null && bookingCount > 0 && bookingCount >= limit) {
+        throw new ValidationException(
+            String.format("cannot set more bookings for interviewer than max limit:%d", limit),
+            MAX_COUNT_OF_BOOKING);
+      }
 
+      CandidateTimeSlot candidateTimeSlot = Optional.ofNullable(
+              candidateSlots.get(bookingDto.getCandidateTimeSlotId()))
+          .orElseThrow(SlotNotFoundException::new);
 
+      timeSlotValidationService.validateBookingTimeSlotBoundaries(bookingDto.getStartTime(),
+          bookingDto.getEndTime());
 
+      if (isNotInInterviewerSlot(interviewerTimeSlot, bookingDto)) {
+        throw new ValidationException("from/to does not fit into interviewer time slot",
+            INVALID_BOUNDARIES);
+      }
+
+      BookingIntervalIndex interviewerBookings = interviewerSlotBookings.computeIfAbsent(
+          interviewerTimeSlot.getId(),
+          id -> BookingIntervalIndex.of(interviewerTimeSlot.getBookings().stream()));
+      BookingIntervalIndex candidateBookings = candidateSlotBookings.computeIfAbsent(
+          candidateTimeSlot.getId(),
+          id -> BookingIntervalIndex.of(candidateTimeSlot.getBookings().stream()));
+
+      validateNoIntersection(interviewerBookings, candidateBookings, bookingDto);
+
+      validateDescriptionAndSubject(bookingDto.getDescription(), bookingDto.getSubject());
+
+      Booking booking = Booking.builder()
+          .startTime(bookingDto.getStartTime())
+          .endTime(bookingDto.getEndTime())
+          .candidateTimeSlot(candidateTimeSlot)
+          .interviewerTimeSlot(interviewerTimeSlot)
+          .subject(bookingDto.getSubject())
+          .description(bookingDto.getDescription())
+          .build();
+
+      interviewerBookings.add(booking.getStartTime(), booking.getEndTime());
+      candidateBookings.add(booking.getStartTime(), booking.getEndTime());
+      if (interviewerTimeSlot.getWeekNum() == currentWeekNum) {
+        bookingCounts.merge(interviewerId, 1, Integer::sum);
+      }
+
+      return booking;
+    }
+  }
+}
@@ -0,0 +1,196 @@
+package com.intellias.intellistart.interviewplanning.service;
+
+import com.intellias.intellistart.interviewplanning.exceptions.SlotNotFoundException;
+import com.intellias.intellistart.interviewplanning.model.Booking;
+import com.intellias.intellistart.interviewplanning.model.InterviewDayOfWeek;
+import com.intellias.intellistart.interviewplanning.model.User;
+import com.intellias.intellistart.interviewplanning.model.slot.CandidateTimeSlot;
+import com.intellias.intellistart.interviewplanning.model.slot.InterviewerTimeSlot;
+import com.intellias.intellistart.interviewplanning.repository.BookingLimitRepository;
+import com.intellias.intellistart.interviewplanning.repository.CandidateTimeSlotRepository;
+import com.intellias.intellistart.interviewplanning.repository.InterviewerTimeSlotRepository;
+import com.intellias.intellistart.interviewplanning.service.dto.CandidateSlotMatchDto;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * It is service for matching candidate slot with free time of interviewers.
+ */
+@Service
+@Slf4j
+@AllArgsConstructor
+public class CandidateMatchService {
+
+  private static final int TIME_STEP_MINUTES = 30;
+
+  @Value("${interview.duration_minutes}")
+  private Integer interviewDuration;
+
+  private CandidateTimeSlotRepository candidateTimeSlotRepository;
+  private InterviewerTimeSlotRepository interviewerTimeSlotRepository;
+  private BookingLimitRepository bookingLimitRepository;
+  private BookingCounterService bookingCounterService;
+  private GetWeekNumberService weekService;
+  private InterviewerSlotTemplateService slotTemplateService;
+
+  /**
+   * Get free ranges of interviewer slots where interview with candidate fits. Each range
+   * lies inside both slots, does not intersect bookings of interviewer or candidate and
+   * is not shorter than interview. Interviewers who reached their booking limit are skipped.
+   *
+   * @param candidateSlotId id of candidate slot
+   * @return free ranges sorted by start
+   */
+  public List<CandidateSlotMatchDto> getMatches(long candidateSlotId) {
+    CandidateTimeSlot candidateSlot = candidateTimeSlotRepository
+        .findAllWithBookingsByIdIn(List.of(candidateSlotId)).stream()
+        .findAny()
+        .orElseThrow(SlotNotFoundException::new);
+
+    Optional<InterviewDayOfWeek> dayOfWeek = Arrays.stream(InterviewDayOfWeek.values())
+        .filter(day -> InterviewDayOfWeek.convertToDayOfWeek(day)
+            .equals(candidateSlot.getDate().getDayOfWeek()))
+        .findAny();
+
+    if (dayOfWeek.isEmpty()) {
+      return List.of();
+    }
+
+    int weekNum = weekService.getWeekNumForDate(candidateSlot.getDate());
+    slotTemplateService.materializeWeek(weekNum);
+    List<InterviewerTimeSlot> interviewerSlots = interviewerTimeSlotRepository
+        .findAllWithBookingsByWeekNumAndDayOfWeek(weekNum, dayOfWeek.get());
+    Set<Long> fullInterviewers = findInterviewersWithoutFreeBookings(interviewerSlots);
+    List<int[]> candidateBookings = toSortedRanges(candidateSlot.getBookings());
+
+    List<CandidateSlotMatchDto> matches = new ArrayList<>();
+    for (InterviewerTimeSlot interviewerSlot : interviewerSlots) {
+      if (!fullInterviewers.contains(interviewerSlot.getUser().getId())) {
+        addFreeRanges(matches, candidateSlot, candidateBookings, interviewerSlot);
+      }
+    }
+
+    matches.sort(Comparator.comparing(CandidateSlotMatchDto::getFrom)
+        .thenComparing(CandidateSlotMatchDto::getInterviewerEmail));
+
+    log.info("Found {} matches for candidate slot {} among {} interviewer slots",
+        matches.size(), candidateSlotId, interviewerSlots.size());
+
+    return matches;
+  }
+
+  private Set<Long> findInterviewersWithoutFreeBookings(List<InterviewerTimeSlot> slots) {
+    Set<User> interviewers = slots.stream()
+        .map(InterviewerTimeSlot::getUser)
+        .collect(Collectors.toSet());
+
+    if (interviewers.isEmpty()) {
+      return Set.of();
+    }
+
+    Map<Long, Integer> limits = new HashMap<>();
+    bookingLimitRepository.findAllByUserIn(interviewers)
+        .forEach(limit -> limits.put(limit.getUser().getId(), limit.getBookingLimit()));
+
+    Set<User> limitedInterviewers = interviewers.stream()
+        .filter(interviewer -> limits.containsKey(interviewer.getId()))
+        .collect(Collectors.toSet());
+
+    if (limitedInterviewers.isEmpty()) {
+      return Set.of();
+    }
+
+    Map<Long, Integer> counts = bookingCounterService.getCounts(limitedInterviewers,
+        weekService.getCurrentWeekNumber().getWeekNum());
+
+    return limits.entrySet().stream()
+        .filter(limit -> {
+          int count = counts.getOrDefault(limit.getKey(), 0);
+          return count > 0 && count >= limit.getValue();
+        })
+        .map(Map.Entry::getKey)
+        .collect(Collectors.toSet());
+  }
+
+  /**
+   * Sweep both sorted lists of bookings from start of common range, each gap between
+   * bookings that fits interview is free range.
+   */
+  private void addFreeRanges(List<CandidateSlotMatchDto> matches,
+      CandidateTimeSlot candidateSlot, List<int[]> candidateBookings,
+      InterviewerTimeSlot interviewerSlot) {
+    int from = Math.max(toMinutes(candidateSlot.getFrom()), toMinutes(interviewerSlot.getFrom()));
+    int to = Math.min(toMinutes(candidateSlot.getTo()), toMinutes(interviewerSlot.getTo()));
+
+    if (to - from < interviewDuration) {
+      return;
+    }
+
+    List<int[]> interviewerBookings = toSortedRanges(interviewerSlot.getBookings());
+    int candidateIndex = 0;
+    int interviewerIndex = 0;
+    int freeFrom = from;
+
+    while (freeFrom < to) {
+      int[] next = null;
+      if (candidateIndex < candidateBookings.size()) {
+        next = candidateBookings.get(candidateIndex);
+      }
+      if (interviewerIndex < interviewerBookings.size()
+          && (next == null || interviewerBookings.get(interviewerIndex)[0] < next[0])) {
+        next = interviewerBookings.get(interviewerIndex++);
+      } else if (next != null) {
+        candidateIndex++;
+      }
+
+      int freeTo = next == null ? to : Math.min(next[0], to);
+      addFreeRange(matches, candidateSlot, interviewerSlot, freeFrom, freeTo);
+
+      if (next == null) {
+        break;
+      }
+      freeFrom = Math.max(freeFrom, next[1]);
+    }
+  }
+
+  private void addFreeRange(List<CandidateSlotMatchDto> matches,
+      CandidateTimeSlot candidateSlot, InterviewerTimeSlot interviewerSlot, int from, int to) {
+    int roundedFrom = Math.floorDiv(from + TIME_STEP_MINUTES - 1, TIME_STEP_MINUTES)
+        * TIME_STEP_MINUTES;
+    int roundedTo = Math.floorDiv(to, TIME_STEP_MINUTES) * TIME_STEP_MINUTES;
+
+    if (roundedTo - roundedFrom >= interviewDuration) {
+      matches.add(CandidateSlotMatchDto.builder()
+          .interviewerSlotId(interviewerSlot.getId())
+          .interviewerEmail(interviewerSlot.getUser().getEmail())
+          .date(candidateSlot.getDate())
+          .from(LocalTime.MIN.plusMinutes(roundedFrom))
+          .to(LocalTime.MIN.plusMinutes(roundedTo))
+          .build());
+    }
+  }
+
+  private static List<int[]> toSortedRanges(List<Booking> bookings) {
+    return bookings.stream()
+        .map(booking -> new int[] {toMinutes(booking.getStartTime()),
+            toMinutes(booking.getEndTime())})
+        .sorted(Comparator.comparingInt(range -> range[0]))
+        .collect(Collectors.toList());
+  }
+
+  private static int toMinutes(LocalTime time) {
+    return time.toSecondOfDay() / 60;
+  }
+}
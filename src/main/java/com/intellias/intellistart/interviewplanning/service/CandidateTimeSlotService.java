@@ -28,6 +28,8 @@ public class CandidateTimeSlotService {
 
   @Autowired
   private CandidateTimeSlotRepository candidateTimeSlotRepository;
+  @Autowired
+  private DashboardCacheService dashboardCacheService;
 
   /**
    * Create time slot for Candidate.
@@ -42,14 +44,16 @@ public class CandidateTimeSlotService {
   public CandidateTimeSlot createSlot(String candidateEmail, LocalDate date,
       LocalTime from, LocalTime to) {
     validateTimeSlot(date, from, to);
-    validateSlotIsNotOverlapping(candidateEmail, date, from, to);
-    return candidateTimeSlotRepository.save(CandidateTimeSlot.builder()
+    validateSlotIsNotOverlapping(candidateEmail, date, from, to, null);
+    CandidateTimeSlot savedSlot = candidateTimeSlotRepository.save(CandidateTimeSlot.builder()
         .date(date)
         .from(from)
         .to(to)
         .slotStatus(TimeSlotStatus.NEW)
         .email(candidateEmail)
         .build());
+    dashboardCacheService.candidateSlotCreated(savedSlot);
+    return savedSlot;
   }
 
   /**
@@ -74,11 +78,14 @@ public class CandidateTimeSlotService {
         .findById(id)
         .orElseThrow(SlotNotFoundException::new);
     validateSlotIsNotOverlapping(candidateTimeSlot.getEmail(), newSlotValue.getDate(),
-            newSlotValue.getFrom(), newSlotValue.getTo());
+            newSlotValue.getFrom(), newSlotValue.getTo(), id);
+    final LocalDate previousDate = candidateTimeSlot.getDate();
     candidateTimeSlot.setDate(newSlotValue.getDate());
     candidateTimeSlot.setFrom(newSlotValue.getFrom());
     candidateTimeSlot.setTo(newSlotValue.getTo());
-    return candidateTimeSlotRepository.save(candidateTimeSlot);
+    CandidateTimeSlot savedSlot = candidateTimeSlotRepository.save(candidateTimeSlot);
+    dashboardCacheService.candidateSlotUpdated(previousDate, savedSlot);
+    return savedSlot;
   }
 
   /**
@@ -110,7 +117,8 @@ public class CandidateTimeSlotService {
 
     if (start.isAfter(LocalTime.of(22, 0)) || start.isBefore(LocalTime.of(8, 0))
         || end.isAfter(LocalTime.of(22, 0)) || end.isBefore(LocalTime.of(8, 0))
-        || start.getMinute() % 30 != 0 || end.getMinute() % 30 != 0 || start.isAfter(end)) {
+        || !AvailabilityMask.isOnGrid(start) || !AvailabilityMask.isOnGrid(end)
+        || start.isAfter(end)) {
       throw new InvalidTimeSlotBoundariesException(start + "; " + end);
     }
 
@@ -120,24 +128,24 @@ public class CandidateTimeSlotService {
   }
 
   /**
-   * Validate candidate for time slot.
+   * Validate candidate for time slot. Slots overlap if their masks on grid of ticks intersect.
    *
    * @param candidateEmail email of candidate
    * @param date           available date for time slot
    * @param start          start time of time slot
    * @param end            end time of time slot
+   * @param slotId         id of slot which is updated, null for new slot
    */
   private void validateSlotIsNotOverlapping(String candidateEmail,
-      LocalDate date, LocalTime start, LocalTime end) {
-    List<CandidateTimeSlot> slotList = candidateTimeSlotRepository
-        .findByDateAndEmail(date, candidateEmail);
+      LocalDate date, LocalTime start, LocalTime end, Long slotId) {
+    long range = AvailabilityMask.of(start, end);
 
-    Optional<CandidateTimeSlot> overlappingSlot = slotList
+    Optional<CandidateTimeSlot> overlappingSlot = candidateTimeSlotRepository
+        .findByDateAndEmail(date, candidateEmail)
         .stream()
-        .filter(slot -> (start.equals(slot.getFrom()) && end.equals(slot.getTo()) && date.equals(
-            slot.getDate())) || (start.isAfter(slot.getFrom()) && start.isBefore(slot.getTo()))
-            || (end.isAfter(slot.getFrom()) && end.isBefore(slot.getTo()))
-            || (start.isBefore(slot.getFrom()) && end.isAfter(slot.getTo())))
+        .filter(slot -> slotId == null || !slotId.equals(slot.getId()))
+        .filter(slot -> AvailabilityMask.intersects(range,
+            AvailabilityMask.of(slot.getFrom(), slot.getTo())))
         .findAny();
     if (overlappingSlot.isPresent()) {
       throw new SlotIsOverlappingException(overlappingSlot.get().getId());
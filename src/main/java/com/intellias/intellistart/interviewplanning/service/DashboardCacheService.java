@@ -0,0 +1,707 @@
+package com.intellias.intellistart.interviewplanning.service;
+
+import static com.intellias.intellistart.interviewplanning.service.DashboardService.mapCandidateTimeSlotToTimeSlot;
+import static com.intellias.intellistart.interviewplanning.service.DashboardService.mapInterviewerTimeSlotToTimeSlot;
+import static com.intellias.intellistart.interviewplanning.service.InterviewerTimeSlotService.buildBookingDto;
+
+import com.intellias.intellistart.interviewplanning.exceptions.WeekNumberNotAcceptableException;
+import com.intellias.intellistart.interviewplanning.model.Booking;
+import com.intellias.intellistart.interviewplanning.model.InterviewDayOfWeek;
+import com.intellias.intellistart.interviewplanning.model.slot.CandidateTimeSlot;
+import com.intellias.intellistart.interviewplanning.model.slot.InterviewerTimeSlot;
+import com.intellias.intellistart.interviewplanning.service.dto.BookingDto;
+import com.intellias.intellistart.interviewplanning.service.dto.DashboardChangesDto;
+import com.intellias.intellistart.interviewplanning.service.dto.DashboardDto;
+import com.intellias.intellistart.interviewplanning.service.dto.DashboardDto.DashboardDay;
+import com.intellias.intellistart.interviewplanning.service.dto.DashboardDto.TimeSlot;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * It is service which keeps materialized dashboard per week.
+ * Cached dashboards are never changed: every mutation replaces them with a patched copy,
+ * so readers always see consistent snapshot.
+ * Every mutation also increments version of week. Versions start from application start time,
+ * so they keep growing across restarts. Items touched by each version are kept in bounded
+ * change log of week, so clients can fetch only changes since version they already have.
+ * New version of week is announced with {@link DashboardChangedEvent}.
+ * Mutation made inside transaction is applied only after it is committed, so version of week
+ * never runs ahead of committed data, and rolled back changes never reach dashboard.
+ * Reader may load committed change before it is applied, so patches are idempotent.
+ * Only week numbers which exist in year are cached, so cache stays bounded whatever
+ * week numbers are requested.
+ */
+@Service
+@Slf4j
+@AllArgsConstructor
+public class DashboardCacheService {
+
+  private static final int MAX_LOGGED_VERSIONS = 1000;
+  private static final int MIN_WEEK_NUM = 1;
+  private static final int MAX_WEEK_NUM = 53;
+
+  private final Map<Integer, WeekState> weeks = new ConcurrentHashMap<>();
+  private final Map<Integer, ChangeLog> changeLogs = new ConcurrentHashMap<>();
+  private final Map<Integer, InFlightLoad> loads = new ConcurrentHashMap<>();
+  private final long initialVersion = System.currentTimeMillis();
+
+  private GetWeekNumberService weekService;
+  private ApplicationEventPublisher eventPublisher;
+
+  /**
+   * Get materialized dashboard for week or load it if it is not cached yet.
+   * Loaded dashboard is cached only if week was not changed while it was loading.
+   *
+   * @param weekNum for which to get dashboard
+   * @param loader  to build dashboard from database
+   * @return dashboard
+   */
+  public DashboardDto getDashboard(int weekNum, IntFunction<DashboardDto> loader) {
+    return getSnapshot(weekNum, loader).getDashboard();
+  }
+
+  /**
+   * Get dashboard for week together with version it reflects.
+   * Dashboard loaded from database may already contain changes made after that version.
+   * Concurrent calls for same version of week share one load.
+   *
+   * @param weekNum for which to get dashboard
+   * @param loader  to build dashboard from database
+   * @return dashboard with its version
+   */
+  public DashboardSnapshot getSnapshot(int weekNum, IntFunction<DashboardDto> loader) {
+    WeekState state = getState(weekNum);
+
+    if (state.getDashboard() != null) {
+      return new DashboardSnapshot(state.getVersion(), state.getDashboard());
+    }
+
+    InFlightLoad ownLoad = new InFlightLoad(state.getVersion(), new CompletableFuture<>());
+    InFlightLoad load = loads.compute(weekNum, (week, currentLoad) ->
+        currentLoad != null && currentLoad.getVersion() == state.getVersion()
+            ? currentLoad : ownLoad);
+
+    if (load != ownLoad) {
+      log.debug("Waiting for dashboard of weekNum {} loaded by another request", weekNum);
+      try {
+        return load.getSnapshot().join();
+      } catch (CompletionException e) {
+        throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+      }
+    }
+
+    try {
+      DashboardDto loadedDashboard = loader.apply(weekNum);
+      cacheLoadedDashboard(weekNum, state.getVersion(), loadedDashboard);
+
+      DashboardSnapshot snapshot = new DashboardSnapshot(state.getVersion(), loadedDashboard);
+      ownLoad.getSnapshot().complete(snapshot);
+      return snapshot;
+    } catch (RuntimeException e) {
+      ownLoad.getSnapshot().completeExceptionally(e);
+      throw e;
+    } finally {
+      loads.remove(weekNum, ownLoad);
+    }
+  }
+
+  /**
+   * Get materialized dashboards for several weeks. Weeks which are not cached yet are loaded
+   * together by one call of loader. Loaded dashboard is cached only if its week was not changed
+   * while it was loading.
+   *
+   * @param weekNums for which to get dashboards
+   * @param loader   to build dashboards of not cached weeks from database
+   * @return dashboards keyed by week number in order of given weeks
+   */
+  public Map<Integer, DashboardDto> getDashboards(List<Integer> weekNums,
+      Function<Collection<Integer>, Map<Integer, DashboardDto>> loader) {
+    Map<Integer, WeekState> states = new LinkedHashMap<>();
+    weekNums.forEach(weekNum -> states.put(weekNum, getState(weekNum)));
+
+    List<Integer> notCachedWeekNums = states.entrySet().stream()
+        .filter(entry -> entry.getValue().getDashboard() == null)
+        .map(Map.Entry::getKey)
+        .collect(Collectors.toList());
+    Map<Integer, DashboardDto> loadedDashboards = notCachedWeekNums.isEmpty()
+        ? Map.of() : loader.apply(notCachedWeekNums);
+
+    Map<Integer, DashboardDto> dashboards = new LinkedHashMap<>();
+    states.forEach((weekNum, state) -> {
+      if (state.getDashboard() != null) {
+        dashboards.put(weekNum, state.getDashboard());
+        return;
+      }
+      DashboardDto loadedDashboard = loadedDashboards.get(weekNum);
+      cacheLoadedDashboard(weekNum, state.getVersion(), loadedDashboard);
+      dashboards.put(weekNum, loadedDashboard);
+    });
+    return dashboards;
+  }
+
+  /**
+   * Get version of week, which is changed on every mutation touching this week.
+   *
+   * @param weekNum for which to get version
+   * @return version of week
+   */
+  public long getVersion(int weekNum) {
+    return getState(weekNum).getVersion();
+  }
+
+  /**
+   * Get slots and bookings of week changed since given version. Changed items are taken from
+   * current dashboard, items which are not there anymore are reported as removed.
+   * Whole dashboard is returned with resync flag if changes since version are not known,
+   * e.g. they were dropped from change log or week was rebuilt.
+   *
+   * @param weekNum for which to get changes
+   * @param since   version of dashboard client already has
+   * @param loader  to build dashboard from database
+   * @return changes since version
+   */
+  public DashboardChangesDto getChanges(int weekNum, long since,
+      IntFunction<DashboardDto> loader) {
+    DashboardSnapshot snapshot = getSnapshot(weekNum, loader);
+    ChangeLog changeLog = getChangeLog(weekNum);
+    Set<ChangedItem> changedItems = new HashSet<>();
+
+    synchronized (changeLog) {
+      if (since < changeLog.getHistoryStart() || since > snapshot.getVersion()) {
+        log.info("Changes of weekNum {} since version {} are not known, sending whole dashboard",
+            weekNum, since);
+        return DashboardChangesDto.builder()
+            .version(snapshot.getVersion())
+            .resync(true)
+            .days(snapshot.getDashboard().getDays())
+            .removedInterviewerSlots(Collections.emptySet())
+            .removedCandidateSlots(Collections.emptySet())
+            .removedBookings(Collections.emptySet())
+            .build();
+      }
+
+      changeLog.getVersions().tailMap(since, false).values().forEach(changedItems::addAll);
+    }
+
+    return collectChanges(snapshot, changedItems);
+  }
+
+  /**
+   * Add created interviewer time slot to dashboard.
+   *
+   * @param slot created interviewer time slot
+   */
+  public void interviewerSlotCreated(InterviewerTimeSlot slot) {
+    patch(slot.getWeekNum(), Set.of(interviewerSlotItem(slot.getId())),
+        dashboard -> replaceInterviewerSlot(dashboard, slot));
+  }
+
+  /**
+   * Move updated interviewer time slot together with its bookings in dashboard.
+   * If slot was moved to another week, that week is rebuilt on next read.
+   *
+   * @param previousWeekNum week number of slot before update
+   * @param slot            updated interviewer time slot
+   */
+  public void interviewerSlotUpdated(int previousWeekNum, InterviewerTimeSlot slot) {
+    Set<ChangedItem> changedItems = Set.of(interviewerSlotItem(slot.getId()));
+
+    if (previousWeekNum != slot.getWeekNum()) {
+      patch(previousWeekNum, changedItems,
+          dashboard -> removeInterviewerSlot(dashboard, slot.getId()));
+      evict(slot.getWeekNum());
+      return;
+    }
+
+    patch(slot.getWeekNum(), changedItems, dashboard -> replaceInterviewerSlot(dashboard, slot));
+  }
+
+  /**
+   * Add created candidate time slot to dashboard.
+   *
+   * @param slot created candidate time slot
+   */
+  public void candidateSlotCreated(CandidateTimeSlot slot) {
+    patch(weekService.getWeekNumForDate(slot.getDate()), Set.of(candidateSlotItem(slot.getId())),
+        dashboard -> replaceCandidateSlot(dashboard, slot));
+  }
+
+  /**
+   * Move updated candidate time slot in dashboard.
+   * If slot was moved to another week, that week is rebuilt on next read.
+   *
+   * @param previousDate date of slot before update
+   * @param slot         updated candidate time slot
+   */
+  public void candidateSlotUpdated(LocalDate previousDate, CandidateTimeSlot slot) {
+    int previousWeekNum = weekService.getWeekNumForDate(previousDate);
+    int weekNum = weekService.getWeekNumForDate(slot.getDate());
+    Set<ChangedItem> changedItems = Set.of(candidateSlotItem(slot.getId()));
+
+    if (previousWeekNum != weekNum) {
+      patch(previousWeekNum, changedItems,
+          dashboard -> removeCandidateSlot(dashboard, slot.getId()));
+      evict(weekNum);
+      return;
+    }
+
+    patch(weekNum, changedItems, dashboard -> replaceCandidateSlot(dashboard, slot));
+  }
+
+  /**
+   * Add created booking to dashboard.
+   *
+   * @param booking created booking
+   */
+  public void bookingCreated(Booking booking) {
+    Set<ChangedItem> changedItems = itemsOf(booking);
+
+    for (int weekNum : weeksOf(booking)) {
+      patch(weekNum, changedItems, dashboard -> {
+        removeBooking(dashboard, booking.getId());
+        addBooking(dashboard, weekNum, booking);
+      });
+    }
+  }
+
+  /**
+   * Replace updated booking in dashboard.
+   *
+   * @param previousBooking state of booking before update
+   * @param booking         updated booking
+   */
+  public void bookingUpdated(Booking previousBooking, Booking booking) {
+    Set<Integer> weekNums = weeksOf(previousBooking);
+    weekNums.addAll(weeksOf(booking));
+    Set<ChangedItem> changedItems = itemsOf(previousBooking);
+    changedItems.addAll(itemsOf(booking));
+
+    for (int weekNum : weekNums) {
+      patch(weekNum, changedItems, dashboard -> {
+        removeBooking(dashboard, previousBooking.getId());
+        addBooking(dashboard, weekNum, booking);
+      });
+    }
+  }
+
+  /**
+   * Remove deleted booking from dashboard.
+   *
+   * @param booking deleted booking
+   */
+  public void bookingDeleted(Booking booking) {
+    Set<ChangedItem> changedItems = itemsOf(booking);
+
+    for (int weekNum : weeksOf(booking)) {
+      patch(weekNum, changedItems, dashboard -> removeBooking(dashboard, booking.getId()));
+    }
+  }
+
+  /**
+   * Drop all materialized dashboards, e.g. after bulk changes.
+   */
+  public void invalidateAll() {
+    afterCommit(() -> {
+      log.info("Invalidating all materialized dashboards");
+      weeks.keySet().forEach(this::applyEviction);
+    });
+  }
+
+  private void cacheLoadedDashboard(int weekNum, long version, DashboardDto loadedDashboard) {
+    weeks.computeIfPresent(weekNum, (week, cachedState) -> {
+      if (cachedState.getDashboard() != null || cachedState.getVersion() != version) {
+        return cachedState;
+      }
+      return new WeekState(cachedState.getVersion(), loadedDashboard);
+    });
+  }
+
+  private WeekState getState(int weekNum) {
+    if (weekNum < MIN_WEEK_NUM || weekNum > MAX_WEEK_NUM) {
+      throw new WeekNumberNotAcceptableException(MIN_WEEK_NUM, MAX_WEEK_NUM);
+    }
+    return weeks.computeIfAbsent(weekNum, week -> new WeekState(initialVersion, null));
+  }
+
+  private ChangeLog getChangeLog(int weekNum) {
+    return changeLogs.computeIfAbsent(weekNum, week -> new ChangeLog(initialVersion));
+  }
+
+  /**
+   * Run change of cache after current transaction is committed, or right away if there is
+   * no transaction. Change is dropped if transaction is rolled back.
+   */
+  private static void afterCommit(Runnable change) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      change.run();
+      return;
+    }
+
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        change.run();
+      }
+    });
+  }
+
+  private void evict(int weekNum) {
+    afterCommit(() -> applyEviction(weekNum));
+  }
+
+  private void applyEviction(int weekNum) {
+    WeekState evictedState = weeks.compute(weekNum, (week, state) -> {
+      long version = (state == null ? initialVersion : state.getVersion()) + 1;
+      getChangeLog(week).reset(version);
+      return new WeekState(version, null);
+    });
+
+    eventPublisher.publishEvent(new DashboardChangedEvent(weekNum, evictedState.getVersion()));
+  }
+
+  private void patch(int weekNum, Set<ChangedItem> changedItems,
+      Consumer<DashboardDto> patcher) {
+    afterCommit(() -> applyPatch(weekNum, changedItems, patcher));
+  }
+
+  private void applyPatch(int weekNum, Set<ChangedItem> changedItems,
+      Consumer<DashboardDto> patcher) {
+    WeekState patchedState = weeks.compute(weekNum, (week, state) -> {
+      long version = (state == null ? initialVersion : state.getVersion()) + 1;
+      getChangeLog(week).add(version, changedItems);
+
+      if (state == null || state.getDashboard() == null) {
+        return new WeekState(version, null);
+      }
+
+      log.debug("Patching materialized dashboard for weekNum {}", week);
+
+      DashboardDto patchedDashboard = copyOf(state.getDashboard());
+      patcher.accept(patchedDashboard);
+      return new WeekState(version, patchedDashboard);
+    });
+
+    eventPublisher.publishEvent(new DashboardChangedEvent(weekNum, patchedState.getVersion()));
+  }
+
+  private static DashboardChangesDto collectChanges(DashboardSnapshot snapshot,
+      Set<ChangedItem> changedItems) {
+    Set<Long> removedInterviewerSlots = idsOf(changedItems, ItemType.INTERVIEWER_SLOT);
+    Set<Long> removedCandidateSlots = idsOf(changedItems, ItemType.CANDIDATE_SLOT);
+    Set<Long> removedBookings = idsOf(changedItems, ItemType.BOOKING);
+    List<DashboardDay> changedDays = new ArrayList<>();
+
+    for (DashboardDay day : snapshot.getDashboard().getDays()) {
+      List<TimeSlot> interviewerSlots = day.getInterviewerSlots().stream()
+          .filter(slot -> removedInterviewerSlots.remove(slot.getId()))
+          .collect(Collectors.toList());
+      final List<TimeSlot> candidateSlots = day.getCandidateSlots().stream()
+          .filter(slot -> removedCandidateSlots.remove(slot.getId()))
+          .collect(Collectors.toList());
+
+      // changed interviewer slot carries its bookings, as they move together with it
+      Set<Long> changedBookings = interviewerSlots.stream()
+          .flatMap(slot -> slot.getBookings().stream())
+          .collect(Collectors.toSet());
+      changedBookings.addAll(removedBookings);
+
+      Map<Long, BookingDto> bookings = new HashMap<>();
+      changedBookings.stream()
+          .filter(day.getBookings()::containsKey)
+          .forEach(bookingId -> bookings.put(bookingId, day.getBookings().get(bookingId)));
+      removedBookings.removeAll(bookings.keySet());
+
+      if (!interviewerSlots.isEmpty() || !candidateSlots.isEmpty() || !bookings.isEmpty()) {
+        changedDays.add(DashboardDay.builder()
+            .date(day.getDate())
+            .dayOfWeek(day.getDayOfWeek())
+            .interviewerSlots(interviewerSlots)
+            .candidateSlots(candidateSlots)
+            .bookings(bookings)
+            .build());
+      }
+    }
+
+    return DashboardChangesDto.builder()
+        .version(snapshot.getVersion())
+        .resync(false)
+        .days(changedDays)
+        .removedInterviewerSlots(removedInterviewerSlots)
+        .removedCandidateSlots(removedCandidateSlots)
+        .removedBookings(removedBookings)
+        .build();
+  }
+
+  private static Set<Long> idsOf(Set<ChangedItem> changedItems, ItemType type) {
+    return changedItems.stream()
+        .filter(item -> item.getType() == type)
+        .map(ChangedItem::getId)
+        .collect(Collectors.toCollection(HashSet::new));
+  }
+
+  private static ChangedItem interviewerSlotItem(Long slotId) {
+    return new ChangedItem(ItemType.INTERVIEWER_SLOT, slotId);
+  }
+
+  private static ChangedItem candidateSlotItem(Long slotId) {
+    return new ChangedItem(ItemType.CANDIDATE_SLOT, slotId);
+  }
+
+  private static Set<ChangedItem> itemsOf(Booking booking) {
+    Set<ChangedItem> changedItems = new HashSet<>();
+    changedItems.add(new ChangedItem(ItemType.BOOKING, booking.getId()));
+    changedItems.add(interviewerSlotItem(booking.getInterviewerTimeSlot().getId()));
+    changedItems.add(candidateSlotItem(booking.getCandidateTimeSlot().getId()));
+    return changedItems;
+  }
+
+  private Set<Integer> weeksOf(Booking booking) {
+    Set<Integer> weekNums = new TreeSet<>();
+    weekNums.add(booking.getInterviewerTimeSlot().getWeekNum());
+    weekNums.add(weekService.getWeekNumForDate(booking.getCandidateTimeSlot().getDate()));
+    return weekNums;
+  }
+
+  private static void replaceInterviewerSlot(DashboardDto dashboard, InterviewerTimeSlot slot) {
+    Map<Long, BookingDto> bookings = new HashMap<>();
+    List<Long> bookingIds = removeInterviewerSlot(dashboard, slot.getId())
+        .map(removedSlot -> {
+          bookings.putAll(removedSlot.getBookings());
+          return removedSlot.getSlot().getBookings();
+        })
+        .orElseGet(ArrayList::new);
+
+    TimeSlot timeSlot = mapInterviewerTimeSlotToTimeSlot(slot);
+    timeSlot.setBookings(bookingIds);
+
+    addInterviewerSlot(dashboard, slot, timeSlot, bookings);
+  }
+
+  private static void addInterviewerSlot(DashboardDto dashboard, InterviewerTimeSlot slot,
+      TimeSlot timeSlot, Map<Long, BookingDto> bookings) {
+    findDay(dashboard, slot.getDayOfWeek()).ifPresent(day -> {
+      day.getInterviewerSlots().add(timeSlot);
+      day.getBookings().putAll(bookings);
+    });
+  }
+
+  private static Optional<RemovedSlot> removeInterviewerSlot(DashboardDto dashboard, Long slotId) {
+    for (DashboardDay day : dashboard.getDays()) {
+      Optional<TimeSlot> removedSlot = removeSlot(day.getInterviewerSlots(), slotId);
+
+      if (removedSlot.isPresent()) {
+        Map<Long, BookingDto> bookings = new HashMap<>();
+        removedSlot.get().getBookings().stream()
+            .map(day.getBookings()::remove)
+            .filter(Objects::nonNull)
+            .forEach(booking -> bookings.put(booking.getId(), booking));
+        return Optional.of(new RemovedSlot(removedSlot.get(), bookings));
+      }
+    }
+    return Optional.empty();
+  }
+
+  private static void replaceCandidateSlot(DashboardDto dashboard, CandidateTimeSlot slot) {
+    List<Long> bookingIds = removeCandidateSlot(dashboard, slot.getId())
+        .map(TimeSlot::getBookings)
+        .orElseGet(ArrayList::new);
+
+    TimeSlot timeSlot = mapCandidateTimeSlotToTimeSlot(slot);
+    timeSlot.setBookings(bookingIds);
+
+    addCandidateSlot(dashboard, slot.getDate(), timeSlot);
+  }
+
+  private static void addCandidateSlot(DashboardDto dashboard, LocalDate date,
+      TimeSlot timeSlot) {
+    findDay(dashboard, date).ifPresent(day -> day.getCandidateSlots().add(timeSlot));
+  }
+
+  private static Optional<TimeSlot> removeCandidateSlot(DashboardDto dashboard, Long slotId) {
+    return dashboard.getDays().stream()
+        .map(day -> removeSlot(day.getCandidateSlots(), slotId))
+        .flatMap(Optional::stream)
+        .findAny();
+  }
+
+  private static void addBooking(DashboardDto dashboard, int weekNum, Booking booking) {
+    InterviewerTimeSlot interviewerSlot = booking.getInterviewerTimeSlot();
+    CandidateTimeSlot candidateSlot = booking.getCandidateTimeSlot();
+
+    if (interviewerSlot.getWeekNum() == weekNum) {
+      findDay(dashboard, interviewerSlot.getDayOfWeek()).ifPresent(day -> {
+        day.getBookings().put(booking.getId(), buildBookingDto(booking));
+        findSlot(day.getInterviewerSlots(), interviewerSlot.getId())
+            .ifPresent(slot -> slot.getBookings().add(booking.getId()));
+      });
+    }
+
+    findDay(dashboard, candidateSlot.getDate())
+        .flatMap(day -> findSlot(day.getCandidateSlots(), candidateSlot.getId()))
+        .ifPresent(slot -> slot.getBookings().add(booking.getId()));
+  }
+
+  private static void removeBooking(DashboardDto dashboard, Long bookingId) {
+    for (DashboardDay day : dashboard.getDays()) {
+      day.getBookings().remove(bookingId);
+      day.getInterviewerSlots().forEach(slot -> slot.getBookings().remove(bookingId));
+      day.getCandidateSlots().forEach(slot -> slot.getBookings().remove(bookingId));
+    }
+  }
+
+  private static Optional<DashboardDay> findDay(DashboardDto dashboard,
+      InterviewDayOfWeek dayOfWeek) {
+    return dashboard.getDays().stream()
+        .filter(day -> day.getDayOfWeek() == dayOfWeek)
+        .findAny();
+  }
+
+  private static Optional<DashboardDay> findDay(DashboardDto dashboard, LocalDate date) {
+    return dashboard.getDays().stream()
+        .filter(day -> day.getDate().equals(date))
+        .findAny();
+  }
+
+  private static Optional<TimeSlot> findSlot(List<TimeSlot> slots, Long slotId) {
+    return slots.stream()
+        .filter(slot -> slot.getId().equals(slotId))
+        .findAny();
+  }
+
+  private static Optional<TimeSlot> removeSlot(List<TimeSlot> slots, Long slotId) {
+    Optional<TimeSlot> slot = findSlot(slots, slotId);
+    slot.ifPresent(slots::remove);
+    return slot;
+  }
+
+  private static DashboardDto copyOf(DashboardDto dashboard) {
+    return new DashboardDto(dashboard.getDays().stream()
+        .map(day -> DashboardDay.builder()
+            .date(day.getDate())
+            .dayOfWeek(day.getDayOfWeek())
+            .interviewerSlots(copyOf(day.getInterviewerSlots()))
+            .candidateSlots(copyOf(day.getCandidateSlots()))
+            .bookings(new HashMap<>(day.getBookings()))
+            .build())
+        .collect(Collectors.toList()));
+  }
+
+  private static List<TimeSlot> copyOf(List<TimeSlot> slots) {
+    return slots.stream()
+        .map(slot -> TimeSlot.builder()
+            .id(slot.getId())
+            .from(slot.getFrom())
+            .to(slot.getTo())
+            .email(slot.getEmail())
+            .bookings(new ArrayList<>(slot.getBookings()))
+            .build())
+        .collect(Collectors.toCollection(ArrayList::new));
+  }
+
+  /**
+   * Dashboard of week together with version it reflects.
+   */
+  @Value
+  public static class DashboardSnapshot {
+    long version;
+    DashboardDto dashboard;
+  }
+
+  /**
+   * Current version of week and its materialized dashboard, if it is cached.
+   */
+  @Value
+  private static class WeekState {
+    long version;
+    DashboardDto dashboard;
+  }
+
+  /**
+   * Load of dashboard for version of week, shared by concurrent requests.
+   */
+  @Value
+  private static class InFlightLoad {
+    long version;
+    CompletableFuture<DashboardSnapshot> snapshot;
+  }
+
+  /**
+   * Type of item changed on dashboard.
+   */
+  private enum ItemType {
+    INTERVIEWER_SLOT, CANDIDATE_SLOT, BOOKING
+  }
+
+  /**
+   * Item changed on dashboard.
+   */
+  @Value
+  private static class ChangedItem {
+    ItemType type;
+    Long id;
+  }
+
+  /**
+   * Items changed by each version of week. Only last versions are kept, changes since versions
+   * before history start are not known.
+   */
+  @Getter
+  private static class ChangeLog {
+    private final NavigableMap<Long, Set<ChangedItem>> versions = new TreeMap<>();
+    private long historyStart;
+
+    ChangeLog(long historyStart) {
+      this.historyStart = historyStart;
+    }
+
+    synchronized void add(long version, Set<ChangedItem> changedItems) {
+      versions.put(version, changedItems);
+
+      if (versions.size() > MAX_LOGGED_VERSIONS) {
+        historyStart = versions.pollFirstEntry().getKey();
+      }
+    }
+
+    synchronized void reset(long version) {
+      versions.clear();
+      historyStart = version;
+    }
+  }
+
+  /**
+   * Interviewer time slot removed from dashboard day together with its bookings.
+   */
+  @Value
+  private static class RemovedSlot {
+    TimeSlot slot;
+    Map<Long, BookingDto> bookings;
+  }
+}
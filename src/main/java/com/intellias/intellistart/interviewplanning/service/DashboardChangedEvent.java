@@ -0,0 +1,14 @@
+package com.intellias.intellistart.interviewplanning.service;
+
+import lombok.Value;
+
+/**
+ * It is event published when dashboard of week gets new version.
+ */
+@Value
+public class DashboardChangedEvent {
+
+  int weekNum;
+  long version;
+
+}
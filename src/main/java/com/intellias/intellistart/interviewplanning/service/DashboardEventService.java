@@ -0,0 +1,232 @@
+package com.intellias.intellistart.interviewplanning.service;
+
+import com.intellias.intellistart.interviewplanning.service.dto.DashboardChangesDto;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * It is service which pushes dashboard changes of week to subscribed coordinators.
+ * Each subscriber has bounded buffer of pending versions. Pending versions are sent as one
+ * delta, and subscriber which is too slow to keep up gets whole dashboard instead.
+ * Each event is written by separate writer and sender waits for it limited time, so client
+ * which does not read its events is unsubscribed instead of blocking senders of others.
+ * Writers are bounded pool without queue. Write which cannot start because all writers are
+ * still stuck on clients that timed out is rejected, and its subscriber is unsubscribed too,
+ * so it reconnects and gets whole dashboard.
+ */
+@Service
+@Slf4j
+@AllArgsConstructor
+public class DashboardEventService {
+
+  static final String CHANGES_EVENT = "changes";
+  static final long RESYNC_VERSION = 0;
+  private static final int SENDER_THREADS = 4;
+  static final int WRITER_THREADS = 2 * SENDER_THREADS;
+
+  private final Map<Integer, Set<DashboardSubscriber>> subscribers = new ConcurrentHashMap<>();
+  private final ExecutorService sender = Executors.newFixedThreadPool(SENDER_THREADS);
+  private final ExecutorService writer = new ThreadPoolExecutor(WRITER_THREADS, WRITER_THREADS,
+      0L, TimeUnit.MILLISECONDS, new SynchronousQueue<>(), new ThreadPoolExecutor.AbortPolicy());
+
+  @Value("${dashboard.events.buffer_size}")
+  private Integer bufferSize;
+
+  @Value("${dashboard.events.timeout_minutes}")
+  private Long timeoutMinutes;
+
+  @Value("${dashboard.events.send_timeout_seconds}")
+  private Long sendTimeoutSeconds;
+
+  private DashboardService dashboardService;
+
+  /**
+   * Subscribe to changes of week dashboard. Changes since given version are sent right away,
+   * whole dashboard is sent if version is not given.
+   *
+   * @param weekNum for which to send changes
+   * @param since   version of dashboard client already has, may be null
+   * @return emitter of change events
+   */
+  public SseEmitter subscribe(int weekNum, Long since) {
+    return subscribe(weekNum, since,
+        new SseEmitter(Duration.ofMinutes(timeoutMinutes).toMillis()));
+  }
+
+  SseEmitter subscribe(int weekNum, Long since, SseEmitter emitter) {
+    DashboardSubscriber subscriber = new DashboardSubscriber(weekNum, emitter, bufferSize);
+
+    emitter.onCompletion(() -> unsubscribe(subscriber));
+    emitter.onTimeout(() -> unsubscribe(subscriber));
+    emitter.onError(error -> unsubscribe(subscriber));
+
+    subscribers.computeIfAbsent(weekNum, week -> ConcurrentHashMap.newKeySet()).add(subscriber);
+
+    log.info("Subscribed to dashboard changes of weekNum {} since version {}", weekNum, since);
+
+    if (since == null) {
+      subscriber.getResync().set(true);
+    } else {
+      subscriber.setVersion(since);
+      subscriber.getPending().offer(since);
+    }
+    schedule(subscriber);
+
+    return emitter;
+  }
+
+  /**
+   * Notify subscribers of week about new version of dashboard. Event is published after
+   * change is committed, so changes sent to subscribers never include uncommitted state.
+   *
+   * @param event with week and its new version
+   */
+  @EventListener
+  public void dashboardChanged(DashboardChangedEvent event) {
+    for (DashboardSubscriber subscriber : subscribers.getOrDefault(event.getWeekNum(), Set.of())) {
+      if (!subscriber.getPending().offer(event.getVersion())) {
+        log.warn("Subscriber of weekNum {} is too slow, it will get whole dashboard",
+            event.getWeekNum());
+        subscriber.getPending().clear();
+        subscriber.getResync().set(true);
+      }
+      schedule(subscriber);
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    sender.shutdownNow();
+    writer.shutdownNow();
+  }
+
+  private void schedule(DashboardSubscriber subscriber) {
+    if (subscriber.getScheduled().compareAndSet(false, true)) {
+      sender.execute(() -> send(subscriber));
+    }
+  }
+
+  private void send(DashboardSubscriber subscriber) {
+    try {
+      List<Long> versions = new ArrayList<>();
+      boolean resync = subscriber.getResync().getAndSet(false);
+      subscriber.getPending().drainTo(versions);
+
+      while (resync || !versions.isEmpty()) {
+        DashboardChangesDto changes = dashboardService.getDashboardChanges(
+            subscriber.getWeekNum(), resync ? RESYNC_VERSION : subscriber.getVersion());
+
+        if (changes.isResync() || changes.getVersion() > subscriber.getVersion()) {
+          write(subscriber, changes);
+          subscriber.setVersion(changes.getVersion());
+        }
+
+        versions.clear();
+        resync = subscriber.getResync().getAndSet(false);
+        subscriber.getPending().drainTo(versions);
+      }
+    } catch (IOException | IllegalStateException | TimeoutException
+        | RejectedExecutionException e) {
+      log.info("Failed to send dashboard changes of weekNum {}, unsubscribing",
+          subscriber.getWeekNum());
+      subscriber.getEmitter().completeWithError(e);
+      unsubscribe(subscriber);
+      return;
+    } finally {
+      subscriber.getScheduled().set(false);
+    }
+
+    if (subscriber.getResync().get() || !subscriber.getPending().isEmpty()) {
+      schedule(subscriber);
+    }
+  }
+
+  private void write(DashboardSubscriber subscriber, DashboardChangesDto changes)
+      throws IOException, TimeoutException {
+    Future<?> write;
+    try {
+      write = writer.submit(() -> {
+        subscriber.getEmitter().send(SseEmitter.event()
+            .name(CHANGES_EVENT)
+            .id(String.valueOf(changes.getVersion()))
+            .data(changes));
+        return null;
+      });
+    } catch (RejectedExecutionException e) {
+      log.warn("All {} writers are busy, dropping subscriber of weekNum {}", WRITER_THREADS,
+          subscriber.getWeekNum());
+      throw e;
+    }
+
+    try {
+      write.get(sendTimeoutSeconds, TimeUnit.SECONDS);
+    } catch (TimeoutException e) {
+      log.warn("Subscriber of weekNum {} did not receive changes in {} s",
+          subscriber.getWeekNum(), sendTimeoutSeconds);
+      write.cancel(true);
+      throw e;
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof IOException) {
+        throw (IOException) e.getCause();
+      }
+      throw new IllegalStateException(e.getCause());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private void unsubscribe(DashboardSubscriber subscriber) {
+    subscribers.computeIfPresent(subscriber.getWeekNum(), (week, weekSubscribers) -> {
+      weekSubscribers.remove(subscriber);
+      return weekSubscribers.isEmpty() ? null : weekSubscribers;
+    });
+  }
+
+  /**
+   * Subscriber of week dashboard with its pending versions and last sent version.
+   * Only one sender at a time handles subscriber.
+   */
+  @Getter
+  private static class DashboardSubscriber {
+    private final int weekNum;
+    private final SseEmitter emitter;
+    private final BlockingQueue<Long> pending;
+    private final AtomicBoolean resync = new AtomicBoolean();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    @Setter
+    private volatile long version;
+
+    DashboardSubscriber(int weekNum, SseEmitter emitter, int bufferSize) {
+      this.weekNum = weekNum;
+      this.emitter = emitter;
+      this.pending = new ArrayBlockingQueue<>(bufferSize);
+    }
+  }
+}
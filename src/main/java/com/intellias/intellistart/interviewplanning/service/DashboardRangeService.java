@@ -0,0 +1,47 @@
+package com.intellias.intellistart.interviewplanning.service;
+
+import static com.intellias.intellistart.interviewplanning.exceptions.ApplicationExceptionHandler.INVALID_WEEK_RANGE;
+
+import com.intellias.intellistart.interviewplanning.exceptions.ValidationException;
+import com.intellias.intellistart.interviewplanning.service.dto.DashboardRangeDto;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * It is service to get dashboards of several weeks at once.
+ * Weeks which are not cached are loaded together, so interviewers and candidates are
+ * looked up once for whole range instead of once per week.
+ */
+@Service
+@Slf4j
+@AllArgsConstructor
+public class DashboardRangeService {
+
+  @Value("${dashboard.range.max_weeks}")
+  private Integer maxWeeks;
+
+  private DashboardService dashboardService;
+
+  /**
+   * Get dashboards of weeks from range.
+   *
+   * @param fromWeek first week of range
+   * @param toWeek   last week of range, inclusive
+   * @return dashboards of weeks
+   */
+  public DashboardRangeDto getDashboards(int fromWeek, int toWeek) {
+    if (fromWeek > toWeek || toWeek - fromWeek >= maxWeeks) {
+      log.error("Invalid dashboard range from week {} to week {}", fromWeek, toWeek);
+
+      throw new ValidationException(
+          String.format("range should contain from 1 to %d weeks", maxWeeks), INVALID_WEEK_RANGE);
+    }
+
+    log.info("Getting dashboards from week {} to week {}", fromWeek, toWeek);
+
+    return new DashboardRangeDto(fromWeek, toWeek,
+        dashboardService.getDashboards(fromWeek, toWeek));
+  }
+}
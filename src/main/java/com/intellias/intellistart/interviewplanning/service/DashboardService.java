@@ -2,30 +2,47 @@ package com.intellias.intellistart.interviewplanning.service;
 
 import static com.intellias.intellistart.interviewplanning.service.InterviewerTimeSlotService.buildBookingDto;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.intellias.intellistart.interviewplanning.exceptions.InvalidLimitException;
 import com.intellias.intellistart.interviewplanning.model.Booking;
 import com.intellias.intellistart.interviewplanning.model.InterviewDayOfWeek;
 import com.intellias.intellistart.interviewplanning.model.slot.CandidateTimeSlot;
 import com.intellias.intellistart.interviewplanning.model.slot.InterviewerTimeSlot;
 import com.intellias.intellistart.interviewplanning.repository.CandidateTimeSlotRepository;
 import com.intellias.intellistart.interviewplanning.repository.InterviewerTimeSlotRepository;
-import com.intellias.intellistart.interviewplanning.service.dto.BookingDto;
+import com.intellias.intellistart.interviewplanning.service.DashboardCacheService.DashboardSnapshot;
+import com.intellias.intellistart.interviewplanning.service.dto.CompactDashboardDto;
+import com.intellias.intellistart.interviewplanning.service.dto.CompactDashboardDto.CompactBooking;
+import com.intellias.intellistart.interviewplanning.service.dto.CompactDashboardDto.CompactDay;
+import com.intellias.intellistart.interviewplanning.service.dto.CompactDashboardDto.CompactSlot;
+import com.intellias.intellistart.interviewplanning.service.dto.DashboardChangesDto;
 import com.intellias.intellistart.interviewplanning.service.dto.DashboardDto;
 import com.intellias.intellistart.interviewplanning.service.dto.DashboardDto.DashboardDay;
 import com.intellias.intellistart.interviewplanning.service.dto.DashboardDto.TimeSlot;
-import java.awt.print.Book;
+import com.intellias.intellistart.interviewplanning.service.dto.DashboardFilterDto;
+import com.intellias.intellistart.interviewplanning.service.dto.DashboardPageDto;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
-import java.time.temporal.TemporalAdjuster;
-import java.time.temporal.TemporalAdjusters;
+import java.time.temporal.ChronoField;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.LinkedList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.function.Function;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import lombok.AllArgsConstructor;
+import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
 
@@ -38,103 +55,338 @@ import org.springframework.stereotype.Service;
 @AllArgsConstructor
 public class DashboardService {
 
+  private static final int MAX_PAGE_SIZE = 200;
+
+  private final Map<Integer, SerializedDashboard> serializedDashboards =
+      new ConcurrentHashMap<>();
+
   private GetWeekNumberService weekService;
   private InterviewerTimeSlotRepository interviewerSlotRepository;
   private CandidateTimeSlotRepository candidateSlotRepository;
+  private DashboardCacheService dashboardCacheService;
+  private ObjectMapper objectMapper;
+  private InterviewerSlotTemplateService slotTemplateService;
 
   /**
-   * Get dashboard.
+   * Get dashboard. Materialized dashboard is returned if week is already cached.
    *
    * @param weekNum for which to get dashboard.
    * @return dashboard
    */
   public DashboardDto getDashboard(int weekNum) {
+    slotTemplateService.materializeWeek(weekNum);
+    return dashboardCacheService.getDashboard(weekNum, this::buildDashboard);
+  }
+
+  /**
+   * Get dashboards of weeks from range. Materialized dashboards are returned for cached weeks,
+   * other weeks are built together with fixed number of queries.
+   *
+   * @param fromWeek first week of range
+   * @param toWeek   last week of range, inclusive
+   * @return dashboards keyed by week number in order of weeks
+   */
+  public Map<Integer, DashboardDto> getDashboards(int fromWeek, int toWeek) {
+    List<Integer> weekNums = IntStream.rangeClosed(fromWeek, toWeek)
+        .boxed()
+        .collect(Collectors.toList());
+    weekNums.forEach(slotTemplateService::materializeWeek);
+    return dashboardCacheService.getDashboards(weekNums, this::buildDashboards);
+  }
+
+  /**
+   * Get version of dashboard, which is changed on every booking or slot mutation of week.
+   * Slots of templates are created first, so version already counts them and is not reported
+   * unchanged to client which has dashboard without them.
+   *
+   * @param weekNum for which to get version
+   * @return version of dashboard
+   */
+  public long getDashboardVersion(int weekNum) {
+    slotTemplateService.materializeWeek(weekNum);
+    return dashboardCacheService.getVersion(weekNum);
+  }
+
+  /**
+   * Get dashboard together with version it reflects.
+   *
+   * @param weekNum for which to get dashboard
+   * @return dashboard with its version
+   */
+  public DashboardSnapshot getDashboardSnapshot(int weekNum) {
+    slotTemplateService.materializeWeek(weekNum);
+    return dashboardCacheService.getSnapshot(weekNum, this::buildDashboard);
+  }
+
+  /**
+   * Get dashboard serialized to JSON together with version it reflects. Materialized dashboard
+   * is serialized once and its bytes are shared by all requests until it changes.
+   *
+   * @param weekNum for which to get dashboard
+   * @return serialized dashboard with its version
+   */
+  public SerializedDashboard getSerializedDashboard(int weekNum) {
+    DashboardSnapshot snapshot = getDashboardSnapshot(weekNum);
+
+    return serializedDashboards.compute(weekNum, (week, serializedDashboard) -> {
+      if (serializedDashboard != null
+          && serializedDashboard.getDashboard() == snapshot.getDashboard()) {
+        return serializedDashboard;
+      }
+
+      try {
+        return new SerializedDashboard(snapshot.getVersion(), snapshot.getDashboard(),
+            objectMapper.writeValueAsBytes(snapshot.getDashboard()));
+      } catch (JsonProcessingException e) {
+        throw new IllegalStateException("Cannot serialize dashboard for weekNum " + week, e);
+      }
+    });
+  }
 
-    List<InterviewerTimeSlot> interviewersSlots = interviewerSlotRepository.findAllByWeekNum(
-        weekNum);
+  /**
+   * Get slots and bookings changed since given version of dashboard.
+   *
+   * @param weekNum for which to get changes
+   * @param since   version of dashboard client already has
+   * @return changes since version
+   */
+  public DashboardChangesDto getDashboardChanges(int weekNum, long since) {
+    slotTemplateService.materializeWeek(weekNum);
+    return dashboardCacheService.getChanges(weekNum, since, this::buildDashboard);
+  }
+
+  /**
+   * Get page of dashboard filtered by interviewer email, day and presence of bookings.
+   * Filters are applied by database. Interviewer slots are paged by id, candidate slots
+   * matching day and bookings filters are returned on first page only.
+   *
+   * @param weekNum for which to get dashboard
+   * @param filter  to apply to slots
+   * @param cursor  id of last interviewer slot of previous page, null for first page
+   * @param limit   max number of interviewer slots on page
+   * @return page of dashboard
+   */
+  public DashboardPageDto getDashboardPage(int weekNum, DashboardFilterDto filter, Long cursor,
+      int limit) {
+    if (limit < 1 || limit > MAX_PAGE_SIZE) {
+      throw new InvalidLimitException("limit should be from 1 to " + MAX_PAGE_SIZE);
+    }
+    slotTemplateService.materializeWeek(weekNum);
+
+    Map<InterviewDayOfWeek, DashboardDay> dashboardDays = createDashboardDays(weekNum);
+
+    log.info("Getting page of dashboard for weekNum {} with filter {} after slot {}",
+        weekNum, filter, cursor);
+
+    List<Long> slotIds = interviewerSlotRepository.findIdsByWeekNumAndFilter(weekNum,
+        filter.getEmail(), filter.getDayOfWeek(), filter.getBooked(), cursor,
+        PageRequest.of(0, limit + 1));
+    Long nextCursor = null;
 
-    LocalDate startDateOfWeek = weekService.getDateForWeekNumAndDay(
-        weekNum, TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    if (slotIds.size() > limit) {
+      slotIds = slotIds.subList(0, limit);
+      nextCursor = slotIds.get(limit - 1);
+    }
+
+    if (!slotIds.isEmpty()) {
+      List<InterviewerTimeSlot> interviewersSlots =
+          interviewerSlotRepository.findAllWithBookingsByIdIn(slotIds).stream()
+              .sorted(Comparator.comparing(InterviewerTimeSlot::getId))
+              .collect(Collectors.toList());
+
+      for (InterviewerTimeSlot interviewerSlot : interviewersSlots) {
+        DashboardDay dashboardDay = dashboardDays.get(interviewerSlot.getDayOfWeek());
+
+        dashboardDay.getInterviewerSlots().add(mapInterviewerTimeSlotToTimeSlot(interviewerSlot));
+        interviewerSlot.getBookings().forEach(booking ->
+            dashboardDay.getBookings().put(booking.getId(), buildBookingDto(booking)));
+      }
+    }
+
+    if (filter.getDayOfWeek() != null) {
+      dashboardDays.keySet().retainAll(Set.of(filter.getDayOfWeek()));
+    }
+
+    if (cursor == null) {
+      addCandidateSlots(dashboardDays, filter.getBooked());
+    }
 
-    LocalDate endDateOfWeek = weekService.getDateForWeekNumAndDay(
-        weekNum, TemporalAdjusters.nextOrSame(DayOfWeek.FRIDAY));
+    return new DashboardPageDto(new ArrayList<>(dashboardDays.values()), nextCursor);
+  }
+
+  /**
+   * Convert dashboard to compact form. Emails are collected to list in order of first
+   * appearance and slots refer to them by index.
+   *
+   * @param dashboard to convert
+   * @return compact dashboard
+   */
+  public static CompactDashboardDto toCompactDashboard(DashboardDto dashboard) {
+    Map<String, Integer> emailIndexes = new LinkedHashMap<>();
+    List<CompactDay> days = new ArrayList<>();
+
+    for (DashboardDay day : dashboard.getDays()) {
+      days.add(CompactDay.builder()
+          .date(day.getDate())
+          .dayOfWeek(day.getDayOfWeek())
+          .interviewerSlots(toCompactSlots(day.getInterviewerSlots(), emailIndexes))
+          .candidateSlots(toCompactSlots(day.getCandidateSlots(), emailIndexes))
+          .bookings(day.getBookings().values().stream()
+              .map(booking -> CompactBooking.builder()
+                  .id(booking.getId())
+                  .interviewerSlot(booking.getInterviewerTimeSlotId())
+                  .candidateSlot(booking.getCandidateTimeSlotId())
+                  .from(booking.getStartTime().get(ChronoField.MINUTE_OF_DAY))
+                  .to(booking.getEndTime().get(ChronoField.MINUTE_OF_DAY))
+                  .subject(booking.getSubject())
+                  .build())
+              .collect(Collectors.toList()))
+          .build());
+    }
+
+    return new CompactDashboardDto(new ArrayList<>(emailIndexes.keySet()), days);
+  }
+
+  private static List<CompactSlot> toCompactSlots(List<TimeSlot> slots,
+      Map<String, Integer> emailIndexes) {
+    return slots.stream()
+        .map(slot -> CompactSlot.builder()
+            .id(slot.getId())
+            .from(slot.getFrom().get(ChronoField.MINUTE_OF_DAY))
+            .to(slot.getTo().get(ChronoField.MINUTE_OF_DAY))
+            .email(emailIndexes.computeIfAbsent(slot.getEmail(), email -> emailIndexes.size()))
+            .bookings(slot.getBookings())
+            .build())
+        .collect(Collectors.toList());
+  }
+
+  private void addCandidateSlots(Map<InterviewDayOfWeek, DashboardDay> dashboardDays,
+      Boolean booked) {
+    NavigableMap<LocalDate, DashboardDay> dashboardDaysByDate = new TreeMap<>();
+    dashboardDays.values().forEach(day -> dashboardDaysByDate.put(day.getDate(), day));
+
+    List<CandidateTimeSlot> candidatesSlots =
+        candidateSlotRepository.findAllWithBookingsByDateBetweenAndBooked(
+            dashboardDaysByDate.firstKey(), dashboardDaysByDate.lastKey(), booked);
+
+    for (CandidateTimeSlot candidateSlot : candidatesSlots) {
+      DashboardDay dashboardDay = dashboardDaysByDate.get(candidateSlot.getDate());
+
+      if (dashboardDay != null) {
+        dashboardDay.getCandidateSlots().add(mapCandidateTimeSlotToTimeSlot(candidateSlot));
+      }
+    }
+  }
+
+  private DashboardDto buildDashboard(int weekNum) {
+    Map<InterviewDayOfWeek, DashboardDay> dashboardDays = createDashboardDays(weekNum);
+
+    LocalDate startDateOfWeek = dashboardDays.get(InterviewDayOfWeek.MONDAY).getDate();
+    LocalDate endDateOfWeek = dashboardDays.get(InterviewDayOfWeek.FRIDAY).getDate();
 
     log.info("Creating dashboard for weekNum {} and start week date {}, end date {}",
         weekNum, startDateOfWeek, endDateOfWeek);
 
+    List<InterviewerTimeSlot> interviewersSlots =
+        interviewerSlotRepository.findAllWithBookingsByWeekNum(weekNum);
+
     List<CandidateTimeSlot> candidatesSlots =
-        candidateSlotRepository.findAllByDateBetween(startDateOfWeek, endDateOfWeek);
+        candidateSlotRepository.findAllWithBookingsByDateBetween(startDateOfWeek, endDateOfWeek);
 
-    List<DashboardDay> dashboardDays = new LinkedList<>();
+    fillDashboardDays(Map.of(weekNum, dashboardDays), interviewersSlots, candidatesSlots);
 
-    for (InterviewDayOfWeek day : InterviewDayOfWeek.values()) {
-      DashboardDay dashboardDay =
-          createDashboardDay(interviewersSlots, candidatesSlots, day, weekNum);
-      dashboardDays.add(dashboardDay);
-    }
+    dashboardDays.values().forEach(day -> log.info(
+        "For dashboard day {} and weekNum {} found {} interviewers slots, {} candidates slots"
+            + " and {} bookings", day.getDayOfWeek(), weekNum, day.getInterviewerSlots().size(),
+        day.getCandidateSlots().size(), day.getBookings().size()));
 
     log.info("Successfully created dashboard for weekNum {}", weekNum);
 
-    return new DashboardDto(dashboardDays);
+    return new DashboardDto(new ArrayList<>(dashboardDays.values()));
   }
 
-  private DashboardDay createDashboardDay(List<InterviewerTimeSlot> interviewersSlots,
-      List<CandidateTimeSlot> candidatesSlots,
-      InterviewDayOfWeek day,
-      int weekNum) {
-    log.info("Starting to create dashboard for day {} and weekNum {}", day, weekNum);
+  /**
+   * Build dashboards of several weeks from one query of interviewer slots and one query
+   * of candidate slots, so interviewers and candidates are loaded once for all weeks.
+   */
+  private Map<Integer, DashboardDto> buildDashboards(Collection<Integer> weekNums) {
+    Map<Integer, Map<InterviewDayOfWeek, DashboardDay>> dashboardDaysByWeek = new HashMap<>();
+    weekNums.forEach(weekNum -> dashboardDaysByWeek.put(weekNum, createDashboardDays(weekNum)));
+
+    List<LocalDate> dates = dashboardDaysByWeek.values().stream()
+        .flatMap(dashboardDays -> dashboardDays.values().stream())
+        .map(DashboardDay::getDate)
+        .sorted()
+        .collect(Collectors.toList());
+    LocalDate startDate = dates.get(0);
+    LocalDate endDate = dates.get(dates.size() - 1);
 
-    DashboardDay dashboardDay = new DashboardDay();
+    log.info("Creating dashboards for weekNums {} and start date {}, end date {}",
+        weekNums, startDate, endDate);
 
-    DayOfWeek dayOfWeek = InterviewDayOfWeek.convertToDayOfWeek(day);
-    LocalDate dateOfDayForWeekNum = weekService.getDateForWeekNumAndDay(weekNum, dayOfWeek);
+    List<InterviewerTimeSlot> interviewersSlots =
+        interviewerSlotRepository.findAllWithBookingsByWeekNumIn(weekNums);
 
-    log.info("For day of week {} and weekNum {} date is {}", dayOfWeek, weekNum,
-        dateOfDayForWeekNum);
+    List<CandidateTimeSlot> candidatesSlots =
+        candidateSlotRepository.findAllWithBookingsByDateBetween(startDate, endDate);
 
-    dashboardDay.setDayOfWeek(day);
-    dashboardDay.setDate(dateOfDayForWeekNum);
+    fillDashboardDays(dashboardDaysByWeek, interviewersSlots, candidatesSlots);
 
-    List<InterviewerTimeSlot> interviewersSlotsPerDay = interviewersSlots.stream()
-        .filter(slot -> slot.getDayOfWeek().equals(day))
-        .collect(Collectors.toList());
+    log.info("Successfully created dashboards for weekNums {} from {} interviewers slots"
+        + " and {} candidates slots", weekNums, interviewersSlots.size(), candidatesSlots.size());
 
-    log.info("For dashboard day {} and weekNum {} found {} interviewers slots",
-        day, weekNum, interviewersSlotsPerDay.size());
+    Map<Integer, DashboardDto> dashboards = new HashMap<>();
+    dashboardDaysByWeek.forEach((weekNum, dashboardDays) ->
+        dashboards.put(weekNum, new DashboardDto(new ArrayList<>(dashboardDays.values()))));
+    return dashboards;
+  }
 
-    Map<Long, BookingDto> bookingMap = interviewersSlotsPerDay.stream()
-        .map(InterviewerTimeSlot::getBookings)
-        .flatMap(Collection::stream)
-        .collect(Collectors.toMap(Booking::getId, booking -> buildBookingDto(booking)));
+  private static void fillDashboardDays(
+      Map<Integer, Map<InterviewDayOfWeek, DashboardDay>> dashboardDaysByWeek,
+      List<InterviewerTimeSlot> interviewersSlots, List<CandidateTimeSlot> candidatesSlots) {
+    Map<LocalDate, DashboardDay> dashboardDaysByDate = new HashMap<>();
+    dashboardDaysByWeek.values().forEach(dashboardDays -> dashboardDays.values()
+        .forEach(day -> dashboardDaysByDate.put(day.getDate(), day)));
 
-    log.info("For dashboard day {} and weekNum {} found {} bookings",
-        day, weekNum, bookingMap.size());
+    for (InterviewerTimeSlot interviewerSlot : interviewersSlots) {
+      DashboardDay dashboardDay = dashboardDaysByWeek.get(interviewerSlot.getWeekNum())
+          .get(interviewerSlot.getDayOfWeek());
 
-    List<TimeSlot> mappedInterviewersTimeSlots = interviewersSlotsPerDay.stream()
-        .map(this::mapInterviewerTimeSlotToTimeSlot)
-        .collect(Collectors.toList());
+      dashboardDay.getInterviewerSlots().add(mapInterviewerTimeSlotToTimeSlot(interviewerSlot));
+      interviewerSlot.getBookings().forEach(booking ->
+          dashboardDay.getBookings().put(booking.getId(), buildBookingDto(booking)));
+    }
 
-    List<TimeSlot> candidatesSlotsPerDay = candidatesSlots.stream()
-        .filter(slot -> slot.getDate().equals(dateOfDayForWeekNum))
-        .map(this::mapCandidateTimeSlotToTimeSlot)
-        .collect(Collectors.toList());
+    for (CandidateTimeSlot candidateSlot : candidatesSlots) {
+      DashboardDay dashboardDay = dashboardDaysByDate.get(candidateSlot.getDate());
+
+      if (dashboardDay != null) {
+        dashboardDay.getCandidateSlots().add(mapCandidateTimeSlotToTimeSlot(candidateSlot));
+      }
+    }
+  }
 
-    log.info("For dashboard day {} and weekNum {} found {} candidates slots",
-        day, weekNum, candidatesSlotsPerDay.size());
+  private Map<InterviewDayOfWeek, DashboardDay> createDashboardDays(int weekNum) {
+    Map<InterviewDayOfWeek, DashboardDay> dashboardDays = new EnumMap<>(InterviewDayOfWeek.class);
 
-    dashboardDay.setInterviewerSlots(mappedInterviewersTimeSlots);
-    dashboardDay.setCandidateSlots(candidatesSlotsPerDay);
-    dashboardDay.setBookings(bookingMap);
+    for (InterviewDayOfWeek day : InterviewDayOfWeek.values()) {
+      DayOfWeek dayOfWeek = InterviewDayOfWeek.convertToDayOfWeek(day);
+
+      dashboardDays.put(day, DashboardDay.builder()
+          .date(weekService.getDateForWeekNumAndDay(weekNum, dayOfWeek))
+          .dayOfWeek(day)
+          .interviewerSlots(new ArrayList<>())
+          .candidateSlots(new ArrayList<>())
+          .bookings(new HashMap<>())
+          .build());
+    }
 
-    return dashboardDay;
+    return dashboardDays;
   }
 
-  private TimeSlot mapInterviewerTimeSlotToTimeSlot(InterviewerTimeSlot interviewerTimeSlot) {
+  static TimeSlot mapInterviewerTimeSlotToTimeSlot(InterviewerTimeSlot interviewerTimeSlot) {
 
-    List<Long> bookingIds = interviewerTimeSlot.getBookings()
-        .stream()
-        .map(Booking::getId)
-        .collect(Collectors.toList());
+    List<Long> bookingIds = mapBookingIds(interviewerTimeSlot.getBookings());
 
     return TimeSlot.builder()
         .id(interviewerTimeSlot.getId())
@@ -145,12 +397,9 @@ public class DashboardService {
         .build();
   }
 
-  private TimeSlot mapCandidateTimeSlotToTimeSlot(CandidateTimeSlot candidateTimeSlot) {
+  static TimeSlot mapCandidateTimeSlotToTimeSlot(CandidateTimeSlot candidateTimeSlot) {
 
-    List<Long> bookingIds = candidateTimeSlot.getBookings()
-        .stream()
-        .map(Booking::getId)
-        .collect(Collectors.toList());
+    List<Long> bookingIds = mapBookingIds(candidateTimeSlot.getBookings());
 
     return TimeSlot.builder()
         .id(candidateTimeSlot.getId())
@@ -161,4 +410,23 @@ public class DashboardService {
         .build();
   }
 
+  private static List<Long> mapBookingIds(List<Booking> bookings) {
+    if (bookings == null) {
+      return new ArrayList<>();
+    }
+
+    return bookings.stream()
+        .map(Booking::getId)
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * Dashboard serialized to JSON together with version it reflects.
+   */
+  @Value
+  public static class SerializedDashboard {
+    long version;
+    DashboardDto dashboard;
+    byte[] json;
+  }
 }
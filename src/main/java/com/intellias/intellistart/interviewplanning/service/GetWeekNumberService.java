@@ -32,6 +32,15 @@ public class GetWeekNumberService {
     return new WeekNumber(dates.get(ChronoField.ALIGNED_WEEK_OF_YEAR));
   }
 
+  /**
+   * Getting year of current week.
+   *
+   * @return year of current week
+   */
+  public int getCurrentYear() {
+    return dates.getYear();
+  }
+
   /**
    * Getting next week number.
    *
@@ -53,4 +62,14 @@ public class GetWeekNumberService {
         .with(IsoFields.WEEK_OF_WEEK_BASED_YEAR, weekNum)
         .with(adjuster);
   }
+
+  /**
+   * Getting week number of date.
+   * E.g. 2022-10-24 will produce 43
+   *
+   * @return week number for date
+   */
+  public int getWeekNumForDate(LocalDate date) {
+    return date.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR);
+  }
 }
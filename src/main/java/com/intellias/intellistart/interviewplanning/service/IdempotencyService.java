@@ -0,0 +1,132 @@
+package com.intellias.intellistart.interviewplanning.service;
+
+import static com.intellias.intellistart.interviewplanning.exceptions.ApplicationExceptionHandler.IDEMPOTENCY_KEY_REUSED;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.intellias.intellistart.interviewplanning.exceptions.ValidationException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * It is service which remembers results of recent mutations by their idempotency key,
+ * so retried request gets stored result instead of running mutation again.
+ * Keys are kept for limited time in bounded store, least recently used keys are evicted first.
+ * Only successful results are stored: failed request may be retried with same key.
+ * Body of request is kept as SHA-256 digest of its JSON, so key cannot be reused for
+ * another body.
+ */
+@Service
+@Slf4j
+@AllArgsConstructor
+public class IdempotencyService {
+
+  public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+  private final Map<String, StoredResult> results = new LinkedHashMap<>(16, 0.75f, true) {
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<String, StoredResult> eldest) {
+      return size() > maxKeys;
+    }
+  };
+
+  @Value("${idempotency.max_keys}")
+  private Integer maxKeys;
+
+  @Value("${idempotency.ttl_minutes}")
+  private Long ttlMinutes;
+
+  private ObjectMapper objectMapper;
+
+  /**
+   * Run mutation once per idempotency key. Retry with same key returns result of first run,
+   * concurrent retry waits until first run is finished.
+   *
+   * @param scope   of key, like user and endpoint, so different clients do not share keys
+   * @param key     idempotency key of request, mutation is always run if it is null
+   * @param request body of request, key cannot be reused for another body
+   * @param action  mutation to run
+   * @param <T>     type of result
+   * @return result of mutation
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T execute(String scope, String key, Object request, Supplier<T> action) {
+    if (key == null) {
+      return action.get();
+    }
+
+    String storeKey = scope + '\n' + key;
+    StoredResult ownResult = new StoredResult(digest(request),
+        System.currentTimeMillis() + Duration.ofMinutes(ttlMinutes).toMillis(),
+        new CompletableFuture<>());
+    StoredResult result = getOrStore(storeKey, ownResult);
+
+    if (!MessageDigest.isEqual(result.getRequestDigest(), ownResult.getRequestDigest())) {
+      throw new ValidationException("idempotency key was already used for another request",
+          IDEMPOTENCY_KEY_REUSED);
+    }
+
+    if (result != ownResult) {
+      log.debug("Returning stored result for idempotency key {}", key);
+      try {
+        return (T) result.getResult().join();
+      } catch (CompletionException e) {
+        throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+      }
+    }
+
+    try {
+      T value = action.get();
+      ownResult.getResult().complete(value);
+      return value;
+    } catch (RuntimeException e) {
+      synchronized (results) {
+        results.remove(storeKey, ownResult);
+      }
+      ownResult.getResult().completeExceptionally(e);
+      throw e;
+    }
+  }
+
+  private byte[] digest(Object request) {
+    try {
+      return MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(request));
+    } catch (JsonProcessingException e) {
+      throw new IllegalArgumentException("Request cannot be serialized", e);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private StoredResult getOrStore(String storeKey, StoredResult ownResult) {
+    synchronized (results) {
+      StoredResult result = results.get(storeKey);
+
+      if (result != null && result.getExpiresAt() >= System.currentTimeMillis()) {
+        return result;
+      }
+      results.put(storeKey, ownResult);
+      return ownResult;
+    }
+  }
+
+  @Getter
+  @AllArgsConstructor
+  private static class StoredResult {
+
+    private final byte[] requestDigest;
+    private final long expiresAt;
+    private final CompletableFuture<Object> result;
+  }
+}
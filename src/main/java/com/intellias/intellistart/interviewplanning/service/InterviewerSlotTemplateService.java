@@ -0,0 +1,226 @@
+package com.intellias.intellistart.interviewplanning.service;
+
+import static com.intellias.intellistart.interviewplanning.exceptions.ApplicationExceptionHandler.INVALID_WEEK_RANGE;
+
+import com.intellias.intellistart.interviewplanning.exceptions.InterviewerNotFoundException;
+import com.intellias.intellistart.interviewplanning.exceptions.InvalidDayOfWeekException;
+import com.intellias.intellistart.interviewplanning.exceptions.InvalidTimeSlotBoundariesException;
+import com.intellias.intellistart.interviewplanning.exceptions.SlotIsOverlappingException;
+import com.intellias.intellistart.interviewplanning.exceptions.ValidationException;
+import com.intellias.intellistart.interviewplanning.exceptions.WeekNumberNotAcceptableException;
+import com.intellias.intellistart.interviewplanning.model.TimeSlotStatus;
+import com.intellias.intellistart.interviewplanning.model.User;
+import com.intellias.intellistart.interviewplanning.model.slot.InterviewerSlotTemplate;
+import com.intellias.intellistart.interviewplanning.model.slot.InterviewerTimeSlot;
+import com.intellias.intellistart.interviewplanning.repository.InterviewerSlotTemplateRepository;
+import com.intellias.intellistart.interviewplanning.repository.InterviewerTimeSlotRepository;
+import com.intellias.intellistart.interviewplanning.repository.UserRepository;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * It is service for recurring time slot templates of interviewers. Templates are not expanded
+ * to slots when they are created. Slots of week are created from all templates valid in it
+ * when week is read for the first time, and from then on they are edited as usual slots.
+ * Only current and next weeks, which slots can be created for, are materialized. Weeks are
+ * tracked together with their year, so the same week of next year is materialized again.
+ * Slot which interviewer already has with same day and time is kept instead of slot
+ * of template.
+ */
+@Service
+@Slf4j
+@AllArgsConstructor
+public class InterviewerSlotTemplateService {
+
+  private static final int WEEKS_IN_YEAR_WEEK = 100;
+
+  private final Set<Integer> materializedWeeks = ConcurrentHashMap.newKeySet();
+  private final Map<Integer, Object> weekLocks = new ConcurrentHashMap<>();
+  private final AtomicLong templatesVersion = new AtomicLong();
+
+  private InterviewerSlotTemplateRepository templateRepository;
+  private InterviewerTimeSlotRepository interviewerTimeSlotRepository;
+  private UserRepository userRepository;
+  private GetWeekNumberService weekService;
+  private TimeSlotValidationService timeSlotValidationService;
+  private DashboardCacheService dashboardCacheService;
+  private TransactionTemplate transactionTemplate;
+
+  /**
+   * Create recurring time slot template for Interviewer.
+   *
+   * @param interviewerEmail for which create template
+   * @param template         template which needs to create
+   * @return saved template
+   */
+  public InterviewerSlotTemplate createTemplate(String interviewerEmail,
+      InterviewerSlotTemplate template) {
+    int nextWeekNum = weekService.getNextWeekNumber().getWeekNum();
+
+    if (template.getFromWeek() == null || template.getFromWeek() < nextWeekNum) {
+      throw new WeekNumberNotAcceptableException(Collections.singletonList(nextWeekNum));
+    }
+    if (template.getToWeek() != null && template.getToWeek() < template.getFromWeek()) {
+      throw new ValidationException("toWeek is before fromWeek", INVALID_WEEK_RANGE);
+    }
+    if (template.getDayOfWeek() == null) {
+      throw new InvalidDayOfWeekException("dayOfWeek is not set");
+    }
+    if (template.getFrom() == null || template.getTo() == null) {
+      throw new InvalidTimeSlotBoundariesException("from and to should be set");
+    }
+    timeSlotValidationService.validateTimeSlotBoundaries(template.getFrom(), template.getTo());
+
+    User user = userRepository.findByEmail(interviewerEmail)
+        .orElseThrow(InterviewerNotFoundException::new);
+
+    template.setFromYearWeek(toTemplateYearWeek(template.getFromWeek()));
+    template.setToYearWeek(template.getToWeek() == null ? null
+        : toTemplateYearWeek(template.getToWeek()));
+
+    templateRepository.findAllByUserOrderById(user).stream()
+        .filter(existing -> existing.getDayOfWeek().equals(template.getDayOfWeek())
+            && existing.getFrom().equals(template.getFrom())
+            && existing.getTo().equals(template.getTo()))
+        .filter(existing -> isBeforeEnd(existing.getFromYearWeek(), template.getToYearWeek())
+            && isBeforeEnd(template.getFromYearWeek(), existing.getToYearWeek()))
+        .findAny()
+        .ifPresent(existing -> {
+          throw new SlotIsOverlappingException(existing.getId());
+        });
+
+    template.setId(null);
+    template.setUser(user);
+    template.setMaterializedWeeks(new HashSet<>());
+
+    InterviewerSlotTemplate savedTemplate = templateRepository.save(template);
+    templatesVersion.incrementAndGet();
+    materializedWeeks.clear();
+
+    log.info("Created slot template {} of interviewer {}", savedTemplate.getId(),
+        interviewerEmail);
+    return savedTemplate;
+  }
+
+  /**
+   * Get recurring time slot templates of Interviewer.
+   *
+   * @param interviewerEmail for which get templates
+   * @return found templates
+   */
+  public List<InterviewerSlotTemplate> getTemplates(String interviewerEmail) {
+    User user = userRepository.findByEmail(interviewerEmail)
+        .orElseThrow(InterviewerNotFoundException::new);
+
+    return templateRepository.findAllByUserOrderById(user);
+  }
+
+  /**
+   * Create slots of week from all templates valid in it, if it is not done yet.
+   * After week is materialized, check is done in memory without queries, until
+   * new template is created. Weeks other than current and next one are left as they are.
+   *
+   * @param weekNum for which create slots
+   */
+  public void materializeWeek(int weekNum) {
+    Optional<Integer> yearWeek = toYearWeek(weekNum);
+
+    if (yearWeek.isEmpty() || materializedWeeks.contains(yearWeek.get())) {
+      return;
+    }
+
+    synchronized (weekLocks.computeIfAbsent(yearWeek.get(), week -> new Object())) {
+      if (materializedWeeks.contains(yearWeek.get())) {
+        return;
+      }
+      long version = templatesVersion.get();
+
+      List<InterviewerTimeSlot> createdSlots = transactionTemplate.execute(
+          status -> createSlotsOfWeek(weekNum, yearWeek.get()));
+      createdSlots.forEach(dashboardCacheService::interviewerSlotCreated);
+
+      if (templatesVersion.get() == version) {
+        materializedWeeks.add(yearWeek.get());
+      }
+    }
+    forgetPastWeeks();
+  }
+
+  /**
+   * Get week number qualified with its year, e.g. 202644. Only current and next weeks have it,
+   * next week may already be in next year.
+   */
+  private Optional<Integer> toYearWeek(int weekNum) {
+    int currentWeekNum = weekService.getCurrentWeekNumber().getWeekNum();
+    int nextWeekNum = weekService.getNextWeekNumber().getWeekNum();
+
+    if (weekNum == currentWeekNum) {
+      return Optional.of(weekService.getCurrentYear() * WEEKS_IN_YEAR_WEEK + weekNum);
+    }
+    if (weekNum == nextWeekNum) {
+      return Optional.of(getNextWeekYear() * WEEKS_IN_YEAR_WEEK + weekNum);
+    }
+    return Optional.empty();
+  }
+
+  /**
+   * Get week number of template qualified with its year. Weeks of template are not before
+   * next week, so they are in the year of next week.
+   */
+  private int toTemplateYearWeek(int weekNum) {
+    return getNextWeekYear() * WEEKS_IN_YEAR_WEEK + weekNum;
+  }
+
+  private int getNextWeekYear() {
+    int year = weekService.getCurrentYear();
+
+    return weekService.getNextWeekNumber().getWeekNum()
+        < weekService.getCurrentWeekNumber().getWeekNum() ? year + 1 : year;
+  }
+
+  private void forgetPastWeeks() {
+    int currentYearWeek = weekService.getCurrentYear() * WEEKS_IN_YEAR_WEEK
+        + weekService.getCurrentWeekNumber().getWeekNum();
+
+    materializedWeeks.removeIf(yearWeek -> yearWeek < currentYearWeek);
+    weekLocks.keySet().removeIf(yearWeek -> yearWeek < currentYearWeek);
+  }
+
+  private List<InterviewerTimeSlot> createSlotsOfWeek(int weekNum, int yearWeek) {
+    if (templateRepository.countNotMaterializedByYearWeek(yearWeek) == 0) {
+      return Collections.emptyList();
+    }
+    final Set<Long> existingSlotIds = new HashSet<>(
+        interviewerTimeSlotRepository.findIdsByWeekNum(weekNum));
+
+    int created = templateRepository.materializeAllByWeekNum(weekNum, yearWeek,
+        TimeSlotStatus.NEW.name());
+    templateRepository.markAllMaterializedByYearWeek(yearWeek);
+
+    if (created == 0) {
+      return Collections.emptyList();
+    }
+    log.info("Created {} slots from templates for weekNum {}", created, weekNum);
+
+    return interviewerTimeSlotRepository.findAllWithBookingsByWeekNum(weekNum).stream()
+        .filter(slot -> !existingSlotIds.contains(slot.getId()))
+        .sorted(Comparator.comparing(InterviewerTimeSlot::getId))
+        .collect(Collectors.toList());
+  }
+
+  private static boolean isBeforeEnd(Integer week, Integer endWeek) {
+    return endWeek == null || week <= endWeek;
+  }
+}
@@ -23,21 +23,31 @@ import com.intellias.intellistart.interviewplanning.service.dto.InterviewerTimeS
 import java.time.LocalTime;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * Service for creating time slots for interviewer.
  */
 @Service
+@Slf4j
 @AllArgsConstructor
 public class InterviewerTimeSlotService {
 
+  private static final long SLOT_BUFFER_MINUTES = 30L;
+  private static final Pageable FIRST_ID = PageRequest.of(0, 1);
+
   @Value("${interview.duration_minutes}")
   private Integer interviewDuration;
 
@@ -50,6 +60,11 @@ public class InterviewerTimeSlotService {
   @Autowired
   private GetWeekNumberService weekService;
   private TimeSlotValidationService timeSlotValidationService;
+  private DashboardCacheService dashboardCacheService;
+  private InterviewerSlotTemplateService slotTemplateService;
+  private BookingCounterService bookingCounterService;
+  private BookingLockService bookingLockService;
+  private TransactionTemplate transactionTemplate;
 
   /**
    * Create time slot for Interviewer.
@@ -63,7 +78,7 @@ public class InterviewerTimeSlotService {
 
     LocalTime from = interviewerTimeSlot.getFrom();
     LocalTime to = interviewerTimeSlot.getTo();
-    InterviewDayOfWeek dayOfWeek = interviewerTimeSlot.getDayOfWeek();
+    final InterviewDayOfWeek dayOfWeek = interviewerTimeSlot.getDayOfWeek();
     Integer weekNum = interviewerTimeSlot.getWeekNum();
 
     validateWeekNumber(weekNum);
@@ -74,14 +89,14 @@ public class InterviewerTimeSlotService {
 
     User user = userRepository.findByEmail(interviewerEmail)
         .orElseThrow(InterviewerNotFoundException::new);
+    slotTemplateService.materializeWeek(weekNum);
 
-    interviewerTimeSlotRepository.findAllByUserAndWeekNum(user, interviewerTimeSlot.getWeekNum())
+    interviewerTimeSlotRepository.findSameSlotIds(user, weekNum, dayOfWeek, from, to,
+            FIRST_ID)
         .stream()
-        .filter(slot -> slot.getFrom().equals(from) && slot.getTo().equals(to))
-        .filter(slot -> slot.getDayOfWeek().equals(dayOfWeek))
         .findAny()
-        .ifPresent(slot -> {
-          throw new SlotIsOverlappingException(slot.getId());
+        .ifPresent(slotId -> {
+          throw new SlotIsOverlappingException(slotId);
         });
 
     interviewerTimeSlot.setUser(user);
@@ -91,8 +106,68 @@ public class InterviewerTimeSlotService {
       interviewerTimeSlot.setTo(from.plusMinutes(interviewDuration));
     }
 
-    return interviewerTimeSlotRepository.save(interviewerTimeSlot);
+    InterviewerTimeSlot savedTimeSlot = interviewerTimeSlotRepository.save(interviewerTimeSlot);
+    dashboardCacheService.interviewerSlotCreated(savedTimeSlot);
+
+    return savedTimeSlot;
   }
+
+  /**
+   * Copy all time slots of Interviewer from current week to next week. Weeks and interviewer
+   * are validated once, slots of templates are created in both weeks first, and slots are
+   * copied by one statement. Slots which overlap slots of next week are not copied.
+   * Dashboard is changed after copies are committed, so copies are loaded together with
+   * their bookings while transaction is still open.
+   *
+   * @param interviewerEmail for which copy slots
+   * @param fromWeek         week number from which copy slots, should be current week
+   * @param toWeek           week number to which copy slots, should be next week
+   * @return created interviewer time slots
+   */
+  public List<InterviewerTimeSlot> copySlots(String interviewerEmail, int fromWeek,
+      int toWeek) {
+    int currentWeekNum = weekService.getCurrentWeekNumber().getWeekNum();
+
+    if (fromWeek != currentWeekNum) {
+      throw new WeekNumberNotAcceptableException(Collections.singletonList(currentWeekNum));
+    }
+    validateWeekNumber(toWeek);
+
+    User user = userRepository.findByEmail(interviewerEmail)
+        .orElseThrow(InterviewerNotFoundException::new);
+    slotTemplateService.materializeWeek(fromWeek);
+    slotTemplateService.materializeWeek(toWeek);
+
+    List<InterviewerTimeSlot> copiedSlots = transactionTemplate.execute(status -> {
+      Set<Long> existingSlotIds = interviewerTimeSlotRepository
+          .findAllByUserAndWeekNum(user, toWeek).stream()
+          .map(InterviewerTimeSlot::getId)
+          .collect(Collectors.toSet());
+
+      int copied = interviewerTimeSlotRepository.copyAllByUserAndWeekNum(user.getId(),
+          fromWeek, toWeek, TimeSlotStatus.NEW.name());
+
+      log.info("Copied {} slots of interviewer {} from weekNum {} to weekNum {}",
+          copied, interviewerEmail, fromWeek, toWeek);
+
+      List<Long> copiedSlotIds = interviewerTimeSlotRepository
+          .findAllByUserAndWeekNum(user, toWeek).stream()
+          .map(InterviewerTimeSlot::getId)
+          .filter(id -> !existingSlotIds.contains(id))
+          .collect(Collectors.toList());
+
+      if (copiedSlotIds.isEmpty()) {
+        return List.<InterviewerTimeSlot>of();
+      }
+      return interviewerTimeSlotRepository.findAllWithBookingsByIdIn(copiedSlotIds).stream()
+          .sorted(Comparator.comparing(InterviewerTimeSlot::getId))
+          .collect(Collectors.toList());
+    });
+    copiedSlots.forEach(dashboardCacheService::interviewerSlotCreated);
+
+    return copiedSlots;
+  }
+
   /**
    * Get time slot for Interviewer.
    *
@@ -111,6 +186,7 @@ public class InterviewerTimeSlotService {
 
     User user = userRepository.findByEmail(interviewerEmail)
         .orElseThrow(InterviewerNotFoundException::new);
+    slotTemplateService.materializeWeek(weekNum);
 
     return interviewerTimeSlotRepository.findAllByUserAndWeekNum(user, weekNum).stream()
         .map(slot -> InterviewerTimeSlotDto.builder()
@@ -146,7 +222,8 @@ public class InterviewerTimeSlotService {
 
 
   /**
-   * Update time slot for Interviewer.
+   * Update time slot for Interviewer. Slot is saved under lock of interviewer, and when it is
+   * moved to other week, counts of its bookings are moved with it in the same transaction.
    *
    * @param interviewerEmail    for which update slot
    * @param slotId              for which update
@@ -187,28 +264,33 @@ public class InterviewerTimeSlotService {
       throw new SlotNotFoundException();
     }
 
-    interviewerTimeSlotRepository.findAllByUserAndWeekNum(user, interviewerTimeSlot.getWeekNum())
+    interviewerTimeSlotRepository.findOverlappingSlotIds(user, interviewerTimeSlot.getWeekNum(),
+            dayOfWeek, slotId, from, to, from.plusMinutes(SLOT_BUFFER_MINUTES),
+            to.minusMinutes(SLOT_BUFFER_MINUTES), FIRST_ID)
         .stream()
-        .filter(slot -> !slot.getId().equals(slotId))
-        .filter(slot -> slot.getDayOfWeek().equals(dayOfWeek))
-        .filter(slot ->
-            ((slot.getFrom().minusMinutes(30L).isBefore(from)
-                && slot.getTo().isAfter(from))
-              || (slot.getFrom().isBefore(to)
-                && slot.getTo().plusMinutes(30L).isAfter(to))
-              || (slot.getFrom().equals(from) && slot.getTo().equals(to))))
         .findAny()
-        .ifPresent(slot -> {
-          throw new SlotIsOverlappingException(slot.getId());
+        .ifPresent(overlappingSlotId -> {
+          throw new SlotIsOverlappingException(overlappingSlotId);
         });
 
 
 
+    final int previousWeekNum = outdatedInterviewerTimeSlot.getWeekNum();
+
     interviewerTimeSlot.setStatus(outdatedInterviewerTimeSlot.getStatus());
     interviewerTimeSlot.setId(slotId);
     interviewerTimeSlot.setUser(user);
 
-    return interviewerTimeSlotRepository.save(interviewerTimeSlot);
+    InterviewerTimeSlot savedTimeSlot = bookingLockService.withLocks(
+        Collections.singletonList(user.getId()), Collections.emptyList(),
+        () -> transactionTemplate.execute(status -> {
+          InterviewerTimeSlot slot = interviewerTimeSlotRepository.save(interviewerTimeSlot);
+          bookingCounterService.slotMoved(slot, previousWeekNum);
+          return slot;
+        }));
+    dashboardCacheService.interviewerSlotUpdated(previousWeekNum, savedTimeSlot);
+
+    return savedTimeSlot;
   }
 
   /**
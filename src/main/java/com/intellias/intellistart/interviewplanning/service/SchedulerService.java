@@ -0,0 +1,371 @@
+package com.intellias.intellistart.interviewplanning.service;
+
+import com.intellias.intellistart.interviewplanning.model.InterviewDayOfWeek;
+import com.intellias.intellistart.interviewplanning.model.User;
+import com.intellias.intellistart.interviewplanning.model.slot.CandidateTimeSlot;
+import com.intellias.intellistart.interviewplanning.model.slot.InterviewerTimeSlot;
+import com.intellias.intellistart.interviewplanning.repository.BookingLimitRepository;
+import com.intellias.intellistart.interviewplanning.repository.CandidateTimeSlotRepository;
+import com.intellias.intellistart.interviewplanning.repository.InterviewerTimeSlotRepository;
+import com.intellias.intellistart.interviewplanning.service.dto.BookingDto;
+import com.intellias.intellistart.interviewplanning.service.dto.ScheduleProposalDto;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * It is service for proposal of bookings for whole week. Each candidate without bookings in
+ * week gets at most one interview, interviewer slots get interviews in free time and within
+ * booking limit of interviewer. Proposal is not saved, it should be created with batch of
+ * bookings.
+ */
+@Service
+@Slf4j
+@AllArgsConstructor
+public class SchedulerService {
+
+  private static final int TIME_STEP_MINUTES = 30;
+  private static final String SUBJECT = "Interview";
+
+  @Value("${interview.duration_minutes}")
+  private Integer interviewDuration;
+
+  @Value("${scheduler.time_budget_ms}")
+  private Long timeBudgetMs;
+
+  private InterviewerTimeSlotRepository interviewerTimeSlotRepository;
+  private CandidateTimeSlotRepository candidateTimeSlotRepository;
+  private BookingLimitRepository bookingLimitRepository;
+  private BookingCounterService bookingCounterService;
+  private GetWeekNumberService weekService;
+  private InterviewerSlotTemplateService slotTemplateService;
+
+  /**
+   * Propose bookings for open candidate slots of week. Candidates with fewest options are
+   * placed first at earliest free time, then unplaced candidates are tried again by moving
+   * one blocking candidate to another free time. Time budget is checked in every phase,
+   * and when it runs out, bookings placed so far are proposed as incomplete proposal.
+   *
+   * @param weekNum number of week
+   * @return proposed bookings
+   */
+  public ScheduleProposalDto proposeBookings(int weekNum) {
+    final long deadline = System.currentTimeMillis() + timeBudgetMs;
+    slotTemplateService.materializeWeek(weekNum);
+
+    LocalDate monday = weekService.getDateForWeekNumAndDay(weekNum, DayOfWeek.MONDAY);
+    List<InterviewerTimeSlot> interviewerSlots = interviewerTimeSlotRepository
+        .findAllWithBookingsByWeekNum(weekNum);
+    List<CandidateTimeSlot> candidateSlots = candidateTimeSlotRepository
+        .findAllWithBookingsByDateBetween(monday, monday.plusDays(4));
+
+    Map<Long, Capacity> capacities = getCapacities(interviewerSlots, weekNum);
+    Map<InterviewDayOfWeek, List<SlotPlan>> slotsByDay = new EnumMap<>(InterviewDayOfWeek.class);
+    for (InterviewerTimeSlot interviewerSlot : interviewerSlots) {
+      slotsByDay.computeIfAbsent(interviewerSlot.getDayOfWeek(), day -> new ArrayList<>())
+          .add(new SlotPlan(interviewerSlot, capacities.get(interviewerSlot.getUser().getId())));
+    }
+
+    List<CandidatePlan> candidates = getCandidates(candidateSlots, slotsByDay, deadline);
+    candidates.sort(Comparator.comparingInt((CandidatePlan candidate) -> candidate.options.size())
+        .thenComparingInt(CandidatePlan::getFreeMinutes));
+
+    boolean complete = !isExpired(deadline);
+    for (CandidatePlan candidate : candidates) {
+      if (isExpired(deadline)) {
+        complete = false;
+        break;
+      }
+      placeAnywhere(candidate);
+    }
+
+    for (CandidatePlan candidate : candidates) {
+      if (isExpired(deadline)) {
+        complete = false;
+        break;
+      }
+      if (candidate.placement == null) {
+        placeByMovingBlocker(candidate);
+      }
+    }
+
+    List<BookingDto> bookings = candidates.stream()
+        .filter(candidate -> candidate.placement != null)
+        .map(this::toBookingDto)
+        .sorted(Comparator.comparing(BookingDto::getInterviewerTimeSlotId)
+            .thenComparing(BookingDto::getStartTime))
+        .collect(Collectors.toList());
+
+    log.info("Proposed {} bookings for {} candidates of week {}", bookings.size(),
+        candidates.size(), weekNum);
+
+    return ScheduleProposalDto.builder()
+        .weekNum(weekNum)
+        .bookings(bookings)
+        .unscheduledCandidates(candidates.size() - bookings.size())
+        .complete(complete)
+        .build();
+  }
+
+  private Map<Long, Capacity> getCapacities(List<InterviewerTimeSlot> interviewerSlots,
+      int weekNum) {
+    Map<Long, Capacity> capacities = new HashMap<>();
+    Set<User> interviewers = interviewerSlots.stream()
+        .map(InterviewerTimeSlot::getUser)
+        .collect(Collectors.toSet());
+    interviewers.forEach(interviewer -> capacities.put(interviewer.getId(),
+        new Capacity(Integer.MAX_VALUE)));
+
+    if (interviewers.isEmpty()) {
+      return capacities;
+    }
+
+    Map<Long, Integer> limits = new HashMap<>();
+    bookingLimitRepository.findAllByUserIn(interviewers)
+        .forEach(limit -> limits.put(limit.getUser().getId(), limit.getBookingLimit()));
+
+    Set<User> limitedInterviewers = interviewers.stream()
+        .filter(interviewer -> limits.containsKey(interviewer.getId()))
+        .collect(Collectors.toSet());
+
+    if (limitedInterviewers.isEmpty()) {
+      return capacities;
+    }
+
+    int currentWeekNum = weekService.getCurrentWeekNumber().getWeekNum();
+    Map<Long, Integer> weekCounts = bookingCounterService.getCounts(limitedInterviewers,
+        weekNum);
+    Map<Long, Integer> currentCounts = weekNum == currentWeekNum ? weekCounts
+        : bookingCounterService.getCounts(limitedInterviewers, currentWeekNum);
+
+    limits.forEach((interviewerId, limit) -> {
+      int currentCount = currentCounts.getOrDefault(interviewerId, 0);
+      boolean limitReached = currentCount > 0 && currentCount >= limit;
+      int free = limitReached ? 0 : limit - weekCounts.getOrDefault(interviewerId, 0);
+      capacities.put(interviewerId, new Capacity(Math.max(free, 0)));
+    });
+    return capacities;
+  }
+
+  /**
+   * Collect candidates with their options. Candidate slots which are not reached before
+   * deadline are left out.
+   */
+  private List<CandidatePlan> getCandidates(List<CandidateTimeSlot> candidateSlots,
+      Map<InterviewDayOfWeek, List<SlotPlan>> slotsByDay, long deadline) {
+    Set<String> bookedEmails = candidateSlots.stream()
+        .filter(candidateSlot -> !candidateSlot.getBookings().isEmpty())
+        .map(CandidateTimeSlot::getEmail)
+        .collect(Collectors.toSet());
+
+    Map<String, CandidatePlan> candidates = new LinkedHashMap<>();
+    for (CandidateTimeSlot candidateSlot : candidateSlots) {
+      if (isExpired(deadline)) {
+        break;
+      }
+      if (bookedEmails.contains(candidateSlot.getEmail())) {
+        continue;
+      }
+
+      CandidatePlan candidate = candidates.computeIfAbsent(candidateSlot.getEmail(),
+          email -> new CandidatePlan());
+      int from = toMinutes(candidateSlot.getFrom());
+      int to = toMinutes(candidateSlot.getTo());
+
+      for (SlotPlan slot : slotsByDay.getOrDefault(toDayOfWeek(candidateSlot.getDate()),
+          List.of())) {
+        int optionFrom = roundUp(Math.max(from, slot.from));
+        int optionTo = Math.min(to, slot.to);
+
+        if (optionTo - optionFrom >= interviewDuration) {
+          candidate.options.add(new Option(candidateSlot, slot, optionFrom, optionTo));
+        }
+      }
+    }
+
+    return candidates.values().stream()
+        .filter(candidate -> !candidate.options.isEmpty())
+        .collect(Collectors.toList());
+  }
+
+  private boolean placeAnywhere(CandidatePlan candidate) {
+    for (Option option : candidate.options) {
+      if (option.slot.capacity.free == 0) {
+        continue;
+      }
+      for (int start = option.from; start + interviewDuration <= option.to;
+          start += TIME_STEP_MINUTES) {
+        if (option.slot.isFree(start, start + interviewDuration)) {
+          place(candidate, option, start);
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  private void placeByMovingBlocker(CandidatePlan candidate) {
+    for (Option option : candidate.options) {
+      for (int start = option.from; start + interviewDuration <= option.to;
+          start += TIME_STEP_MINUTES) {
+        int end = start + interviewDuration;
+        if (option.slot.booked.conflicts(toTime(start), toTime(end))) {
+          continue;
+        }
+
+        NavigableMap<Integer, CandidatePlan> blockers = option.slot.proposed
+            .subMap(start - interviewDuration, false, end, false);
+        if (blockers.size() != 1) {
+          continue;
+        }
+
+        CandidatePlan blocker = blockers.firstEntry().getValue();
+        Placement blockerPlacement = blocker.placement;
+        unplace(blocker);
+
+        if (option.slot.capacity.free > 0) {
+          place(candidate, option, start);
+          if (placeAnywhere(blocker)) {
+            return;
+          }
+          unplace(candidate);
+        }
+        place(blocker, blockerPlacement.option, blockerPlacement.start);
+      }
+    }
+  }
+
+  private void place(CandidatePlan candidate, Option option, int start) {
+    candidate.placement = new Placement(option, start);
+    option.slot.proposed.put(start, candidate);
+    option.slot.capacity.free--;
+  }
+
+  private void unplace(CandidatePlan candidate) {
+    Placement placement = candidate.placement;
+    placement.option.slot.proposed.remove(placement.start);
+    placement.option.slot.capacity.free++;
+    candidate.placement = null;
+  }
+
+  private BookingDto toBookingDto(CandidatePlan candidate) {
+    Placement placement = candidate.placement;
+    CandidateTimeSlot candidateSlot = placement.option.candidateSlot;
+
+    return BookingDto.builder()
+        .interviewerTimeSlotId(placement.option.slot.interviewerSlot.getId())
+        .candidateTimeSlotId(candidateSlot.getId())
+        .startTime(toTime(placement.start))
+        .endTime(toTime(placement.start + interviewDuration))
+        .subject(SUBJECT)
+        .description("Interview for " + candidateSlot.getEmail())
+        .build();
+  }
+
+  private static boolean isExpired(long deadline) {
+    return System.currentTimeMillis() > deadline;
+  }
+
+  private static InterviewDayOfWeek toDayOfWeek(LocalDate date) {
+    for (InterviewDayOfWeek dayOfWeek : InterviewDayOfWeek.values()) {
+      if (InterviewDayOfWeek.convertToDayOfWeek(dayOfWeek).equals(date.getDayOfWeek())) {
+        return dayOfWeek;
+      }
+    }
+    return null;
+  }
+
+  private static int roundUp(int minutes) {
+    return Math.floorDiv(minutes + TIME_STEP_MINUTES - 1, TIME_STEP_MINUTES)
+        * TIME_STEP_MINUTES;
+  }
+
+  private static int toMinutes(LocalTime time) {
+    return time.toSecondOfDay() / 60;
+  }
+
+  private static LocalTime toTime(int minutes) {
+    return LocalTime.MIN.plusMinutes(minutes);
+  }
+
+  /**
+   * Count of bookings interviewer can still get.
+   */
+  @AllArgsConstructor
+  private static class Capacity {
+    private int free;
+  }
+
+  /**
+   * Interviewer slot with existing and proposed bookings.
+   */
+  private class SlotPlan {
+    private final InterviewerTimeSlot interviewerSlot;
+    private final Capacity capacity;
+    private final int from;
+    private final int to;
+    private final BookingIntervalIndex booked;
+    private final NavigableMap<Integer, CandidatePlan> proposed = new TreeMap<>();
+
+    SlotPlan(InterviewerTimeSlot interviewerSlot, Capacity capacity) {
+      this.interviewerSlot = interviewerSlot;
+      this.capacity = capacity;
+      this.from = toMinutes(interviewerSlot.getFrom());
+      this.to = toMinutes(interviewerSlot.getTo());
+      this.booked = BookingIntervalIndex.of(interviewerSlot.getBookings().stream());
+    }
+
+    boolean isFree(int start, int end) {
+      Map.Entry<Integer, CandidatePlan> previous = proposed.lowerEntry(end);
+      return (previous == null || previous.getKey() + interviewDuration <= start)
+          && !booked.conflicts(toTime(start), toTime(end));
+    }
+  }
+
+  /**
+   * Candidate with all interviewer slots where interview fits.
+   */
+  private static class CandidatePlan {
+    private final List<Option> options = new ArrayList<>();
+    private Placement placement;
+
+    int getFreeMinutes() {
+      return options.stream().mapToInt(option -> option.to - option.from).sum();
+    }
+  }
+
+  /**
+   * Common time of candidate slot and interviewer slot.
+   */
+  @AllArgsConstructor
+  private static class Option {
+    private final CandidateTimeSlot candidateSlot;
+    private final SlotPlan slot;
+    private final int from;
+    private final int to;
+  }
+
+  /**
+   * Proposed start of interview.
+   */
+  @AllArgsConstructor
+  private static class Placement {
+    private final Option option;
+    private final int start;
+  }
+}
@@ -59,7 +59,8 @@ public class TimeSlotValidationService {
     } else if (from.isAfter(to)) {
       throw new InvalidTimeSlotBoundariesException("from is after to");
 
-    } else if (MINUTES.between(from, to) < interviewDuration) {
+    } else if (AvailabilityMask.fittingStarts(AvailabilityMask.of(from, to),
+        AvailabilityMask.toTicks(interviewDuration)) == AvailabilityMask.EMPTY) {
       String message = "range cannot be shorter interview duration " + interviewDuration + " min.";
 
       throw new InvalidTimeSlotBoundariesException(message);
@@ -71,7 +72,7 @@ public class TimeSlotValidationService {
   }
 
   private boolean isNotRoundedTime(LocalTime time) {
-    return !(time.getMinute() == 30 || time.getMinute() == 0);
+    return !AvailabilityMask.isOnGrid(time);
   }
 
   /**
@@ -85,19 +86,19 @@ public class TimeSlotValidationService {
       InterviewerTimeSlot interviewerTimeSlot,
       CandidateTimeSlot candidateTimeSlot) {
 
-    if (isTimeNotInInterviewerSlotRange(interviewerTimeSlot,
-        bookingDto.getStartTime())
-        || isTimeNotInInterviewerSlotRange(interviewerTimeSlot,
-        bookingDto.getEndTime())) {
+    long booking = AvailabilityMask.of(bookingDto.getStartTime(), bookingDto.getEndTime());
+
+    if (!AvailabilityMask.covers(
+        AvailabilityMask.of(interviewerTimeSlot.getFrom(), interviewerTimeSlot.getTo()),
+        booking)) {
 
       throw new ValidationException("from/to does not fit into interviewer time slot",
           INVALID_BOUNDARIES);
     }
 
-    if (isTimeNotInCandidateSlotRange(candidateTimeSlot,
-        bookingDto.getStartTime())
-        || isTimeNotInCandidateSlotRange(candidateTimeSlot,
-        bookingDto.getEndTime())) {
+    if (!AvailabilityMask.covers(
+        AvailabilityMask.of(candidateTimeSlot.getFrom(), candidateTimeSlot.getTo()),
+        booking)) {
 
       throw new ValidationException("from/to does not fit into bounded candidate time slot",
           INVALID_BOUNDARIES);
@@ -105,12 +106,4 @@ public class TimeSlotValidationService {
 
     return true;
   }
-
-  private boolean isTimeNotInCandidateSlotRange(CandidateTimeSlot timeSlot, LocalTime target) {
-    return target.isBefore(timeSlot.getFrom()) || target.isAfter(timeSlot.getTo());
-  }
-
-  private boolean isTimeNotInInterviewerSlotRange(InterviewerTimeSlot timeSlot, LocalTime target) {
-    return target.isBefore(timeSlot.getFrom()) || target.isAfter(timeSlot.getTo());
-  }
 }
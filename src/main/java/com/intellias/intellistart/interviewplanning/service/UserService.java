@@ -7,16 +7,23 @@ import com.intellias.intellistart.interviewplanning.exceptions.UserNotFoundExcep
 import com.intellias.intellistart.interviewplanning.exceptions.ValidationException;
 import com.intellias.intellistart.interviewplanning.model.User;
 import com.intellias.intellistart.interviewplanning.model.User.UserRole;
+import com.intellias.intellistart.interviewplanning.repository.BookingCounterRepository;
 import com.intellias.intellistart.interviewplanning.repository.BookingLimitRepository;
 import com.intellias.intellistart.interviewplanning.repository.BookingRepository;
+import com.intellias.intellistart.interviewplanning.repository.InterviewerSlotTemplateRepository;
 import com.intellias.intellistart.interviewplanning.repository.InterviewerTimeSlotRepository;
 import com.intellias.intellistart.interviewplanning.repository.UserRepository;
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
 import java.util.regex.Pattern;
-import javax.transaction.Transactional;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * It is service for interactions with users.
@@ -27,11 +34,16 @@ import org.springframework.stereotype.Service;
 public class UserService {
 
   private static final String EMAIL_REGEX = "^(.+)@(\\S+)$";
+  private static final int DELETE_CHUNK_SIZE = 1000;
 
   private UserRepository userRepository;
   private BookingLimitRepository bookingLimitRepository;
   private BookingRepository bookingRepository;
   private InterviewerTimeSlotRepository interviewerTimeSlotRepository;
+  private DashboardCacheService dashboardCacheService;
+  private BookingCounterRepository bookingCounterRepository;
+  private InterviewerSlotTemplateRepository slotTemplateRepository;
+  private TransactionTemplate transactionTemplate;
 
   /**
    * Save user with role.
@@ -66,14 +78,23 @@ public class UserService {
   }
 
   /**
-   * Delete users by role.
+   * Delete users by role. Materialized dashboards are dropped after deletion of interviewer
+   * is committed, so they are not loaded again from rows which are still being deleted.
    *
    * @param id   to find user
    * @param role to filter user by role
    * @return deleted user
    */
-  @Transactional
   public User deleteUserWithRole(long id, UserRole role) {
+    User deletedUser = transactionTemplate.execute(status -> deleteUser(id, role));
+
+    if (role.equals(UserRole.INTERVIEWER)) {
+      dashboardCacheService.invalidateAll();
+    }
+    return deletedUser;
+  }
+
+  private User deleteUser(long id, UserRole role) {
     User userToRemove = userRepository.findById(id)
         .filter(user -> user.getRole().equals(role))
         .orElseThrow(() -> new UserNotFoundException(
@@ -84,10 +105,18 @@ public class UserService {
       log.info("Deleting all bookings and time slots related to the user with id {}", id);
 
       bookingLimitRepository.deleteByUser(userToRemove);
-      bookingRepository.deleteAllByInterviewerTimeSlot_User(userToRemove);
-      interviewerTimeSlotRepository.deleteAllByUser(userToRemove);
-
-      log.info("All bookings and time slots related to the user with id {} was deleted", id);
+      bookingCounterRepository.deleteAllByUser(userToRemove);
+      slotTemplateRepository.deleteAllMaterializedWeeksByUserId(userToRemove.getId());
+      slotTemplateRepository.deleteAllByUser(userToRemove);
+      int bookings = deleteInChunks(
+          chunk -> bookingRepository.findIdsByInterviewer(userToRemove, chunk),
+          bookingRepository::deleteAllByIdIn);
+      int slots = deleteInChunks(
+          chunk -> interviewerTimeSlotRepository.findIdsByUser(userToRemove, chunk),
+          interviewerTimeSlotRepository::deleteAllByIdIn);
+
+      log.info("{} bookings and {} time slots related to the user with id {} were deleted",
+          bookings, slots, id);
 
     }
     log.info("Deleting user {}", userToRemove);
@@ -97,6 +126,17 @@ public class UserService {
     return userToRemove;
   }
 
+  private int deleteInChunks(Function<Pageable, List<Long>> findIds,
+      ToIntFunction<Collection<Long>> deleteByIds) {
+    Pageable chunk = PageRequest.of(0, DELETE_CHUNK_SIZE);
+    int deleted = 0;
+
+    for (List<Long> ids = findIds.apply(chunk); !ids.isEmpty(); ids = findIds.apply(chunk)) {
+      deleted += deleteByIds.applyAsInt(ids);
+    }
+    return deleted;
+  }
+
   private boolean isEmailNotValid(String email) {
     if (email == null) {
       return true;
@@ -0,0 +1,26 @@
+package com.intellias.intellistart.interviewplanning.service.dto;
+
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * It is DTO for booking search filters. Filter which is null is not applied.
+ * Dates select bookings by date of candidate slot, both of them are inclusive.
+ */
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class BookingFilterDto {
+
+  private String interviewerEmail;
+  private String candidateEmail;
+  private LocalDate from;
+  private LocalDate to;
+  private Integer weekNum;
+
+}
@@ -0,0 +1,22 @@
+package com.intellias.intellistart.interviewplanning.service.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * It is DTO for page of found bookings. Next cursor is null on last page.
+ */
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class BookingPageDto {
+
+  private List<BookingSummaryDto> bookings;
+  private Long nextCursor;
+
+}
@@ -0,0 +1,31 @@
+package com.intellias.intellistart.interviewplanning.service.dto;
+
+import com.intellias.intellistart.interviewplanning.exceptions.ApplicationExceptionHandler.ErrorResponse;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * It is DTO for state of asynchronous booking request. Saved booking is set when request is
+ * done, error is set when request is failed.
+ */
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class BookingRequestDto {
+
+  private String id;
+  private Status status;
+  private BookingDto booking;
+  private ErrorResponse error;
+
+  /**
+   * State of booking request.
+   */
+  public enum Status {
+    PENDING, DONE, FAILED
+  }
+}
@@ -0,0 +1,22 @@
+package com.intellias.intellistart.interviewplanning.service.dto;
+
+import com.intellias.intellistart.interviewplanning.exceptions.ApplicationExceptionHandler.ErrorResponse;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * It is DTO for result of one booking from batch. Either saved booking or error is set.
+ */
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class BookingResultDto {
+
+  private BookingDto booking;
+  private ErrorResponse error;
+
+}
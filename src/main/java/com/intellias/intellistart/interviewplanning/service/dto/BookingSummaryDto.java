@@ -0,0 +1,33 @@
+package com.intellias.intellistart.interviewplanning.service.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * It is DTO for booking found by search, without its description.
+ */
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class BookingSummaryDto {
+
+  private Long id;
+  private Long interviewerTimeSlotId;
+  private Long candidateTimeSlotId;
+  private String interviewerEmail;
+  private String candidateEmail;
+  private LocalDate date;
+  @JsonFormat(pattern = "HH:mm")
+  private LocalTime startTime;
+  @JsonFormat(pattern = "HH:mm")
+  private LocalTime endTime;
+  private String subject;
+
+}
@@ -0,0 +1,27 @@
+package com.intellias.intellistart.interviewplanning.service.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * It is DTO for free time of interviewer slot where interview with candidate fits.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class CandidateSlotMatchDto {
+
+  private Long interviewerSlotId;
+  private String interviewerEmail;
+  private LocalDate date;
+  @JsonFormat(pattern = "HH:mm")
+  private LocalTime from;
+  @JsonFormat(pattern = "HH:mm")
+  private LocalTime to;
+}
@@ -0,0 +1,71 @@
+package com.intellias.intellistart.interviewplanning.service.dto;
+
+import com.intellias.intellistart.interviewplanning.model.InterviewDayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * It is compact DTO for dashboard. Slots refer to emails by index in emails list, times are
+ * minutes of day and bookings come without descriptions.
+ */
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class CompactDashboardDto {
+
+  private List<String> emails;
+  private List<CompactDay> days;
+
+  /**
+   * It is compact data for each day in dashboard.
+   */
+  @Data
+  @AllArgsConstructor
+  @NoArgsConstructor
+  @Builder
+  public static class CompactDay {
+    private LocalDate date;
+    private InterviewDayOfWeek dayOfWeek;
+    private List<CompactSlot> interviewerSlots;
+    private List<CompactSlot> candidateSlots;
+    private List<CompactBooking> bookings;
+  }
+
+  /**
+   * It is compact data for interviewer and candidate time slots.
+   */
+  @Data
+  @AllArgsConstructor
+  @NoArgsConstructor
+  @Builder
+  public static class CompactSlot {
+    private Long id;
+    private int from;
+    private int to;
+    private int email;
+    private List<Long> bookings;
+  }
+
+  /**
+   * It is compact data for booking without description.
+   */
+  @Data
+  @AllArgsConstructor
+  @NoArgsConstructor
+  @Builder
+  public static class CompactBooking {
+    private Long id;
+    private Long interviewerSlot;
+    private Long candidateSlot;
+    private int from;
+    private int to;
+    private String subject;
+  }
+
+}
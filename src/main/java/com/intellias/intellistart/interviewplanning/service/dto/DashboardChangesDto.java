@@ -0,0 +1,30 @@
+package com.intellias.intellistart.interviewplanning.service.dto;
+
+import com.intellias.intellistart.interviewplanning.service.dto.DashboardDto.DashboardDay;
+import java.util.List;
+import java.util.Set;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * It is DTO for changes of dashboard since some version. Days contain only added or changed
+ * slots and bookings, removed ones are listed by id. If resync is set, days contain whole
+ * dashboard and should replace one client has.
+ */
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class DashboardChangesDto {
+
+  private long version;
+  private boolean resync;
+  private List<DashboardDay> days;
+  private Set<Long> removedInterviewerSlots;
+  private Set<Long> removedCandidateSlots;
+  private Set<Long> removedBookings;
+
+}
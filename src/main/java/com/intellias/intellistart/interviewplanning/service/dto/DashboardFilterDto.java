@@ -0,0 +1,24 @@
+package com.intellias.intellistart.interviewplanning.service.dto;
+
+import com.intellias.intellistart.interviewplanning.model.InterviewDayOfWeek;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * It is DTO for dashboard filters. Filter which is null is not applied.
+ * Email selects interviewer, booked selects slots with or without bookings.
+ */
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class DashboardFilterDto {
+
+  private String email;
+  private InterviewDayOfWeek dayOfWeek;
+  private Boolean booked;
+
+}
@@ -0,0 +1,23 @@
+package com.intellias.intellistart.interviewplanning.service.dto;
+
+import com.intellias.intellistart.interviewplanning.service.dto.DashboardDto.DashboardDay;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * It is DTO for page of filtered dashboard. Next cursor is null on last page.
+ */
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class DashboardPageDto {
+
+  private List<DashboardDay> days;
+  private Long nextCursor;
+
+}
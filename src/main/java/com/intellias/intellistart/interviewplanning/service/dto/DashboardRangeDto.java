@@ -0,0 +1,23 @@
+package com.intellias.intellistart.interviewplanning.service.dto;
+
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * It is DTO for dashboards of several weeks, keyed by week number.
+ */
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class DashboardRangeDto {
+
+  private int fromWeek;
+  private int toWeek;
+  private Map<Integer, DashboardDto> weeks;
+
+}
@@ -0,0 +1,22 @@
+package com.intellias.intellistart.interviewplanning.service.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * It is DTO for proposed bookings of week, which can be created with batch of bookings.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class ScheduleProposalDto {
+
+  private int weekNum;
+  private List<BookingDto> bookings;
+  private int unscheduledCandidates;
+  private boolean complete;
+}
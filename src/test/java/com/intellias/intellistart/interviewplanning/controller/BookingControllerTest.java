@@ -9,25 +9,35 @@ import com.intellias.intellistart.interviewplanning.model.User.UserRole;
 import com.intellias.intellistart.interviewplanning.model.slot.CandidateTimeSlot;
 import com.intellias.intellistart.interviewplanning.model.slot.InterviewerTimeSlot;
 import com.intellias.intellistart.interviewplanning.repository.BookingRepository;
+import com.intellias.intellistart.interviewplanning.repository.BookingRepository.BookingDescription;
 import com.intellias.intellistart.interviewplanning.repository.CandidateTimeSlotRepository;
 import com.intellias.intellistart.interviewplanning.repository.InterviewerTimeSlotRepository;
+import com.intellias.intellistart.interviewplanning.repository.UserRepository;
 import com.intellias.intellistart.interviewplanning.security.config.JwtRequestFilter;
 import com.intellias.intellistart.interviewplanning.security.config.SimpleUserPrincipal;
+import com.intellias.intellistart.interviewplanning.service.BookingCounterService;
+import com.intellias.intellistart.interviewplanning.service.IdempotencyService;
 import com.intellias.intellistart.interviewplanning.service.dto.BookingDto;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.test.context.support.TestExecutionEvent;
 import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.security.test.context.support.WithUserDetails;
 import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
@@ -48,6 +58,8 @@ class BookingControllerTest {
   private JwtRequestFilter jwtRequestFilter;
   @Autowired
   private ObjectMapper objectMapper;
+  @Autowired
+  private UserRepository userRepository;
 
   @MockBean
   private BookingRepository bookingRepository;
@@ -55,6 +67,8 @@ class BookingControllerTest {
   private InterviewerTimeSlotRepository interviewerTimeSlotRepository;
   @MockBean
   private CandidateTimeSlotRepository candidateTimeSlotRepository;
+  @MockBean
+  private BookingCounterService bookingCounterService;
 
   private MockMvc mockMvc;
 
@@ -71,6 +85,7 @@ class BookingControllerTest {
       .to(LocalTime.of(11, 30))
       .dayOfWeek(InterviewDayOfWeek.MONDAY)
       .weekNum(15)
+      .user(new User(1L, "interviewer@test.com", UserRole.INTERVIEWER))
       .bookings(Collections.emptyList())
       .build();
   private static final CandidateTimeSlot CANDIDATE_TIME_SLOT = CandidateTimeSlot.builder()
@@ -99,10 +114,16 @@ class BookingControllerTest {
     this.mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext)
         .addFilter(jwtRequestFilter)
         .build();
+    userRepository.save(new User(userEmail, UserRole.COORDINATOR));
+  }
+
+  @AfterEach
+  public void tearDown() {
+    userRepository.deleteAll();
   }
 
   @Test
-  @WithMockUser(authorities = "COORDINATOR")
+  @WithUserDetails(value = userEmail, setupBefore = TestExecutionEvent.TEST_EXECUTION)
   void sendPostMethodToCreateBookingAndRetrieveStatusOk() throws Exception {
     Mockito.when(interviewerTimeSlotRepository.findById(1L))
         .thenReturn(Optional.of(INTERVIEWER_TIME_SLOT));
@@ -122,6 +143,32 @@ class BookingControllerTest {
         .andExpect(MockMvcResultMatchers.content().string(responseBooking));
   }
 
+  @Test
+  @WithUserDetails(value = userEmail, setupBefore = TestExecutionEvent.TEST_EXECUTION)
+  void sendPostMethodToCreateBookingTwiceWithSameIdempotencyKeyAndSaveOnce() throws Exception {
+    Mockito.when(interviewerTimeSlotRepository.findById(1L))
+        .thenReturn(Optional.of(INTERVIEWER_TIME_SLOT));
+    Mockito.when(candidateTimeSlotRepository.findById(1L))
+        .thenReturn(Optional.of(CANDIDATE_TIME_SLOT));
+    Mockito.when(bookingRepository.save(BOOKING))
+        .thenReturn(BOOKING);
+
+    String requestBooking = objectMapper.writeValueAsString(BOOKING_DTO);
+    for (int i = 0; i < 2; i++) {
+      this.mockMvc.perform(MockMvcRequestBuilders.post(POST_BOOKING_URL)
+              .with(SecurityMockMvcRequestPostProcessors.user(userDetails))
+              .header(IdempotencyService.IDEMPOTENCY_KEY_HEADER, "create-booking")
+              .content(requestBooking)
+              .accept(MediaType.APPLICATION_JSON)
+              .contentType(MediaType.APPLICATION_JSON))
+          .andExpect(MockMvcResultMatchers.status().isCreated())
+          .andExpect(MockMvcResultMatchers.jsonPath("$.subject").value("Interview"));
+    }
+
+    Mockito.verify(bookingRepository).save(ArgumentMatchers.any());
+    Mockito.verify(candidateTimeSlotRepository).findById(1L);
+  }
+
   @Test
   @WithMockUser(authorities = "COORDINATOR")
   public void sendPostMethodToUpdateBookingAndRetrieveStatusOk() throws Exception {
@@ -158,4 +205,21 @@ class BookingControllerTest {
         .andExpect(MockMvcResultMatchers.status().isOk());
   }
 
-}
\ No newline at end of file
+  @Test
+  @WithMockUser(authorities = "COORDINATOR")
+  public void sendGetMethodToGetDescriptionsAndRetrieveStatusOk() throws Exception {
+    BookingDescription description = Mockito.mock(BookingDescription.class);
+    Mockito.when(description.getId()).thenReturn(1L);
+    Mockito.when(description.getDescription()).thenReturn("Interview for candidate");
+    Mockito.when(bookingRepository.findDescriptionsByIdIn(Set.of(1L, 2L)))
+        .thenReturn(List.of(description));
+
+    this.mockMvc.perform(MockMvcRequestBuilders.get(POST_BOOKING_URL + "/descriptions")
+            .param("ids", "1,2")
+            .with(SecurityMockMvcRequestPostProcessors.user(userDetails))
+            .accept(MediaType.APPLICATION_JSON))
+        .andExpect(MockMvcResultMatchers.status().isOk())
+        .andExpect(MockMvcResultMatchers.jsonPath("$.1").value("Interview for candidate"));
+  }
+
+}
@@ -0,0 +1,198 @@
+package com.intellias.intellistart.interviewplanning.controller;
+
+import com.intellias.intellistart.interviewplanning.InterviewPlanningApplication;
+import com.intellias.intellistart.interviewplanning.repository.CandidateTimeSlotRepository;
+import com.intellias.intellistart.interviewplanning.repository.InterviewerTimeSlotRepository;
+import com.intellias.intellistart.interviewplanning.security.config.JwtRequestFilter;
+import com.intellias.intellistart.interviewplanning.service.DashboardCacheService;
+import java.util.Collections;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(classes = InterviewPlanningApplication.class)
+@ActiveProfiles("test")
+class DashboardControllerTest {
+
+  @Autowired
+  private WebApplicationContext webApplicationContext;
+  @Autowired
+  private JwtRequestFilter jwtRequestFilter;
+  @Autowired
+  private DashboardCacheService dashboardCacheService;
+
+  @MockBean
+  private InterviewerTimeSlotRepository interviewerTimeSlotRepository;
+  @MockBean
+  private CandidateTimeSlotRepository candidateTimeSlotRepository;
+
+  private MockMvc mockMvc;
+
+  private static final int WEEK_NUM = 44;
+  private static final String DASHBOARD_URL = "/weeks/" + WEEK_NUM + "/dashboard";
+  private static final String DASHBOARD_CHANGES_URL = DASHBOARD_URL + "/changes";
+  private static final String DASHBOARD_EVENTS_URL = DASHBOARD_URL + "/events";
+  private static final String DASHBOARD_RANGE_URL = "/dashboard";
+
+  @BeforeEach
+  public void setUp() {
+    this.mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext)
+        .addFilter(jwtRequestFilter)
+        .build();
+    dashboardCacheService.invalidateAll();
+
+    Mockito.when(interviewerTimeSlotRepository.findAllWithBookingsByWeekNum(WEEK_NUM))
+        .thenReturn(Collections.emptyList());
+    Mockito.when(candidateTimeSlotRepository.findAllWithBookingsByDateBetween(
+            ArgumentMatchers.any(), ArgumentMatchers.any()))
+        .thenReturn(Collections.emptyList());
+  }
+
+  @Test
+  @WithMockUser(authorities = "COORDINATOR")
+  void sendGetRequestForDashboardAndRetrieveEtag() throws Exception {
+    String etag = "\"" + dashboardCacheService.getVersion(WEEK_NUM) + "\"";
+
+    this.mockMvc.perform(MockMvcRequestBuilders.get(DASHBOARD_URL)
+            .accept(MediaType.APPLICATION_JSON))
+        .andExpect(MockMvcResultMatchers.status().isOk())
+        .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, etag))
+        .andExpect(MockMvcResultMatchers.jsonPath("$.days.length()").value(5));
+  }
+
+  @Test
+  @WithMockUser(authorities = "COORDINATOR")
+  void sendGetRequestForDashboardWithCurrentEtagAndRetrieveNotModified() throws Exception {
+    String etag = this.mockMvc.perform(MockMvcRequestBuilders.get(DASHBOARD_URL)
+            .accept(MediaType.APPLICATION_JSON))
+        .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+    String body = this.mockMvc.perform(MockMvcRequestBuilders.get(DASHBOARD_URL)
+            .header(HttpHeaders.IF_NONE_MATCH, etag)
+            .accept(MediaType.APPLICATION_JSON))
+        .andExpect(MockMvcResultMatchers.status().isNotModified())
+        .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, etag))
+        .andReturn().getResponse().getContentAsString();
+
+    Assertions.assertTrue(body.isEmpty());
+  }
+
+  @Test
+  @WithMockUser(authorities = "COORDINATOR")
+  void sendGetRequestForDashboardWithStaleEtagAndRetrieveStatusOk() throws Exception {
+    String staleEtag = "\"" + dashboardCacheService.getVersion(WEEK_NUM) + "\"";
+    dashboardCacheService.invalidateAll();
+
+    this.mockMvc.perform(MockMvcRequestBuilders.get(DASHBOARD_URL)
+            .header(HttpHeaders.IF_NONE_MATCH, staleEtag)
+            .accept(MediaType.APPLICATION_JSON))
+        .andExpect(MockMvcResultMatchers.status().isOk())
+        .andExpect(MockMvcResultMatchers.header().exists(HttpHeaders.ETAG));
+  }
+
+  @Test
+  @WithMockUser(authorities = "COORDINATOR")
+  void sendGetRequestForDashboardChangesWithCurrentVersionAndRetrieveNoChanges()
+      throws Exception {
+    long version = dashboardCacheService.getVersion(WEEK_NUM);
+
+    this.mockMvc.perform(MockMvcRequestBuilders.get(DASHBOARD_CHANGES_URL)
+            .param("since", String.valueOf(version))
+            .accept(MediaType.APPLICATION_JSON))
+        .andExpect(MockMvcResultMatchers.status().isOk())
+        .andExpect(MockMvcResultMatchers.jsonPath("$.version").value(version))
+        .andExpect(MockMvcResultMatchers.jsonPath("$.resync").value(false))
+        .andExpect(MockMvcResultMatchers.jsonPath("$.days").isEmpty());
+  }
+
+  @Test
+  @WithMockUser(authorities = "COORDINATOR")
+  void sendGetRequestForDashboardChangesWithUnknownVersionAndRetrieveResync() throws Exception {
+    this.mockMvc.perform(MockMvcRequestBuilders.get(DASHBOARD_CHANGES_URL)
+            .param("since", "0")
+            .accept(MediaType.APPLICATION_JSON))
+        .andExpect(MockMvcResultMatchers.status().isOk())
+        .andExpect(MockMvcResultMatchers.jsonPath("$.resync").value(true))
+        .andExpect(MockMvcResultMatchers.jsonPath("$.days.length()").value(5));
+  }
+
+  @Test
+  @WithMockUser(authorities = "COORDINATOR")
+  void sendGetRequestForDashboardEventsAndRetrieveWholeDashboardEvent() throws Exception {
+    MvcResult result = this.mockMvc.perform(MockMvcRequestBuilders.get(DASHBOARD_EVENTS_URL)
+            .accept(MediaType.TEXT_EVENT_STREAM))
+        .andExpect(MockMvcResultMatchers.request().asyncStarted())
+        .andReturn();
+
+    String events = awaitEvents(result);
+
+    Assertions.assertTrue(events.contains("event:changes"));
+    Assertions.assertTrue(events.contains("\"resync\":true"));
+  }
+
+  @Test
+  @WithMockUser(authorities = "COORDINATOR")
+  void sendGetRequestForDashboardRangeAndRetrieveDashboardOfEachWeek() throws Exception {
+    this.mockMvc.perform(MockMvcRequestBuilders.get(DASHBOARD_RANGE_URL)
+            .param("fromWeek", String.valueOf(WEEK_NUM))
+            .param("toWeek", String.valueOf(WEEK_NUM + 1))
+            .accept(MediaType.APPLICATION_JSON))
+        .andExpect(MockMvcResultMatchers.status().isOk())
+        .andExpect(MockMvcResultMatchers.jsonPath("$.weeks.length()").value(2))
+        .andExpect(MockMvcResultMatchers.jsonPath("$.weeks['44'].days.length()").value(5))
+        .andExpect(MockMvcResultMatchers.jsonPath("$.weeks['45'].days.length()").value(5));
+  }
+
+  @Test
+  @WithMockUser(authorities = "COORDINATOR")
+  void sendGetRequestForInvalidDashboardRangeAndRetrieveBadRequest() throws Exception {
+    this.mockMvc.perform(MockMvcRequestBuilders.get(DASHBOARD_RANGE_URL)
+            .param("fromWeek", String.valueOf(WEEK_NUM + 1))
+            .param("toWeek", String.valueOf(WEEK_NUM))
+            .accept(MediaType.APPLICATION_JSON))
+        .andExpect(MockMvcResultMatchers.status().isBadRequest())
+        .andExpect(MockMvcResultMatchers.jsonPath("$.errorCode").value("invalid_week_range"));
+  }
+
+  @Test
+  @WithMockUser(authorities = "COORDINATOR")
+  void sendGetRequestForCompactDashboardAndRetrieveEtag() throws Exception {
+    String etag = "\"" + dashboardCacheService.getVersion(WEEK_NUM) + "\"";
+
+    this.mockMvc.perform(MockMvcRequestBuilders.get(DASHBOARD_URL + "/compact")
+            .accept(MediaType.APPLICATION_JSON))
+        .andExpect(MockMvcResultMatchers.status().isOk())
+        .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, etag))
+        .andExpect(MockMvcResultMatchers.jsonPath("$.emails").isEmpty())
+        .andExpect(MockMvcResultMatchers.jsonPath("$.days.length()").value(5));
+  }
+
+  private static String awaitEvents(MvcResult result) throws Exception {
+    long deadline = System.currentTimeMillis() + 5000;
+    String events = result.getResponse().getContentAsString();
+
+    while (!events.endsWith("\n\n") && System.currentTimeMillis() < deadline) {
+      Thread.sleep(50);
+      events = result.getResponse().getContentAsString();
+    }
+    return events;
+  }
+}
@@ -124,7 +124,9 @@ public class InterviewTimeSlotControllerTest {
     expectedSlot.setUser(USER);
 
     Mockito.when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(USER));
-    Mockito.when(timeSlotRepository.findAllByUserAndWeekNum(USER, 23))
+    Mockito.when(timeSlotRepository.findSameSlotIds(ArgumentMatchers.eq(USER),
+            ArgumentMatchers.anyInt(), ArgumentMatchers.any(), ArgumentMatchers.any(),
+            ArgumentMatchers.any(), ArgumentMatchers.any()))
         .thenReturn(Collections.emptyList());
     Mockito.when(timeSlotRepository.save(Mockito.any())).thenReturn(expectedSlot);
 
@@ -163,7 +165,9 @@ public class InterviewTimeSlotControllerTest {
     expectedSlot.setUser(USER);
 
     Mockito.when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(USER));
-    Mockito.when(timeSlotRepository.findAllByUserAndWeekNum(USER, 23))
+    Mockito.when(timeSlotRepository.findSameSlotIds(ArgumentMatchers.eq(USER),
+            ArgumentMatchers.anyInt(), ArgumentMatchers.any(), ArgumentMatchers.any(),
+            ArgumentMatchers.any(), ArgumentMatchers.any()))
         .thenReturn(Collections.emptyList());
 
     Mockito.when(timeSlotRepository.save(Mockito.any())).thenReturn(expectedSlot);
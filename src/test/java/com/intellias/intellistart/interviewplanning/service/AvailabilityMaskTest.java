@@ -0,0 +1,92 @@
+package com.intellias.intellistart.interviewplanning.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+public class AvailabilityMaskTest {
+
+  private static final List<LocalTime> GRID = new ArrayList<>();
+
+  static {
+    for (int minutes = 8 * 60; minutes <= 22 * 60; minutes += AvailabilityMask.TICK_MINUTES) {
+      GRID.add(LocalTime.of(minutes / 60, minutes % 60));
+    }
+  }
+
+  @Test
+  public void of_Should_SetBitsOfTicksInsideRange() {
+    assertEquals(0b111L << 20, AvailabilityMask.of(LocalTime.of(10, 0), LocalTime.of(11, 30)));
+    assertEquals(0b1111L << 20, AvailabilityMask.of(LocalTime.of(10, 10), LocalTime.of(11, 40)));
+    assertEquals(AvailabilityMask.EMPTY,
+        AvailabilityMask.of(LocalTime.of(11, 0), LocalTime.of(10, 0)));
+    assertEquals(1L << 47, AvailabilityMask.of(LocalTime.of(23, 30), LocalTime.MAX));
+  }
+
+  @Test
+  public void isOnGrid_Should_AcceptOnlyRoundedTime() {
+    assertTrue(AvailabilityMask.isOnGrid(LocalTime.of(10, 30)));
+    assertFalse(AvailabilityMask.isOnGrid(LocalTime.of(10, 15)));
+    assertFalse(AvailabilityMask.isOnGrid(LocalTime.of(10, 0, 1)));
+  }
+
+  @Test
+  public void coversAndIntersects_Should_MatchComparisonsOfBoundaries() {
+    for (LocalTime slotFrom : GRID) {
+      for (LocalTime slotTo : GRID) {
+        if (!slotFrom.isBefore(slotTo)) {
+          continue;
+        }
+        long slot = AvailabilityMask.of(slotFrom, slotTo);
+
+        for (LocalTime from : GRID) {
+          for (LocalTime to : GRID) {
+            if (!from.isBefore(to)) {
+              continue;
+            }
+            long range = AvailabilityMask.of(from, to);
+
+            assertEquals(!from.isBefore(slotFrom) && !to.isAfter(slotTo),
+                AvailabilityMask.covers(slot, range));
+            assertEquals(from.isBefore(slotTo) && to.isAfter(slotFrom),
+                AvailabilityMask.intersects(slot, range));
+          }
+        }
+      }
+    }
+  }
+
+  @Test
+  public void fittingStarts_Should_FindStartsOfFreeRuns() {
+    Random random = new Random(42);
+
+    for (int i = 0; i < 1000; i++) {
+      long available = random.nextLong() >>> 16;
+      int length = 1 + random.nextInt(8);
+
+      assertEquals(fittingStartsOneByOne(available, length),
+          AvailabilityMask.fittingStarts(available, length));
+    }
+    assertEquals(AvailabilityMask.EMPTY, AvailabilityMask.fittingStarts(
+        AvailabilityMask.of(LocalTime.of(10, 0), LocalTime.of(11, 0)),
+        AvailabilityMask.toTicks(90)));
+  }
+
+  private static long fittingStartsOneByOne(long available, int length) {
+    long starts = AvailabilityMask.EMPTY;
+
+    for (int tick = 0; tick + length <= Long.SIZE; tick++) {
+      long run = AvailabilityMask.ofTicks(tick, tick + length);
+      if (AvailabilityMask.covers(available, run)) {
+        starts |= 1L << tick;
+      }
+    }
+    return starts;
+  }
+}
@@ -0,0 +1,119 @@
+package com.intellias.intellistart.interviewplanning.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.intellias.intellistart.interviewplanning.exceptions.InvalidTimeSlotBoundariesException;
+import com.intellias.intellistart.interviewplanning.exceptions.WeekNumberNotAcceptableException;
+import com.intellias.intellistart.interviewplanning.model.InterviewDayOfWeek;
+import com.intellias.intellistart.interviewplanning.model.slot.InterviewerTimeSlot;
+import com.intellias.intellistart.interviewplanning.service.dto.AvailableInterviewerDto;
+import com.intellias.intellistart.interviewplanning.service.dto.BookingDto;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+class AvailabilityServiceTest extends DatabaseTest {
+
+  private static final String EMAIL = "interviewer@test.com";
+  private static final String OTHER_EMAIL = "other.interviewer@test.com";
+
+  @Autowired
+  private AvailabilityService availabilityService;
+  @Autowired
+  private BookingService bookingService;
+
+  private LocalDate monday;
+  private InterviewerTimeSlot slot;
+  private InterviewerTimeSlot otherSlot;
+
+  @BeforeEach
+  public void setUp() {
+    monday = LocalDate.now().with(DayOfWeek.MONDAY);
+    int weekNum = weekService.getWeekNumForDate(monday);
+    slot = saveInterviewerSlot(saveInterviewer(EMAIL), weekNum, InterviewDayOfWeek.MONDAY,
+        LocalTime.of(10, 0), LocalTime.of(14, 0));
+    otherSlot = saveInterviewerSlot(saveInterviewer(OTHER_EMAIL), weekNum,
+        InterviewDayOfWeek.MONDAY, LocalTime.of(12, 0), LocalTime.of(13, 30));
+    dashboardCacheService.invalidateAll();
+  }
+
+  @Test
+  void getAvailableInterviewers_Should_FindSlotsWhereInterviewFits() {
+    assertEquals(List.of(slot.getId(), otherSlot.getId()), getAvailableSlotIds(12, 0));
+    assertEquals(List.of(slot.getId()), getAvailableSlotIds(12, 30));
+    assertTrue(getAvailableSlotIds(13, 0).isEmpty());
+    assertTrue(getAvailableSlotIds(9, 0).isEmpty());
+    assertTrue(availabilityService.getAvailableInterviewers(monday.plusDays(5),
+        LocalTime.of(12, 0)).isEmpty());
+    assertThrows(InvalidTimeSlotBoundariesException.class,
+        () -> availabilityService.getAvailableInterviewers(monday, LocalTime.of(12, 15)));
+
+    AvailableInterviewerDto interviewer = availabilityService.getAvailableInterviewers(monday,
+        LocalTime.of(12, 30)).get(0);
+    assertEquals(EMAIL, interviewer.getInterviewerEmail());
+    assertEquals(monday, interviewer.getDate());
+    assertEquals(LocalTime.of(14, 0), interviewer.getTo());
+  }
+
+  @Test
+  void getAvailableInterviewers_When_DateIsNotInCurrentOrNextWeek_Should_ThrowException() {
+    LocalTime from = LocalTime.of(12, 0);
+
+    assertThrows(WeekNumberNotAcceptableException.class,
+        () -> availabilityService.getAvailableInterviewers(monday.minusWeeks(1), from));
+    assertThrows(WeekNumberNotAcceptableException.class,
+        () -> availabilityService.getAvailableInterviewers(monday.plusWeeks(2), from));
+    assertThrows(WeekNumberNotAcceptableException.class,
+        () -> availabilityService.getAvailableInterviewers(monday.plusYears(1), from));
+    assertTrue(availabilityService.getAvailableInterviewers(monday.plusWeeks(1), from)
+        .isEmpty());
+  }
+
+  @Test
+  void getAvailableInterviewers_When_WeekIsChanged_Should_RebuildIndex() {
+    assertEquals(List.of(slot.getId()), getAvailableSlotIds(10, 0));
+
+    bookingService.createBooking(BookingDto.builder()
+        .interviewerTimeSlotId(slot.getId())
+        .candidateTimeSlotId(saveCandidateSlot("candidate@test.com", monday,
+            LocalTime.of(10, 0), LocalTime.of(14, 0)).getId())
+        .startTime(LocalTime.of(10, 30))
+        .endTime(LocalTime.of(12, 0))
+        .subject("Interview")
+        .description("Interview for candidate")
+        .build());
+
+    assertTrue(getAvailableSlotIds(10, 0).isEmpty());
+    assertEquals(List.of(slot.getId(), otherSlot.getId()), getAvailableSlotIds(12, 0));
+
+    otherSlot.setTo(LocalTime.of(14, 0));
+    interviewerTimeSlotRepository.save(otherSlot);
+    dashboardCacheService.interviewerSlotUpdated(otherSlot.getWeekNum(), otherSlot);
+
+    assertEquals(List.of(slot.getId(), otherSlot.getId()), getAvailableSlotIds(12, 30));
+  }
+
+  @Test
+  void getAvailableInterviewers_When_WeekIsNotChanged_Should_NotQueryDatabase() {
+    getAvailableSlotIds(12, 0);
+    Statistics statistics = clearStatistics();
+
+    assertEquals(List.of(slot.getId()), getAvailableSlotIds(12, 30));
+    assertEquals(0, statistics.getPrepareStatementCount());
+  }
+
+  private List<Long> getAvailableSlotIds(int hour, int minute) {
+    return availabilityService.getAvailableInterviewers(monday, LocalTime.of(hour, minute))
+        .stream()
+        .map(AvailableInterviewerDto::getInterviewerSlotId)
+        .collect(Collectors.toList());
+  }
+}
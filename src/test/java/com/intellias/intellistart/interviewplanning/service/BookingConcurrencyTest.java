@@ -0,0 +1,127 @@
+package com.intellias.intellistart.interviewplanning.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.intellias.intellistart.interviewplanning.exceptions.BookingIsAlreadyExistsException;
+import com.intellias.intellistart.interviewplanning.exceptions.ValidationException;
+import com.intellias.intellistart.interviewplanning.model.BookingLimit;
+import com.intellias.intellistart.interviewplanning.model.InterviewDayOfWeek;
+import com.intellias.intellistart.interviewplanning.model.User;
+import com.intellias.intellistart.interviewplanning.model.slot.CandidateTimeSlot;
+import com.intellias.intellistart.interviewplanning.service.dto.BookingDto;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+class BookingConcurrencyTest extends DatabaseTest {
+
+  private static final int THREADS = 16;
+  private static final int BOOKING_LIMIT = 4;
+  private static final LocalTime FROM = LocalTime.of(10, 0);
+  private static final LocalTime TO = LocalTime.of(14, 0);
+
+  @Autowired
+  private BookingService bookingService;
+
+  private User interviewer;
+  private int weekNum;
+
+  @BeforeEach
+  public void setUp() {
+    weekNum = weekService.getCurrentWeekNumber().getWeekNum();
+    interviewer = saveInterviewer("interviewer@test.com");
+  }
+
+  @Test
+  void createBooking_When_CalledConcurrently_Should_NotOverrunBookingLimit() throws Exception {
+    bookingLimitRepository.save(BookingLimit.builder()
+        .user(interviewer)
+        .weekNum(weekNum)
+        .bookingLimit(BOOKING_LIMIT)
+        .build());
+
+    List<BookingDto> bookingDtos = new ArrayList<>();
+    for (int i = 0; i < THREADS; i++) {
+      Long interviewerSlotId = saveInterviewerSlot(interviewer, weekNum,
+          InterviewDayOfWeek.MONDAY, FROM, TO).getId();
+      bookingDtos.add(generateBookingDto(interviewerSlotId, saveCandidateSlot(i).getId()));
+    }
+
+    Queue<RuntimeException> failures = createConcurrently(bookingDtos);
+
+    assertEquals(BOOKING_LIMIT, bookingRepository.count());
+    assertEquals(BOOKING_LIMIT, bookingCounterRepository
+        .findByUserAndWeekNum(interviewer, weekNum).orElseThrow().getBookings());
+    assertEquals(THREADS - BOOKING_LIMIT, failures.size());
+    assertTrue(failures.stream().allMatch(e -> e instanceof ValidationException));
+  }
+
+  @Test
+  void createBooking_When_SameRangeBookedConcurrently_Should_CreateOneBooking()
+      throws Exception {
+    Long interviewerSlotId = saveInterviewerSlot(interviewer, weekNum,
+        InterviewDayOfWeek.MONDAY, FROM, TO).getId();
+
+    List<BookingDto> bookingDtos = new ArrayList<>();
+    for (int i = 0; i < THREADS; i++) {
+      bookingDtos.add(generateBookingDto(interviewerSlotId, saveCandidateSlot(i).getId()));
+    }
+
+    Queue<RuntimeException> failures = createConcurrently(bookingDtos);
+
+    assertEquals(1, bookingRepository.count());
+    assertEquals(THREADS - 1, failures.size());
+    assertTrue(failures.stream().allMatch(e -> e instanceof BookingIsAlreadyExistsException));
+  }
+
+  private Queue<RuntimeException> createConcurrently(List<BookingDto> bookingDtos)
+      throws InterruptedException {
+    ExecutorService executor = Executors.newFixedThreadPool(bookingDtos.size());
+    CountDownLatch start = new CountDownLatch(1);
+    Queue<RuntimeException> failures = new ConcurrentLinkedQueue<>();
+
+    for (BookingDto bookingDto : bookingDtos) {
+      executor.execute(() -> {
+        try {
+          start.await();
+          bookingService.createBooking(bookingDto);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+          failures.add(e);
+        }
+      });
+    }
+
+    start.countDown();
+    executor.shutdown();
+    assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+    return failures;
+  }
+
+  private CandidateTimeSlot saveCandidateSlot(int candidate) {
+    return saveCandidateSlot("candidate" + candidate + "@test.com", LocalDate.now(), FROM, TO);
+  }
+
+  private static BookingDto generateBookingDto(Long interviewerSlotId, Long candidateSlotId) {
+    return BookingDto.builder()
+        .interviewerTimeSlotId(interviewerSlotId)
+        .candidateTimeSlotId(candidateSlotId)
+        .startTime(LocalTime.of(10, 0))
+        .endTime(LocalTime.of(11, 30))
+        .subject("Interview")
+        .description("Interview for candidate")
+        .build();
+  }
+}
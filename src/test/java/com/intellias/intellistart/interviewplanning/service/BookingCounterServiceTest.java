@@ -0,0 +1,109 @@
+package com.intellias.intellistart.interviewplanning.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.intellias.intellistart.interviewplanning.model.BookingCounter;
+import com.intellias.intellistart.interviewplanning.model.User;
+import com.intellias.intellistart.interviewplanning.model.User.UserRole;
+import com.intellias.intellistart.interviewplanning.model.slot.InterviewerTimeSlot;
+import com.intellias.intellistart.interviewplanning.repository.BookingCounterRepository;
+import com.intellias.intellistart.interviewplanning.repository.BookingRepository;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class BookingCounterServiceTest {
+
+  private static final int WEEK_NUM = 43;
+  private static final User FIRST_INTERVIEWER = new User(1L, "first@test.com",
+      UserRole.INTERVIEWER);
+  private static final User SECOND_INTERVIEWER = new User(2L, "second@test.com",
+      UserRole.INTERVIEWER);
+
+  @Mock
+  private BookingCounterRepository bookingCounterRepository;
+  @Mock
+  private BookingRepository bookingRepository;
+
+  private BookingCounterService bookingCounterService;
+
+  @BeforeEach
+  public void setUp() {
+    bookingCounterService = new BookingCounterService(bookingCounterRepository,
+        bookingRepository);
+  }
+
+  @Test
+  public void getCount_When_CounterExists_Should_NotCreateIt() {
+    Mockito.when(bookingCounterRepository.findByUserAndWeekNum(FIRST_INTERVIEWER, WEEK_NUM))
+        .thenReturn(Optional.of(new BookingCounter(1L, FIRST_INTERVIEWER, WEEK_NUM, 3)));
+
+    assertEquals(3, bookingCounterService.getCount(FIRST_INTERVIEWER, WEEK_NUM));
+    Mockito.verify(bookingCounterRepository, Mockito.never()).createCounters(
+        ArgumentMatchers.any(), ArgumentMatchers.anyInt(), ArgumentMatchers.anyInt());
+  }
+
+  @Test
+  public void getCounts_When_CountersAreMissing_Should_CreateOnlyMissingOnes() {
+    Mockito.when(bookingCounterRepository.findAllByUserInAndWeekNum(
+            List.of(FIRST_INTERVIEWER, SECOND_INTERVIEWER), WEEK_NUM))
+        .thenReturn(List.of(new BookingCounter(1L, FIRST_INTERVIEWER, WEEK_NUM, 3)));
+    Mockito.when(bookingCounterRepository.findAllByUserInAndWeekNum(
+            List.of(SECOND_INTERVIEWER), WEEK_NUM))
+        .thenReturn(List.of(new BookingCounter(2L, SECOND_INTERVIEWER, WEEK_NUM, 4)));
+
+    Map<Long, Integer> counts = bookingCounterService.getCounts(
+        List.of(FIRST_INTERVIEWER, SECOND_INTERVIEWER), WEEK_NUM);
+
+    Mockito.verify(bookingCounterRepository).createCounters(List.of(2L), WEEK_NUM, 0);
+
+    assertEquals(Map.of(1L, 3, 2L, 4), counts);
+  }
+
+  @Test
+  public void bookingAdded_When_CounterExists_Should_IncrementItInPlace() {
+    Mockito.when(bookingCounterRepository.addBookings(FIRST_INTERVIEWER, WEEK_NUM, 1))
+        .thenReturn(1);
+
+    bookingCounterService.bookingAdded(FIRST_INTERVIEWER, WEEK_NUM);
+
+    Mockito.verify(bookingCounterRepository, Mockito.never()).createCounters(
+        ArgumentMatchers.any(), ArgumentMatchers.anyInt(), ArgumentMatchers.anyInt());
+  }
+
+  @Test
+  public void bookingRemoved_When_CounterIsMissing_Should_CreateItInSameTransaction() {
+    Mockito.when(bookingCounterRepository.addBookings(FIRST_INTERVIEWER, WEEK_NUM, -1))
+        .thenReturn(0);
+
+    bookingCounterService.bookingRemoved(FIRST_INTERVIEWER, WEEK_NUM);
+
+    Mockito.verify(bookingCounterRepository).createCounters(List.of(1L), WEEK_NUM, -1);
+  }
+
+  @Test
+  public void slotMoved_When_SlotHasBookings_Should_MoveTheirCountsToNewWeek() {
+    InterviewerTimeSlot slot = InterviewerTimeSlot.builder()
+        .id(5L)
+        .user(FIRST_INTERVIEWER)
+        .weekNum(WEEK_NUM + 1)
+        .build();
+    Mockito.when(bookingRepository.countByInterviewerTimeSlotId(5L)).thenReturn(2L);
+    Mockito.when(bookingCounterRepository.addBookings(ArgumentMatchers.eq(FIRST_INTERVIEWER),
+            ArgumentMatchers.anyInt(), ArgumentMatchers.anyInt()))
+        .thenReturn(1);
+
+    bookingCounterService.slotMoved(slot, WEEK_NUM);
+
+    Mockito.verify(bookingCounterRepository).addBookings(FIRST_INTERVIEWER, WEEK_NUM, -2);
+    Mockito.verify(bookingCounterRepository).addBookings(FIRST_INTERVIEWER, WEEK_NUM + 1, 2);
+  }
+}
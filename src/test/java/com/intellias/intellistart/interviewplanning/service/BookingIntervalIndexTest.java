@@ -0,0 +1,77 @@
+package com.intellias.intellistart.interviewplanning.service;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.intellias.intellistart.interviewplanning.model.Booking;
+import java.time.LocalTime;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+public class BookingIntervalIndexTest {
+
+  @ParameterizedTest
+  @MethodSource("intersectingRanges")
+  public void conflicts_When_RangeIntersectsBooking_Should_ReturnTrue(LocalTime from,
+      LocalTime to) {
+    BookingIntervalIndex index = BookingIntervalIndex.of(Stream.of(
+        generateBooking(LocalTime.of(10, 0), LocalTime.of(11, 30)),
+        generateBooking(LocalTime.of(14, 0), LocalTime.of(15, 30))));
+
+    assertTrue(index.conflicts(from, to));
+  }
+
+  @ParameterizedTest
+  @MethodSource("freeRanges")
+  public void conflicts_When_RangeIsFree_Should_ReturnFalse(LocalTime from, LocalTime to) {
+    BookingIntervalIndex index = BookingIntervalIndex.of(Stream.of(
+        generateBooking(LocalTime.of(10, 0), LocalTime.of(11, 30)),
+        generateBooking(LocalTime.of(14, 0), LocalTime.of(15, 30))));
+
+    assertFalse(index.conflicts(from, to));
+  }
+
+  @Test
+  public void conflicts_When_RangeIsShorterThanBuffer_Should_CheckBufferAroundIt() {
+    BookingIntervalIndex index = new BookingIntervalIndex();
+    index.add(LocalTime.of(10, 0), LocalTime.of(11, 30));
+
+    assertTrue(index.conflicts(LocalTime.of(11, 40), LocalTime.of(11, 50)));
+    assertFalse(index.conflicts(LocalTime.of(12, 0), LocalTime.of(12, 10)));
+  }
+
+  @Test
+  public void add_When_RangesOverlap_Should_MergeThem() {
+    BookingIntervalIndex index = new BookingIntervalIndex();
+    index.add(LocalTime.of(13, 0), LocalTime.of(14, 30));
+    index.add(LocalTime.of(10, 0), LocalTime.of(11, 30));
+    index.add(LocalTime.of(11, 0), LocalTime.of(13, 30));
+
+    assertTrue(index.conflicts(LocalTime.of(12, 0), LocalTime.of(13, 30)));
+    assertTrue(index.contains(LocalTime.of(11, 0), LocalTime.of(13, 30)));
+    assertFalse(index.contains(LocalTime.of(10, 0), LocalTime.of(14, 30)));
+    assertFalse(index.conflicts(LocalTime.of(14, 30), LocalTime.of(16, 0)));
+  }
+
+  private static Stream<Arguments> intersectingRanges() {
+    return Stream.of(Arguments.of(LocalTime.of(10, 0), LocalTime.of(11, 30)),
+        Arguments.of(LocalTime.of(11, 0), LocalTime.of(12, 30)),
+        Arguments.of(LocalTime.of(9, 0), LocalTime.of(10, 30)),
+        Arguments.of(LocalTime.of(13, 0), LocalTime.of(17, 0)),
+        Arguments.of(LocalTime.of(14, 30), LocalTime.of(15, 0)));
+  }
+
+  private static Stream<Arguments> freeRanges() {
+    return Stream.of(Arguments.of(LocalTime.of(8, 30), LocalTime.of(10, 0)),
+        Arguments.of(LocalTime.of(11, 30), LocalTime.of(13, 0)),
+        Arguments.of(LocalTime.of(12, 30), LocalTime.of(14, 0)),
+        Arguments.of(LocalTime.of(15, 30), LocalTime.of(17, 0)));
+  }
+
+  private static Booking generateBooking(LocalTime from, LocalTime to) {
+    return Booking.builder().startTime(from).endTime(to).build();
+  }
+}
@@ -0,0 +1,184 @@
+package com.intellias.intellistart.interviewplanning.service;
+
+import static com.intellias.intellistart.interviewplanning.exceptions.ApplicationExceptionHandler.MAX_COUNT_OF_BOOKING;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.intellias.intellistart.interviewplanning.exceptions.BookingQueueIsFullException;
+import com.intellias.intellistart.interviewplanning.exceptions.BookingRequestNotFoundException;
+import com.intellias.intellistart.interviewplanning.exceptions.SlotNotFoundException;
+import com.intellias.intellistart.interviewplanning.exceptions.ValidationException;
+import com.intellias.intellistart.interviewplanning.repository.InterviewerTimeSlotRepository;
+import com.intellias.intellistart.interviewplanning.service.dto.BookingDto;
+import com.intellias.intellistart.interviewplanning.service.dto.BookingRequestDto;
+import com.intellias.intellistart.interviewplanning.service.dto.BookingRequestDto.Status;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class BookingRequestServiceTest {
+
+  @Mock
+  private BookingService bookingService;
+  @Mock
+  private InterviewerTimeSlotRepository interviewerTimeSlotRepository;
+
+  private BookingRequestService bookingRequestService;
+
+  @BeforeEach
+  public void setUp() {
+    bookingRequestService = new BookingRequestService(2, 1, 100, bookingService,
+        interviewerTimeSlotRepository);
+    bookingRequestService.start();
+  }
+
+  @AfterEach
+  public void tearDown() {
+    bookingRequestService.shutdown();
+  }
+
+  @Test
+  public void submit_Should_CreateBookingAsynchronously() {
+    BookingDto bookingDto = generateBookingDto(1L, 10);
+    mockInterviewer(1L, 1L);
+    Mockito.when(bookingService.createBooking(bookingDto)).thenReturn(bookingDto);
+
+    BookingRequestDto request = bookingRequestService.submit(bookingDto);
+    BookingRequestDto processedRequest = awaitProcessed(request.getId());
+
+    assertEquals(Status.DONE, processedRequest.getStatus());
+    assertEquals(bookingDto, processedRequest.getBooking());
+    assertNull(processedRequest.getError());
+  }
+
+  @Test
+  public void submit_When_BookingIsNotValid_Should_FailRequest() {
+    BookingDto bookingDto = generateBookingDto(1L, 10);
+    mockInterviewer(1L, 1L);
+    Mockito.when(bookingService.createBooking(bookingDto)).thenThrow(
+        new ValidationException("interviewer has max count of bookings", MAX_COUNT_OF_BOOKING));
+
+    BookingRequestDto request = bookingRequestService.submit(bookingDto);
+    BookingRequestDto processedRequest = awaitProcessed(request.getId());
+
+    assertEquals(Status.FAILED, processedRequest.getStatus());
+    assertNull(processedRequest.getBooking());
+    assertEquals(MAX_COUNT_OF_BOOKING, processedRequest.getError().getErrorCode());
+  }
+
+  @Test
+  public void submit_When_RequestsAreForSameInterviewer_Should_ProcessThemOneByOneInOrder() {
+    List<BookingDto> bookingDtos = new ArrayList<>();
+    for (int hour = 8; hour < 20; hour++) {
+      bookingDtos.add(generateBookingDto(1L, hour));
+    }
+    List<BookingDto> processed = new CopyOnWriteArrayList<>();
+    AtomicInteger running = new AtomicInteger();
+    AtomicInteger maxRunning = new AtomicInteger();
+    bookingRequestService.shutdown();
+    bookingRequestService = new BookingRequestService(2, bookingDtos.size(), 100,
+        bookingService, interviewerTimeSlotRepository);
+    bookingRequestService.start();
+    mockInterviewer(1L, 1L);
+    Mockito.when(bookingService.createBooking(ArgumentMatchers.any())).thenAnswer(invocation -> {
+      maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+      processed.add(invocation.getArgument(0));
+      running.decrementAndGet();
+      return invocation.getArgument(0);
+    });
+
+    List<String> requestIds = new ArrayList<>();
+    for (BookingDto bookingDto : bookingDtos) {
+      requestIds.add(bookingRequestService.submit(bookingDto).getId());
+    }
+    requestIds.forEach(this::awaitProcessed);
+
+    assertEquals(bookingDtos, processed);
+    assertEquals(1, maxRunning.get());
+  }
+
+  @Test
+  public void submit_When_QueueOfInterviewerIsFull_Should_ThrowException() {
+    CountDownLatch release = new CountDownLatch(1);
+    mockInterviewer(1L, 1L);
+    Mockito.when(bookingService.createBooking(ArgumentMatchers.any())).thenAnswer(invocation -> {
+      release.await(5, TimeUnit.SECONDS);
+      return invocation.getArgument(0);
+    });
+
+    BookingRequestDto runningRequest = bookingRequestService.submit(generateBookingDto(1L, 10));
+    awaitStarted();
+    bookingRequestService.submit(generateBookingDto(1L, 12));
+
+    assertThrows(BookingQueueIsFullException.class,
+        () -> bookingRequestService.submit(generateBookingDto(1L, 14)));
+
+    release.countDown();
+    assertEquals(Status.DONE, awaitProcessed(runningRequest.getId()).getStatus());
+  }
+
+  @Test
+  public void submit_When_SlotIsNotFound_Should_ThrowException() {
+    Mockito.when(interviewerTimeSlotRepository.findUserIdsByIdIn(
+        Collections.singletonList(1L))).thenReturn(Collections.emptyList());
+    BookingDto bookingDto = generateBookingDto(1L, 10);
+
+    assertThrows(SlotNotFoundException.class, () -> bookingRequestService.submit(bookingDto));
+  }
+
+  @Test
+  public void getRequest_When_RequestIsNotFound_Should_ThrowException() {
+    assertThrows(BookingRequestNotFoundException.class,
+        () -> bookingRequestService.getRequest("unknown"));
+  }
+
+  private void mockInterviewer(Long interviewerSlotId, Long interviewerId) {
+    Mockito.when(interviewerTimeSlotRepository.findUserIdsByIdIn(
+        Collections.singletonList(interviewerSlotId))).thenReturn(List.of(interviewerId));
+  }
+
+  private void awaitStarted() {
+    Mockito.verify(bookingService, Mockito.timeout(5000)).createBooking(ArgumentMatchers.any());
+  }
+
+  private BookingRequestDto awaitProcessed(String requestId) {
+    long deadline = System.currentTimeMillis() + 5000;
+    BookingRequestDto request = bookingRequestService.getRequest(requestId);
+
+    while (request.getStatus() == Status.PENDING && System.currentTimeMillis() < deadline) {
+      try {
+        Thread.sleep(10);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      request = bookingRequestService.getRequest(requestId);
+    }
+    return request;
+  }
+
+  private static BookingDto generateBookingDto(Long interviewerSlotId, int hour) {
+    return BookingDto.builder()
+        .startTime(LocalTime.of(hour, 0))
+        .endTime(LocalTime.of(hour + 1, 30))
+        .candidateTimeSlotId(1L)
+        .interviewerTimeSlotId(interviewerSlotId)
+        .subject("Interview")
+        .description("Interview for candidate")
+        .build();
+  }
+}
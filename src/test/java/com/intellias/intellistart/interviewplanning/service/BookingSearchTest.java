@@ -0,0 +1,128 @@
+package com.intellias.intellistart.interviewplanning.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.intellias.intellistart.interviewplanning.exceptions.InvalidLimitException;
+import com.intellias.intellistart.interviewplanning.exceptions.ValidationException;
+import com.intellias.intellistart.interviewplanning.model.Booking;
+import com.intellias.intellistart.interviewplanning.model.InterviewDayOfWeek;
+import com.intellias.intellistart.interviewplanning.model.User;
+import com.intellias.intellistart.interviewplanning.model.slot.CandidateTimeSlot;
+import com.intellias.intellistart.interviewplanning.model.slot.InterviewerTimeSlot;
+import com.intellias.intellistart.interviewplanning.service.dto.BookingFilterDto;
+import com.intellias.intellistart.interviewplanning.service.dto.BookingPageDto;
+import com.intellias.intellistart.interviewplanning.service.dto.BookingSummaryDto;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+class BookingSearchTest extends DatabaseTest {
+
+  private static final int WEEK_NUM = 43;
+  private static final LocalDate MONDAY_DATE = LocalDate.of(2022, 10, 24);
+  private static final int BOOKINGS_PER_DAY = 3;
+
+  @Autowired
+  private BookingService bookingService;
+
+  @BeforeEach
+  public void setUp() {
+    List<User> interviewers = List.of(
+        saveInterviewer("first@test.com"),
+        saveInterviewer("second@test.com"));
+
+    for (int week = 0; week < 2; week++) {
+      for (InterviewDayOfWeek dayOfWeek : List.of(InterviewDayOfWeek.MONDAY,
+          InterviewDayOfWeek.TUESDAY)) {
+        LocalDate date = MONDAY_DATE.plusWeeks(week).plusDays(dayOfWeek.ordinal());
+        User interviewer = interviewers.get(dayOfWeek.ordinal());
+        saveBookings(interviewer, WEEK_NUM + week, dayOfWeek,
+            "candidate" + week + "@test.com", date);
+      }
+    }
+  }
+
+  @Test
+  void searchBookings_Should_ApplyFilters() {
+    BookingPageDto interviewerPage = bookingService.searchBookings(BookingFilterDto.builder()
+        .interviewerEmail("first@test.com").build(), null, 50);
+    BookingPageDto candidatePage = bookingService.searchBookings(BookingFilterDto.builder()
+        .candidateEmail("candidate1@test.com").build(), null, 50);
+    BookingPageDto datePage = bookingService.searchBookings(BookingFilterDto.builder()
+        .from(MONDAY_DATE.plusDays(1)).to(MONDAY_DATE.plusDays(7)).build(), null, 50);
+    BookingPageDto weekPage = bookingService.searchBookings(BookingFilterDto.builder()
+        .weekNum(WEEK_NUM).interviewerEmail("second@test.com").build(), null, 50);
+
+    assertEquals(2 * BOOKINGS_PER_DAY, interviewerPage.getBookings().size());
+    assertTrue(interviewerPage.getBookings().stream()
+        .allMatch(booking -> booking.getInterviewerEmail().equals("first@test.com")));
+    assertEquals(2 * BOOKINGS_PER_DAY, candidatePage.getBookings().size());
+    assertTrue(candidatePage.getBookings().stream()
+        .allMatch(booking -> !booking.getDate().isBefore(MONDAY_DATE.plusWeeks(1))));
+    assertEquals(List.of(MONDAY_DATE.plusDays(1), MONDAY_DATE.plusDays(7)),
+        datePage.getBookings().stream()
+            .map(BookingSummaryDto::getDate)
+            .distinct()
+            .collect(Collectors.toList()));
+    assertEquals(BOOKINGS_PER_DAY, weekPage.getBookings().size());
+    assertEquals(MONDAY_DATE.plusDays(1), weekPage.getBookings().get(0).getDate());
+    assertNull(weekPage.getNextCursor());
+  }
+
+  @Test
+  void searchBookings_Should_ReturnAllBookingsPageByPageInOrder() {
+    List<BookingSummaryDto> bookings = new ArrayList<>();
+    Long cursor = null;
+    int pages = 0;
+
+    do {
+      BookingPageDto page = bookingService.searchBookings(new BookingFilterDto(), cursor, 5);
+      bookings.addAll(page.getBookings());
+      cursor = page.getNextCursor();
+      pages++;
+    } while (cursor != null);
+
+    assertEquals(3, pages);
+    assertEquals(bookingRepository.findAll().stream()
+            .map(Booking::getId)
+            .sorted()
+            .collect(Collectors.toList()),
+        bookings.stream().map(BookingSummaryDto::getId).collect(Collectors.toList()));
+    assertEquals("Interview", bookings.get(0).getSubject());
+  }
+
+  @Test
+  void searchBookings_When_LimitOrDatesAreNotValid_Should_ThrowException() {
+    BookingFilterDto filter = BookingFilterDto.builder()
+        .from(MONDAY_DATE.plusDays(1))
+        .to(MONDAY_DATE)
+        .build();
+    BookingFilterDto emptyFilter = new BookingFilterDto();
+
+    assertThrows(ValidationException.class,
+        () -> bookingService.searchBookings(filter, null, 50));
+    assertThrows(InvalidLimitException.class,
+        () -> bookingService.searchBookings(emptyFilter, null, 0));
+  }
+
+  private void saveBookings(User interviewer, int weekNum, InterviewDayOfWeek dayOfWeek,
+      String candidateEmail, LocalDate date) {
+    InterviewerTimeSlot interviewerSlot = saveInterviewerSlot(interviewer, weekNum, dayOfWeek,
+        LocalTime.of(8, 0), LocalTime.of(22, 0));
+    CandidateTimeSlot candidateSlot = saveCandidateSlot(candidateEmail, date, LocalTime.of(8, 0),
+        LocalTime.of(22, 0));
+
+    for (int i = 0; i < BOOKINGS_PER_DAY; i++) {
+      saveBooking(interviewerSlot, candidateSlot, LocalTime.of(8 + 2 * i, 0),
+          LocalTime.of(9 + 2 * i, 30));
+    }
+  }
+}
@@ -1,29 +1,39 @@
 package com.intellias.intellistart.interviewplanning.service;
 
+import static com.intellias.intellistart.interviewplanning.exceptions.ApplicationExceptionHandler.INVALID_BOUNDARIES;
+import static com.intellias.intellistart.interviewplanning.exceptions.ApplicationExceptionHandler.SLOT_NOT_FOUND;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import com.intellias.intellistart.interviewplanning.exceptions.BookingIsAlreadyExistsException;
 import com.intellias.intellistart.interviewplanning.exceptions.BookingNotFoundException;
+import com.intellias.intellistart.interviewplanning.exceptions.InvalidLimitException;
 import com.intellias.intellistart.interviewplanning.exceptions.SlotNotFoundException;
 import com.intellias.intellistart.interviewplanning.exceptions.ValidationException;
 import com.intellias.intellistart.interviewplanning.model.Booking;
 import com.intellias.intellistart.interviewplanning.model.BookingLimit;
 import com.intellias.intellistart.interviewplanning.model.InterviewDayOfWeek;
+import com.intellias.intellistart.interviewplanning.model.User;
+import com.intellias.intellistart.interviewplanning.model.User.UserRole;
 import com.intellias.intellistart.interviewplanning.model.WeekNumber;
 import com.intellias.intellistart.interviewplanning.model.slot.CandidateTimeSlot;
 import com.intellias.intellistart.interviewplanning.model.slot.InterviewerTimeSlot;
 import com.intellias.intellistart.interviewplanning.repository.BookingLimitRepository;
 import com.intellias.intellistart.interviewplanning.repository.BookingRepository;
+import com.intellias.intellistart.interviewplanning.repository.BookingRepository.BookingDescription;
 import com.intellias.intellistart.interviewplanning.repository.CandidateTimeSlotRepository;
 import com.intellias.intellistart.interviewplanning.repository.InterviewerTimeSlotRepository;
 import com.intellias.intellistart.interviewplanning.service.dto.BookingDto;
+import com.intellias.intellistart.interviewplanning.service.dto.BookingResultDto;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -34,15 +44,20 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.ArgumentCaptor;
 import org.mockito.ArgumentMatchers;
 import org.mockito.Captor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @ExtendWith(MockitoExtension.class)
 public class BookingServiceTest {
 
   private static final int SUBJECT_LENGTH = 10;
   private static final int DESCRIPTION_LENGTH = 35;
+  private static final User INTERVIEWER = new User(1L, "interviewer@test.com",
+      UserRole.INTERVIEWER);
   private static final BookingDto BOOKING_DTO = generateBookingDto();
   private static final InterviewerTimeSlot INTERVIEWER_TIME_SLOT = generateInterviewerSlot();
   private static final InterviewerTimeSlot INTERVIEWER_TIME_SLOT_WITH_BOOKINGS =
@@ -63,9 +78,17 @@ public class BookingServiceTest {
   private TimeSlotValidationService timeSlotValidationService;
   @Mock
   private GetWeekNumberService weekNumberService;
+  @Mock
+  private DashboardCacheService dashboardCacheService;
+  @Mock
+  private BookingCounterService bookingCounterService;
+  @Mock
+  private PlatformTransactionManager transactionManager;
 
   @Captor
   private ArgumentCaptor<Booking> bookingArgumentCaptor;
+  @Captor
+  private ArgumentCaptor<List<Booking>> bookingListCaptor;
 
   private BookingService bookingService;
 
@@ -73,7 +96,28 @@ public class BookingServiceTest {
   public void setUp() {
     bookingService = new BookingService(SUBJECT_LENGTH, DESCRIPTION_LENGTH, bookingRepository,
         interviewerTimeSlotRepository, candidateTimeSlotRepository, timeSlotValidationService,
-        bookingLimitRepository, weekNumberService);
+        bookingLimitRepository, weekNumberService, dashboardCacheService, bookingCounterService,
+        new BookingLockService(),
+        new TransactionTemplate(transactionManager));
+  }
+
+  @Test
+  void getDescriptions_Should_ReturnDescriptionsByBookingId() {
+    BookingDescription description = Mockito.mock(BookingDescription.class);
+    Mockito.when(description.getId()).thenReturn(1L);
+    Mockito.when(description.getDescription()).thenReturn("Interview for candidate");
+    Mockito.when(bookingRepository.findDescriptionsByIdIn(Set.of(1L, 2L)))
+        .thenReturn(List.of(description));
+
+    Map<Long, String> descriptions = bookingService.getDescriptions(Set.of(1L, 2L));
+
+    assertEquals(Map.of(1L, "Interview for candidate"), descriptions);
+  }
+
+  @Test
+  void getDescriptions_When_NoIdsGiven_Should_ThrowException() {
+    assertThrows(InvalidLimitException.class,
+        () -> bookingService.getDescriptions(Collections.emptySet()));
   }
 
   @Test
@@ -92,6 +136,10 @@ public class BookingServiceTest {
 
     Booking actualBooking = bookingArgumentCaptor.getValue();
 
+    Mockito.verify(dashboardCacheService, Mockito.times(1)).bookingCreated(actualBooking);
+    Mockito.verify(bookingCounterService, Mockito.times(1))
+        .bookingAdded(INTERVIEWER_TIME_SLOT.getUser(), INTERVIEWER_TIME_SLOT.getWeekNum());
+
     assertEquals(BOOKING.getStartTime(), actualBooking.getStartTime());
     assertEquals(BOOKING.getEndTime(), actualBooking.getEndTime());
     assertEquals(BOOKING.getCandidateTimeSlot(), actualBooking.getCandidateTimeSlot());
@@ -100,6 +148,40 @@ public class BookingServiceTest {
     assertEquals(BOOKING.getDescription(), actualBooking.getDescription());
   }
 
+  @Test
+  public void createBooking_Should_ChangeCounterBeforeAndDashboardAfterCommit() {
+    Mockito.when(interviewerTimeSlotRepository.findById(1L))
+        .thenReturn(Optional.of(INTERVIEWER_TIME_SLOT));
+    Mockito.when(candidateTimeSlotRepository.findById(1L))
+        .thenReturn(Optional.of(CANDIDATE_TIME_SLOT));
+
+    bookingService.createBooking(generateBookingDto());
+
+    InOrder inOrder = Mockito.inOrder(bookingRepository, transactionManager,
+        bookingCounterService, dashboardCacheService);
+    inOrder.verify(bookingRepository).save(ArgumentMatchers.any());
+    inOrder.verify(bookingCounterService).bookingAdded(INTERVIEWER_TIME_SLOT.getUser(),
+        INTERVIEWER_TIME_SLOT.getWeekNum());
+    inOrder.verify(transactionManager).commit(ArgumentMatchers.any());
+    inOrder.verify(dashboardCacheService).bookingCreated(ArgumentMatchers.any());
+  }
+
+  @Test
+  public void createBooking_When_InterviewerIsChangedWhileLocking_Should_LockAgain() {
+    Mockito.when(interviewerTimeSlotRepository.findUserIdsByIdIn(Collections.singleton(1L)))
+        .thenReturn(List.of(2L), List.of(1L));
+    Mockito.when(interviewerTimeSlotRepository.findById(1L))
+        .thenReturn(Optional.of(INTERVIEWER_TIME_SLOT));
+    Mockito.when(candidateTimeSlotRepository.findById(1L))
+        .thenReturn(Optional.of(CANDIDATE_TIME_SLOT));
+
+    bookingService.createBooking(generateBookingDto());
+
+    Mockito.verify(interviewerTimeSlotRepository, Mockito.times(3))
+        .findUserIdsByIdIn(Collections.singleton(1L));
+    Mockito.verify(bookingRepository, Mockito.times(1)).save(ArgumentMatchers.any());
+  }
+
   @Test
   public void createBooking_When_InterviewerSlotNotFound_Should_ThrowException() {
     Mockito.when(interviewerTimeSlotRepository.findById(1L)).thenReturn(Optional.empty());
@@ -176,13 +258,67 @@ public class BookingServiceTest {
         .thenReturn(Optional.of(INTERVIEWER_TIME_SLOT_WITH_BOOKINGS));
     Mockito.when(bookingLimitRepository.findByUser(ArgumentMatchers.any()))
         .thenReturn(Optional.of(BOOKING_LIMIT));
-    Mockito.when(bookingRepository.findAllByInterviewerTimeSlotUser(ArgumentMatchers.any()))
-        .thenReturn(List.of(generateBooking(), generateBooking()));
+    Mockito.when(bookingCounterService.getCount(ArgumentMatchers.any(), ArgumentMatchers.eq(15)))
+        .thenReturn(2);
     Mockito.when(weekNumberService.getCurrentWeekNumber()).thenReturn(new WeekNumber(15));
 
     assertThrows(ValidationException.class, () -> bookingService.createBooking(BOOKING_DTO));
   }
 
+  @Test
+  public void createBookings_Should_SaveValidBookingsAndReportRejectedOnes() {
+    InterviewerTimeSlot interviewerSlot = generateInterviewerSlot();
+    interviewerSlot.setId(1L);
+    interviewerSlot.setTo(LocalTime.of(14, 0));
+    CandidateTimeSlot candidateSlot = generateCandidateSlot();
+    candidateSlot.setId(1L);
+    candidateSlot.setTo(LocalTime.of(14, 0));
+
+    BookingDto overlappingBooking = generateBookingDto();
+    overlappingBooking.setStartTime(LocalTime.of(11, 0));
+    overlappingBooking.setEndTime(LocalTime.of(12, 30));
+    BookingDto laterBooking = generateBookingDto();
+    laterBooking.setStartTime(LocalTime.of(12, 0));
+    laterBooking.setEndTime(LocalTime.of(13, 30));
+    BookingDto missingSlotBooking = generateBookingDto();
+    missingSlotBooking.setInterviewerTimeSlotId(2L);
+
+    Mockito.when(interviewerTimeSlotRepository.findAllWithBookingsByIdIn(Set.of(1L, 2L)))
+        .thenReturn(List.of(interviewerSlot));
+    Mockito.when(candidateTimeSlotRepository.findAllWithBookingsByIdIn(Set.of(1L)))
+        .thenReturn(List.of(candidateSlot));
+    Mockito.when(weekNumberService.getCurrentWeekNumber()).thenReturn(new WeekNumber(15));
+    Mockito.when(interviewerTimeSlotRepository.findUserIdsByIdIn(Set.of(1L, 2L)))
+        .thenReturn(List.of(INTERVIEWER.getId()));
+    Mockito.when(bookingLimitRepository.findAllByUserIn(Set.of(INTERVIEWER)))
+        .thenReturn(List.of());
+
+    List<BookingResultDto> results = bookingService.createBookings(List.of(generateBookingDto(),
+        overlappingBooking, laterBooking, missingSlotBooking));
+
+    Mockito.verify(bookingRepository, Mockito.times(1)).saveAll(bookingListCaptor.capture());
+    Mockito.verify(dashboardCacheService, Mockito.times(2))
+        .bookingCreated(ArgumentMatchers.any());
+    Mockito.verify(bookingCounterService, Mockito.times(2)).bookingAdded(INTERVIEWER, 15);
+
+    List<Booking> savedBookings = bookingListCaptor.getValue();
+
+    assertEquals(2, savedBookings.size());
+    assertEquals(LocalTime.of(10, 0), savedBookings.get(0).getStartTime());
+    assertEquals(LocalTime.of(12, 0), savedBookings.get(1).getStartTime());
+    assertNull(results.get(0).getError());
+    assertEquals(INVALID_BOUNDARIES, results.get(1).getError().getErrorCode());
+    assertNull(results.get(2).getError());
+    assertEquals(SLOT_NOT_FOUND, results.get(3).getError().getErrorCode());
+  }
+
+  @Test
+  public void createBookings_When_BatchIsTooLarge_Should_ThrowException() {
+    List<BookingDto> bookingDtos = Collections.nCopies(101, BOOKING_DTO);
+
+    assertThrows(InvalidLimitException.class, () -> bookingService.createBookings(bookingDtos));
+  }
+
   @Test
   public void updateBooking_Should_Successfully_Update_Booking() {
     Mockito.when(bookingRepository.findById(1L))
@@ -271,8 +407,8 @@ public class BookingServiceTest {
         .thenReturn(Optional.of(INTERVIEWER_TIME_SLOT_WITH_BOOKINGS));
     Mockito.when(bookingLimitRepository.findByUser(ArgumentMatchers.any()))
         .thenReturn(Optional.of(BOOKING_LIMIT));
-    Mockito.when(bookingRepository.findAllByInterviewerTimeSlotUser(ArgumentMatchers.any()))
-        .thenReturn(List.of(generateBooking(), generateBooking()));
+    Mockito.when(bookingCounterService.getCount(ArgumentMatchers.any(), ArgumentMatchers.eq(15)))
+        .thenReturn(2);
     Mockito.when(weekNumberService.getCurrentWeekNumber()).thenReturn(new WeekNumber(15));
 
     assertThrows(ValidationException.class, () -> bookingService.updateBooking(1L, BOOKING_DTO));
@@ -320,7 +456,8 @@ public class BookingServiceTest {
 
   private static InterviewerTimeSlot generateInterviewerSlot() {
     return InterviewerTimeSlot.builder().from(LocalTime.of(10, 0)).to(LocalTime.of(11, 30))
-        .dayOfWeek(InterviewDayOfWeek.MONDAY).weekNum(15).bookings(Collections.emptyList()).build();
+        .dayOfWeek(InterviewDayOfWeek.MONDAY).weekNum(15).user(INTERVIEWER)
+        .bookings(Collections.emptyList()).build();
   }
 
   private static Stream<Arguments> outOfRangeTimeValues() {
@@ -331,7 +468,7 @@ public class BookingServiceTest {
 
   private static InterviewerTimeSlot generateInterviewerTimeSlotWithTwoBookings() {
     return InterviewerTimeSlot.builder().from(LocalTime.of(10, 0)).to(LocalTime.of(11, 30))
-        .dayOfWeek(InterviewDayOfWeek.MONDAY).weekNum(15)
+        .dayOfWeek(InterviewDayOfWeek.MONDAY).weekNum(15).user(INTERVIEWER)
         .bookings(List.of(generateBooking(), generateBooking())).build();
   }
 
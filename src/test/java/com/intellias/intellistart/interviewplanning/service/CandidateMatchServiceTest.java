@@ -0,0 +1,148 @@
+package com.intellias.intellistart.interviewplanning.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.intellias.intellistart.interviewplanning.exceptions.SlotNotFoundException;
+import com.intellias.intellistart.interviewplanning.model.Booking;
+import com.intellias.intellistart.interviewplanning.model.BookingLimit;
+import com.intellias.intellistart.interviewplanning.model.InterviewDayOfWeek;
+import com.intellias.intellistart.interviewplanning.model.User;
+import com.intellias.intellistart.interviewplanning.model.User.UserRole;
+import com.intellias.intellistart.interviewplanning.model.WeekNumber;
+import com.intellias.intellistart.interviewplanning.model.slot.CandidateTimeSlot;
+import com.intellias.intellistart.interviewplanning.model.slot.InterviewerTimeSlot;
+import com.intellias.intellistart.interviewplanning.repository.BookingLimitRepository;
+import com.intellias.intellistart.interviewplanning.repository.CandidateTimeSlotRepository;
+import com.intellias.intellistart.interviewplanning.repository.InterviewerTimeSlotRepository;
+import com.intellias.intellistart.interviewplanning.service.dto.CandidateSlotMatchDto;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class CandidateMatchServiceTest {
+
+  private static final int WEEK_NUM = 43;
+  private static final int INTERVIEW_DURATION = 90;
+  private static final LocalDate MONDAY_DATE = LocalDate.of(2022, 10, 24);
+  private static final User FIRST_INTERVIEWER = new User(1L, "first@test.com",
+      UserRole.INTERVIEWER);
+  private static final User SECOND_INTERVIEWER = new User(2L, "second@test.com",
+      UserRole.INTERVIEWER);
+  private static final User THIRD_INTERVIEWER = new User(3L, "third@test.com",
+      UserRole.INTERVIEWER);
+
+  @Mock
+  private CandidateTimeSlotRepository candidateTimeSlotRepository;
+  @Mock
+  private InterviewerTimeSlotRepository interviewerTimeSlotRepository;
+  @Mock
+  private BookingLimitRepository bookingLimitRepository;
+  @Mock
+  private BookingCounterService bookingCounterService;
+  @Mock
+  private GetWeekNumberService weekService;
+  @Mock
+  private InterviewerSlotTemplateService slotTemplateService;
+
+  private CandidateMatchService candidateMatchService;
+
+  @BeforeEach
+  public void setUp() {
+    candidateMatchService = new CandidateMatchService(INTERVIEW_DURATION,
+        candidateTimeSlotRepository, interviewerTimeSlotRepository, bookingLimitRepository,
+        bookingCounterService, weekService, slotTemplateService);
+  }
+
+  @Test
+  public void getMatches_Should_ReturnFreeRangesOfInterviewersWithoutBookingsAndLimit() {
+    CandidateTimeSlot candidateSlot = generateCandidateSlot(MONDAY_DATE);
+    candidateSlot.getBookings().add(generateBooking(LocalTime.of(10, 0), LocalTime.of(11, 30)));
+
+    InterviewerTimeSlot firstSlot = generateInterviewerSlot(1L, FIRST_INTERVIEWER,
+        LocalTime.of(8, 0), LocalTime.of(18, 0));
+    firstSlot.getBookings().add(generateBooking(LocalTime.of(13, 0), LocalTime.of(14, 30)));
+    InterviewerTimeSlot secondSlot = generateInterviewerSlot(2L, SECOND_INTERVIEWER,
+        LocalTime.of(8, 0), LocalTime.of(11, 0));
+    InterviewerTimeSlot thirdSlot = generateInterviewerSlot(3L, THIRD_INTERVIEWER,
+        LocalTime.of(12, 0), LocalTime.of(18, 0));
+
+    Mockito.when(candidateTimeSlotRepository.findAllWithBookingsByIdIn(List.of(1L)))
+        .thenReturn(List.of(candidateSlot));
+    Mockito.when(weekService.getWeekNumForDate(MONDAY_DATE)).thenReturn(WEEK_NUM);
+    Mockito.when(weekService.getCurrentWeekNumber()).thenReturn(new WeekNumber(WEEK_NUM));
+    Mockito.when(interviewerTimeSlotRepository.findAllWithBookingsByWeekNumAndDayOfWeek(
+            WEEK_NUM, InterviewDayOfWeek.MONDAY))
+        .thenReturn(List.of(firstSlot, secondSlot, thirdSlot));
+    Mockito.when(bookingLimitRepository.findAllByUserIn(
+            Set.of(FIRST_INTERVIEWER, SECOND_INTERVIEWER, THIRD_INTERVIEWER)))
+        .thenReturn(List.of(BookingLimit.builder().user(THIRD_INTERVIEWER).bookingLimit(2)
+            .build()));
+    Mockito.when(bookingCounterService.getCounts(Set.of(THIRD_INTERVIEWER), WEEK_NUM))
+        .thenReturn(Map.of(3L, 2));
+
+    List<CandidateSlotMatchDto> matches = candidateMatchService.getMatches(1L);
+
+    assertEquals(List.of(
+        new CandidateSlotMatchDto(1L, "first@test.com", MONDAY_DATE, LocalTime.of(11, 30),
+            LocalTime.of(13, 0)),
+        new CandidateSlotMatchDto(1L, "first@test.com", MONDAY_DATE, LocalTime.of(14, 30),
+            LocalTime.of(16, 0))), matches);
+  }
+
+  @Test
+  public void getMatches_When_CandidateSlotIsOnWeekend_Should_ReturnNoMatches() {
+    Mockito.when(candidateTimeSlotRepository.findAllWithBookingsByIdIn(List.of(1L)))
+        .thenReturn(List.of(generateCandidateSlot(MONDAY_DATE.minusDays(1))));
+
+    assertTrue(candidateMatchService.getMatches(1L).isEmpty());
+    Mockito.verifyNoInteractions(interviewerTimeSlotRepository);
+  }
+
+  @Test
+  public void getMatches_When_CandidateSlotNotFound_Should_ThrowException() {
+    Mockito.when(candidateTimeSlotRepository.findAllWithBookingsByIdIn(List.of(1L)))
+        .thenReturn(List.of());
+
+    assertThrows(SlotNotFoundException.class, () -> candidateMatchService.getMatches(1L));
+  }
+
+  private static CandidateTimeSlot generateCandidateSlot(LocalDate date) {
+    return CandidateTimeSlot.builder()
+        .id(1L)
+        .date(date)
+        .from(LocalTime.of(10, 0))
+        .to(LocalTime.of(16, 0))
+        .email("candidate@test.com")
+        .bookings(new ArrayList<>())
+        .build();
+  }
+
+  private static InterviewerTimeSlot generateInterviewerSlot(Long id, User interviewer,
+      LocalTime from, LocalTime to) {
+    return InterviewerTimeSlot.builder()
+        .id(id)
+        .user(interviewer)
+        .weekNum(WEEK_NUM)
+        .dayOfWeek(InterviewDayOfWeek.MONDAY)
+        .from(from)
+        .to(to)
+        .bookings(new ArrayList<>())
+        .build();
+  }
+
+  private static Booking generateBooking(LocalTime from, LocalTime to) {
+    return Booking.builder().startTime(from).endTime(to).build();
+  }
+}
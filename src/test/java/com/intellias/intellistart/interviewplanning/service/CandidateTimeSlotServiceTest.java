@@ -36,6 +36,8 @@ class CandidateTimeSlotServiceTest {
   private UserRepository userRepository;
   @MockBean
   private CandidateTimeSlotRepository candidateTimeSlotRepository;
+  @MockBean
+  private DashboardCacheService dashboardCacheService;
 
   private static final String userEmail = "user@gmail.com";
   private static final User user = new User(1L, userEmail, UserRole.CANDIDATE);
@@ -0,0 +1,339 @@
+package com.intellias.intellistart.interviewplanning.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.intellias.intellistart.interviewplanning.exceptions.WeekNumberNotAcceptableException;
+import com.intellias.intellistart.interviewplanning.model.Booking;
+import com.intellias.intellistart.interviewplanning.model.InterviewDayOfWeek;
+import com.intellias.intellistart.interviewplanning.model.User;
+import com.intellias.intellistart.interviewplanning.model.User.UserRole;
+import com.intellias.intellistart.interviewplanning.model.slot.CandidateTimeSlot;
+import com.intellias.intellistart.interviewplanning.model.slot.InterviewerTimeSlot;
+import com.intellias.intellistart.interviewplanning.service.dto.DashboardChangesDto;
+import com.intellias.intellistart.interviewplanning.service.dto.DashboardDto;
+import com.intellias.intellistart.interviewplanning.service.dto.DashboardDto.DashboardDay;
+import com.intellias.intellistart.interviewplanning.service.dto.DashboardDto.TimeSlot;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+public class DashboardCacheServiceTest {
+
+  private static final int WEEK_NUM = 43;
+  private static final LocalDate MONDAY_DATE = LocalDate.of(2022, 10, 24);
+  private static final User INTERVIEWER = new User(1L, "interviewer@test.com",
+      UserRole.INTERVIEWER);
+
+  @Mock
+  private GetWeekNumberService weekService;
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
+  private DashboardCacheService dashboardCacheService;
+  private AtomicInteger loads;
+
+  @BeforeEach
+  public void setUp() {
+    dashboardCacheService = new DashboardCacheService(weekService, eventPublisher);
+    loads = new AtomicInteger();
+  }
+
+  @Test
+  public void getDashboard_When_WeekIsCached_Should_NotLoadAgain() {
+    DashboardDto firstDashboard = dashboardCacheService.getDashboard(WEEK_NUM, this::load);
+    DashboardDto secondDashboard = dashboardCacheService.getDashboard(WEEK_NUM, this::load);
+
+    assertSame(firstDashboard, secondDashboard);
+    assertEquals(1, loads.get());
+  }
+
+  @Test
+  public void getDashboard_When_WeekChangedWhileLoading_Should_NotCacheStaleDashboard() {
+    dashboardCacheService.getDashboard(WEEK_NUM, weekNum -> {
+      dashboardCacheService.interviewerSlotCreated(generateInterviewerSlot());
+      return load(weekNum);
+    });
+    dashboardCacheService.getDashboard(WEEK_NUM, this::load);
+
+    assertEquals(2, loads.get());
+  }
+
+  @Test
+  public void getDashboard_When_WeekIsLoadedConcurrently_Should_ShareOneLoad()
+      throws InterruptedException {
+    CountDownLatch loading = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    List<DashboardDto> dashboards = new CopyOnWriteArrayList<>();
+
+    Thread firstRequest = new Thread(() -> dashboards.add(
+        dashboardCacheService.getDashboard(WEEK_NUM, weekNum -> {
+          loading.countDown();
+          awaitQuietly(release);
+          return load(weekNum);
+        })));
+    firstRequest.start();
+    loading.await(5, TimeUnit.SECONDS);
+
+    Thread secondRequest = new Thread(() -> dashboards.add(
+        dashboardCacheService.getDashboard(WEEK_NUM, this::load)));
+    secondRequest.start();
+    secondRequest.join(100);
+    release.countDown();
+    firstRequest.join(5000);
+    secondRequest.join(5000);
+
+    assertEquals(2, dashboards.size());
+    assertSame(dashboards.get(0), dashboards.get(1));
+    assertEquals(1, loads.get());
+  }
+
+  @Test
+  public void interviewerSlotCreated_Should_PatchCachedDashboardCopy() {
+    DashboardDto cachedDashboard = dashboardCacheService.getDashboard(WEEK_NUM, this::load);
+
+    dashboardCacheService.interviewerSlotCreated(generateInterviewerSlot());
+
+    DashboardDto patchedDashboard = dashboardCacheService.getDashboard(WEEK_NUM, this::load);
+    TimeSlot timeSlot = patchedDashboard.getDays().get(0).getInterviewerSlots().get(0);
+
+    assertNotSame(cachedDashboard, patchedDashboard);
+    assertTrue(cachedDashboard.getDays().get(0).getInterviewerSlots().isEmpty());
+    assertEquals(1L, timeSlot.getId());
+    assertEquals(INTERVIEWER.getEmail(), timeSlot.getEmail());
+    assertEquals(1, loads.get());
+  }
+
+  @Test
+  public void bookingCreatedAndDeleted_Should_PatchBookingsOfSlots() {
+    Mockito.when(weekService.getWeekNumForDate(ArgumentMatchers.any())).thenReturn(WEEK_NUM);
+
+    InterviewerTimeSlot interviewerSlot = generateInterviewerSlot();
+    CandidateTimeSlot candidateSlot = CandidateTimeSlot.builder()
+        .id(2L)
+        .date(MONDAY_DATE)
+        .from(LocalTime.of(10, 0))
+        .to(LocalTime.of(12, 0))
+        .email("candidate@test.com")
+        .build();
+    Booking booking = Booking.builder()
+        .id(3L)
+        .interviewerTimeSlot(interviewerSlot)
+        .candidateTimeSlot(candidateSlot)
+        .startTime(LocalTime.of(10, 0))
+        .endTime(LocalTime.of(11, 30))
+        .subject("Interview")
+        .description("Interview for candidate")
+        .build();
+
+    dashboardCacheService.getDashboard(WEEK_NUM, this::load);
+    dashboardCacheService.interviewerSlotCreated(interviewerSlot);
+    dashboardCacheService.candidateSlotCreated(candidateSlot);
+    dashboardCacheService.bookingCreated(booking);
+
+    DashboardDay day = dashboardCacheService.getDashboard(WEEK_NUM, this::load)
+        .getDays().get(0);
+
+    assertEquals(List.of(3L), day.getInterviewerSlots().get(0).getBookings());
+    assertEquals(List.of(3L), day.getCandidateSlots().get(0).getBookings());
+    assertEquals("Interview", day.getBookings().get(3L).getSubject());
+
+    dashboardCacheService.bookingDeleted(booking);
+
+    day = dashboardCacheService.getDashboard(WEEK_NUM, this::load).getDays().get(0);
+
+    assertTrue(day.getInterviewerSlots().get(0).getBookings().isEmpty());
+    assertTrue(day.getCandidateSlots().get(0).getBookings().isEmpty());
+    assertTrue(day.getBookings().isEmpty());
+    assertEquals(1, loads.get());
+  }
+
+  @Test
+  public void interviewerSlotCreated_When_InTransaction_Should_PatchAfterCommit() {
+    DashboardDto cachedDashboard = dashboardCacheService.getDashboard(WEEK_NUM, this::load);
+    long version = dashboardCacheService.getVersion(WEEK_NUM);
+
+    TransactionSynchronizationManager.initSynchronization();
+    try {
+      dashboardCacheService.interviewerSlotCreated(generateInterviewerSlot());
+      dashboardCacheService.interviewerSlotCreated(generateInterviewerSlot());
+
+      assertEquals(version, dashboardCacheService.getVersion(WEEK_NUM));
+      assertSame(cachedDashboard, dashboardCacheService.getDashboard(WEEK_NUM, this::load));
+      Mockito.verifyNoInteractions(eventPublisher);
+
+      TransactionSynchronizationManager.getSynchronizations()
+          .forEach(TransactionSynchronization::afterCommit);
+    } finally {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    assertTrue(dashboardCacheService.getVersion(WEEK_NUM) > version);
+    assertEquals(1, dashboardCacheService.getDashboard(WEEK_NUM, this::load)
+        .getDays().get(0).getInterviewerSlots().size());
+  }
+
+  @Test
+  public void invalidateAll_When_TransactionIsRolledBack_Should_KeepDashboard() {
+    DashboardDto cachedDashboard = dashboardCacheService.getDashboard(WEEK_NUM, this::load);
+    long version = dashboardCacheService.getVersion(WEEK_NUM);
+
+    TransactionSynchronizationManager.initSynchronization();
+    try {
+      dashboardCacheService.invalidateAll();
+      TransactionSynchronizationManager.getSynchronizations().forEach(synchronization ->
+          synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+    } finally {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    assertEquals(version, dashboardCacheService.getVersion(WEEK_NUM));
+    assertSame(cachedDashboard, dashboardCacheService.getDashboard(WEEK_NUM, this::load));
+    assertEquals(1, loads.get());
+  }
+
+  @Test
+  public void getVersion_When_WeekChanged_Should_Increase() {
+    long initialVersion = dashboardCacheService.getVersion(WEEK_NUM);
+
+    assertEquals(initialVersion, dashboardCacheService.getVersion(WEEK_NUM));
+
+    dashboardCacheService.interviewerSlotCreated(generateInterviewerSlot());
+
+    assertTrue(dashboardCacheService.getVersion(WEEK_NUM) > initialVersion);
+    Mockito.verify(eventPublisher).publishEvent(
+        new DashboardChangedEvent(WEEK_NUM, dashboardCacheService.getVersion(WEEK_NUM)));
+  }
+
+  @Test
+  public void getChanges_Should_ReturnOnlyItemsChangedSinceVersion() {
+    dashboardCacheService.getDashboard(WEEK_NUM, this::load);
+    dashboardCacheService.interviewerSlotCreated(generateInterviewerSlot());
+    long version = dashboardCacheService.getVersion(WEEK_NUM);
+
+    InterviewerTimeSlot secondSlot = generateInterviewerSlot();
+    secondSlot.setId(2L);
+    secondSlot.setDayOfWeek(InterviewDayOfWeek.TUESDAY);
+    dashboardCacheService.interviewerSlotCreated(secondSlot);
+
+    DashboardChangesDto changes = dashboardCacheService.getChanges(WEEK_NUM, version, this::load);
+
+    assertFalse(changes.isResync());
+    assertEquals(dashboardCacheService.getVersion(WEEK_NUM), changes.getVersion());
+    assertEquals(1, changes.getDays().size());
+    assertEquals(InterviewDayOfWeek.TUESDAY, changes.getDays().get(0).getDayOfWeek());
+    assertEquals(2L, changes.getDays().get(0).getInterviewerSlots().get(0).getId());
+    assertTrue(changes.getRemovedInterviewerSlots().isEmpty());
+    assertEquals(1, loads.get());
+  }
+
+  @Test
+  public void getChanges_When_SlotMovedToAnotherWeek_Should_ReportItRemoved() {
+    dashboardCacheService.getDashboard(WEEK_NUM, this::load);
+    dashboardCacheService.interviewerSlotCreated(generateInterviewerSlot());
+    long version = dashboardCacheService.getVersion(WEEK_NUM);
+
+    InterviewerTimeSlot movedSlot = generateInterviewerSlot();
+    movedSlot.setWeekNum(WEEK_NUM + 1);
+    dashboardCacheService.interviewerSlotUpdated(WEEK_NUM, movedSlot);
+
+    DashboardChangesDto changes = dashboardCacheService.getChanges(WEEK_NUM, version, this::load);
+
+    assertFalse(changes.isResync());
+    assertTrue(changes.getDays().isEmpty());
+    assertEquals(Set.of(1L), changes.getRemovedInterviewerSlots());
+  }
+
+  @Test
+  public void getChanges_When_VersionIsNotKnown_Should_ResyncWholeDashboard() {
+    long version = dashboardCacheService.getVersion(WEEK_NUM);
+    dashboardCacheService.invalidateAll();
+
+    DashboardChangesDto changes = dashboardCacheService.getChanges(WEEK_NUM, version, this::load);
+
+    assertTrue(changes.isResync());
+    assertEquals(InterviewDayOfWeek.values().length, changes.getDays().size());
+  }
+
+  @Test
+  public void invalidateAll_Should_ReloadDashboard() {
+    dashboardCacheService.getDashboard(WEEK_NUM, this::load);
+    dashboardCacheService.invalidateAll();
+    dashboardCacheService.getDashboard(WEEK_NUM, this::load);
+
+    assertEquals(2, loads.get());
+  }
+
+  @Test
+  public void getDashboard_When_WeekNumIsFarOff_Should_NotCacheIt() {
+    dashboardCacheService.getDashboard(WEEK_NUM, this::load);
+
+    assertThrows(WeekNumberNotAcceptableException.class,
+        () -> dashboardCacheService.getDashboard(WEEK_NUM * 1000, this::load));
+    assertThrows(WeekNumberNotAcceptableException.class,
+        () -> dashboardCacheService.getVersion(-WEEK_NUM));
+    dashboardCacheService.invalidateAll();
+
+    Mockito.verify(eventPublisher).publishEvent(
+        new DashboardChangedEvent(WEEK_NUM, dashboardCacheService.getVersion(WEEK_NUM)));
+    Mockito.verifyNoMoreInteractions(eventPublisher);
+    assertEquals(1, loads.get());
+  }
+
+  private static void awaitQuietly(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private DashboardDto load(int weekNum) {
+    loads.incrementAndGet();
+
+    List<DashboardDay> days = new ArrayList<>();
+    for (InterviewDayOfWeek dayOfWeek : InterviewDayOfWeek.values()) {
+      days.add(DashboardDay.builder()
+          .date(MONDAY_DATE.plusDays(dayOfWeek.ordinal()))
+          .dayOfWeek(dayOfWeek)
+          .interviewerSlots(new ArrayList<>())
+          .candidateSlots(new ArrayList<>())
+          .bookings(new HashMap<>())
+          .build());
+    }
+    return new DashboardDto(days);
+  }
+
+  private static InterviewerTimeSlot generateInterviewerSlot() {
+    return InterviewerTimeSlot.builder()
+        .id(1L)
+        .from(LocalTime.of(10, 0))
+        .to(LocalTime.of(12, 0))
+        .dayOfWeek(InterviewDayOfWeek.MONDAY)
+        .weekNum(WEEK_NUM)
+        .user(INTERVIEWER)
+        .build();
+  }
+}
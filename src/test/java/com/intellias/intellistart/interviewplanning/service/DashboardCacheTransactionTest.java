@@ -0,0 +1,86 @@
+package com.intellias.intellistart.interviewplanning.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.intellias.intellistart.interviewplanning.model.InterviewDayOfWeek;
+import com.intellias.intellistart.interviewplanning.model.slot.CandidateTimeSlot;
+import com.intellias.intellistart.interviewplanning.model.slot.InterviewerTimeSlot;
+import com.intellias.intellistart.interviewplanning.service.dto.BookingDto;
+import com.intellias.intellistart.interviewplanning.service.dto.DashboardDto;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class DashboardCacheTransactionTest extends DatabaseTest {
+
+  @Autowired
+  private BookingService bookingService;
+  @Autowired
+  private DashboardService dashboardService;
+  @Autowired
+  private TransactionTemplate transactionTemplate;
+
+  private int weekNum;
+  private BookingDto bookingDto;
+
+  @BeforeEach
+  public void setUp() {
+    LocalDate monday = LocalDate.now().with(DayOfWeek.MONDAY);
+    weekNum = weekService.getWeekNumForDate(monday);
+
+    InterviewerTimeSlot interviewerSlot = saveInterviewerSlot(
+        saveInterviewer("interviewer@test.com"), weekNum, InterviewDayOfWeek.MONDAY,
+        LocalTime.of(10, 0), LocalTime.of(14, 0));
+    CandidateTimeSlot candidateSlot = saveCandidateSlot("candidate@test.com", monday,
+        LocalTime.of(10, 0), LocalTime.of(14, 0));
+    dashboardCacheService.invalidateAll();
+
+    bookingDto = BookingDto.builder()
+        .interviewerTimeSlotId(interviewerSlot.getId())
+        .candidateTimeSlotId(candidateSlot.getId())
+        .startTime(LocalTime.of(10, 0))
+        .endTime(LocalTime.of(11, 30))
+        .subject("Interview")
+        .description("Interview for candidate")
+        .build();
+  }
+
+  @Test
+  void createBooking_When_TransactionIsRolledBack_Should_KeepCachedDashboard() {
+    DashboardDto cachedDashboard = dashboardService.getDashboard(weekNum);
+    long version = dashboardCacheService.getVersion(weekNum);
+
+    transactionTemplate.executeWithoutResult(status -> {
+      bookingService.createBooking(bookingDto);
+      status.setRollbackOnly();
+    });
+
+    assertEquals(0, bookingRepository.count());
+    assertEquals(version, dashboardCacheService.getVersion(weekNum));
+    assertSame(cachedDashboard, dashboardService.getDashboard(weekNum));
+    assertEquals(0, countBookings(cachedDashboard));
+  }
+
+  @Test
+  void createBooking_When_TransactionIsCommitted_Should_PatchCachedDashboard() {
+    dashboardService.getDashboard(weekNum);
+    long version = dashboardCacheService.getVersion(weekNum);
+
+    bookingService.createBooking(bookingDto);
+
+    assertTrue(dashboardCacheService.getVersion(weekNum) > version);
+    assertEquals(1, countBookings(dashboardService.getDashboard(weekNum)));
+  }
+
+  private static int countBookings(DashboardDto dashboard) {
+    return dashboard.getDays().stream()
+        .mapToInt(day -> day.getBookings().size())
+        .sum();
+  }
+}
@@ -0,0 +1,182 @@
+package com.intellias.intellistart.interviewplanning.service;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.intellias.intellistart.interviewplanning.service.dto.DashboardChangesDto;
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@ExtendWith(MockitoExtension.class)
+public class DashboardEventServiceTest {
+
+  private static final int WEEK_NUM = 43;
+  private static final long VERSION = 100;
+  private static final long TIMEOUT_MILLIS = 5000;
+
+  @Mock
+  private DashboardService dashboardService;
+
+  private DashboardEventService dashboardEventService;
+
+  @BeforeEach
+  public void setUp() {
+    dashboardEventService = new DashboardEventService(1, 1L, 1L, dashboardService);
+  }
+
+  @AfterEach
+  public void tearDown() {
+    dashboardEventService.shutdown();
+  }
+
+  @Test
+  public void subscribe_When_VersionIsNotGiven_Should_SendWholeDashboard() {
+    Mockito.when(dashboardService.getDashboardChanges(WEEK_NUM,
+            DashboardEventService.RESYNC_VERSION))
+        .thenReturn(generateChanges(VERSION, true));
+
+    dashboardEventService.subscribe(WEEK_NUM, null);
+
+    Mockito.verify(dashboardService, Mockito.timeout(TIMEOUT_MILLIS))
+        .getDashboardChanges(WEEK_NUM, DashboardEventService.RESYNC_VERSION);
+  }
+
+  @Test
+  public void dashboardChanged_Should_SendChangesSinceLastSentVersion() {
+    Mockito.when(dashboardService.getDashboardChanges(WEEK_NUM, VERSION))
+        .thenReturn(generateChanges(VERSION, false), generateChanges(VERSION + 1, false));
+
+    dashboardEventService.subscribe(WEEK_NUM, VERSION);
+    Mockito.verify(dashboardService, Mockito.timeout(TIMEOUT_MILLIS))
+        .getDashboardChanges(WEEK_NUM, VERSION);
+
+    dashboardEventService.dashboardChanged(new DashboardChangedEvent(WEEK_NUM, VERSION + 1));
+
+    Mockito.verify(dashboardService, Mockito.timeout(TIMEOUT_MILLIS).times(2))
+        .getDashboardChanges(WEEK_NUM, VERSION);
+  }
+
+  @Test
+  public void dashboardChanged_When_SubscriberIsSlow_Should_SendWholeDashboard()
+      throws InterruptedException {
+    CountDownLatch sending = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+
+    Mockito.when(dashboardService.getDashboardChanges(WEEK_NUM, VERSION))
+        .thenAnswer(invocation -> {
+          sending.countDown();
+          release.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+          return generateChanges(VERSION, false);
+        });
+    Mockito.when(dashboardService.getDashboardChanges(WEEK_NUM,
+            DashboardEventService.RESYNC_VERSION))
+        .thenReturn(generateChanges(VERSION + 2, true));
+
+    dashboardEventService.subscribe(WEEK_NUM, VERSION);
+    sending.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+
+    dashboardEventService.dashboardChanged(new DashboardChangedEvent(WEEK_NUM, VERSION + 1));
+    dashboardEventService.dashboardChanged(new DashboardChangedEvent(WEEK_NUM, VERSION + 2));
+    release.countDown();
+
+    Mockito.verify(dashboardService, Mockito.timeout(TIMEOUT_MILLIS))
+        .getDashboardChanges(WEEK_NUM, DashboardEventService.RESYNC_VERSION);
+    Mockito.verify(dashboardService, Mockito.after(100).times(1))
+        .getDashboardChanges(WEEK_NUM, VERSION);
+  }
+
+  @Test
+  public void dashboardChanged_When_SubscriberDoesNotReadEvents_Should_UnsubscribeIt()
+      throws InterruptedException {
+    CountDownLatch completed = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    SseEmitter emitter = new SseEmitter() {
+      @Override
+      public void send(SseEventBuilder builder) throws IOException {
+        try {
+          release.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+          throw new IOException(e);
+        }
+      }
+
+      @Override
+      public void completeWithError(Throwable ex) {
+        completed.countDown();
+      }
+    };
+    Mockito.when(dashboardService.getDashboardChanges(WEEK_NUM,
+            DashboardEventService.RESYNC_VERSION))
+        .thenReturn(generateChanges(VERSION, true));
+
+    dashboardEventService.subscribe(WEEK_NUM, null, emitter);
+
+    assertTrue(completed.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+    dashboardEventService.dashboardChanged(new DashboardChangedEvent(WEEK_NUM, VERSION + 1));
+    release.countDown();
+
+    Mockito.verify(dashboardService, Mockito.after(100).times(1))
+        .getDashboardChanges(ArgumentMatchers.eq(WEEK_NUM), ArgumentMatchers.anyLong());
+  }
+
+  @Test
+  public void dashboardChanged_When_AllWritersAreStuck_Should_UnsubscribeNextSubscriber()
+      throws InterruptedException {
+    CountDownLatch stuck = new CountDownLatch(DashboardEventService.WRITER_THREADS);
+    CountDownLatch release = new CountDownLatch(1);
+    Mockito.when(dashboardService.getDashboardChanges(WEEK_NUM,
+            DashboardEventService.RESYNC_VERSION))
+        .thenReturn(generateChanges(VERSION, true));
+
+    for (int i = 0; i < DashboardEventService.WRITER_THREADS; i++) {
+      dashboardEventService.subscribe(WEEK_NUM, null, new SseEmitter() {
+        @Override
+        public void send(SseEventBuilder builder) {
+          while (release.getCount() > 0) {
+            try {
+              release.await();
+            } catch (InterruptedException e) {
+              // write to client which does not read is not interrupted
+            }
+          }
+        }
+
+        @Override
+        public void completeWithError(Throwable ex) {
+          stuck.countDown();
+        }
+      });
+    }
+    assertTrue(stuck.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+
+    CountDownLatch rejected = new CountDownLatch(1);
+    dashboardEventService.subscribe(WEEK_NUM, null, new SseEmitter() {
+      @Override
+      public void completeWithError(Throwable ex) {
+        if (ex instanceof RejectedExecutionException) {
+          rejected.countDown();
+        }
+      }
+    });
+
+    assertTrue(rejected.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+    release.countDown();
+  }
+
+  private static DashboardChangesDto generateChanges(long version, boolean resync) {
+    return DashboardChangesDto.builder()
+        .version(version)
+        .resync(resync)
+        .build();
+  }
+}
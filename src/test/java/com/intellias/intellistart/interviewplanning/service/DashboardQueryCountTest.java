@@ -0,0 +1,151 @@
+package com.intellias.intellistart.interviewplanning.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import com.intellias.intellistart.interviewplanning.model.InterviewDayOfWeek;
+import com.intellias.intellistart.interviewplanning.model.User;
+import com.intellias.intellistart.interviewplanning.model.slot.CandidateTimeSlot;
+import com.intellias.intellistart.interviewplanning.model.slot.InterviewerTimeSlot;
+import com.intellias.intellistart.interviewplanning.service.dto.DashboardDto;
+import com.intellias.intellistart.interviewplanning.service.dto.DashboardFilterDto;
+import com.intellias.intellistart.interviewplanning.service.dto.DashboardPageDto;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.IsoFields;
+import java.util.List;
+import java.util.Map;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+class DashboardQueryCountTest extends DatabaseTest {
+
+  private static final int INTERVIEWERS = 10;
+  private static final int BOOKINGS_PER_SLOT = 3;
+
+  @Autowired
+  private DashboardService dashboardService;
+  @Autowired
+  private InterviewerSlotTemplateService slotTemplateService;
+
+  private int weekNum;
+
+  @BeforeEach
+  public void setUp() {
+    weekNum = LocalDate.now().get(IsoFields.WEEK_OF_WEEK_BASED_YEAR);
+    LocalDate monday = weekService.getDateForWeekNumAndDay(weekNum, DayOfWeek.MONDAY);
+
+    for (int i = 0; i < INTERVIEWERS; i++) {
+      User interviewer = saveInterviewer("interviewer" + i + "@test.com");
+      InterviewDayOfWeek dayOfWeek = InterviewDayOfWeek.values()[i % 5];
+
+      InterviewerTimeSlot interviewerSlot = saveInterviewerSlot(interviewer, weekNum, dayOfWeek,
+          LocalTime.of(8, 0), LocalTime.of(22, 0));
+      CandidateTimeSlot candidateSlot = saveCandidateSlot("candidate" + i + "@test.com",
+          monday.plusDays(dayOfWeek.ordinal()), LocalTime.of(8, 0), LocalTime.of(22, 0));
+
+      for (int j = 0; j < BOOKINGS_PER_SLOT; j++) {
+        saveBooking(interviewerSlot, candidateSlot, LocalTime.of(8 + 2 * j, 0),
+            LocalTime.of(9 + 2 * j, 30));
+      }
+    }
+    slotTemplateService.materializeWeek(weekNum);
+  }
+
+  @Test
+  void getDashboard_Should_UseFixedNumberOfQueries() {
+    Statistics statistics = clearStatistics();
+
+    DashboardDto dashboard = dashboardService.getDashboard(weekNum);
+
+    assertEquals(2, statistics.getPrepareStatementCount());
+    assertEquals(INTERVIEWERS * BOOKINGS_PER_SLOT, dashboard.getDays().stream()
+        .mapToInt(day -> day.getBookings().size())
+        .sum());
+    assertEquals(INTERVIEWERS, dashboard.getDays().stream()
+        .mapToInt(day -> day.getCandidateSlots().size())
+        .sum());
+  }
+
+  @Test
+  void getDashboards_Should_LoadNotCachedWeeksTogetherWithFixedNumberOfQueries() {
+    for (int week = weekNum; week <= weekNum + 2; week++) {
+      slotTemplateService.materializeWeek(week);
+    }
+    dashboardCacheService.invalidateAll();
+    DashboardDto cachedDashboard = dashboardService.getDashboard(weekNum + 1);
+    Statistics statistics = clearStatistics();
+
+    Map<Integer, DashboardDto> dashboards = dashboardService.getDashboards(weekNum,
+        weekNum + 2);
+
+    assertEquals(2, statistics.getPrepareStatementCount());
+    assertEquals(List.of(weekNum, weekNum + 1, weekNum + 2), List.copyOf(dashboards.keySet()));
+    assertSame(cachedDashboard, dashboards.get(weekNum + 1));
+    assertEquals(INTERVIEWERS * BOOKINGS_PER_SLOT, dashboards.get(weekNum).getDays().stream()
+        .mapToInt(day -> day.getBookings().size())
+        .sum());
+    assertEquals(0, dashboards.get(weekNum + 2).getDays().stream()
+        .mapToInt(day -> day.getInterviewerSlots().size())
+        .sum());
+    assertSame(dashboards.get(weekNum), dashboardService.getDashboard(weekNum));
+  }
+
+  @Test
+  void getDashboardPage_Should_PageInterviewerSlotsWithFixedNumberOfQueries() {
+    Statistics statistics = clearStatistics();
+
+    DashboardPageDto firstPage = dashboardService.getDashboardPage(weekNum,
+        new DashboardFilterDto(), null, 4);
+
+    assertEquals(3, statistics.getPrepareStatementCount());
+    assertEquals(4, countInterviewerSlots(firstPage));
+    assertEquals(INTERVIEWERS, firstPage.getDays().stream()
+        .mapToInt(day -> day.getCandidateSlots().size())
+        .sum());
+
+    DashboardPageDto secondPage = dashboardService.getDashboardPage(weekNum,
+        new DashboardFilterDto(), firstPage.getNextCursor(), 4);
+    DashboardPageDto lastPage = dashboardService.getDashboardPage(weekNum,
+        new DashboardFilterDto(), secondPage.getNextCursor(), 4);
+
+    assertEquals(4, countInterviewerSlots(secondPage));
+    assertEquals(2, countInterviewerSlots(lastPage));
+    assertNull(lastPage.getNextCursor());
+    assertEquals(0, lastPage.getDays().stream()
+        .mapToInt(day -> day.getCandidateSlots().size())
+        .sum());
+  }
+
+  @Test
+  void getDashboardPage_Should_FilterSlotsByEmailDayAndBookings() {
+    DashboardPageDto interviewerPage = dashboardService.getDashboardPage(weekNum,
+        DashboardFilterDto.builder().email("interviewer3@test.com").build(), null, 50);
+    DashboardPageDto mondayPage = dashboardService.getDashboardPage(weekNum,
+        DashboardFilterDto.builder().dayOfWeek(InterviewDayOfWeek.MONDAY).build(), null, 50);
+    DashboardPageDto freePage = dashboardService.getDashboardPage(weekNum,
+        DashboardFilterDto.builder().booked(false).build(), null, 50);
+
+    assertEquals(1, countInterviewerSlots(interviewerPage));
+    assertEquals(BOOKINGS_PER_SLOT, interviewerPage.getDays().stream()
+        .mapToInt(day -> day.getBookings().size())
+        .sum());
+    assertEquals(1, mondayPage.getDays().size());
+    assertEquals(2, countInterviewerSlots(mondayPage));
+    assertEquals(2, mondayPage.getDays().get(0).getCandidateSlots().size());
+    assertEquals(0, countInterviewerSlots(freePage));
+    assertEquals(0, freePage.getDays().stream()
+        .mapToInt(day -> day.getCandidateSlots().size())
+        .sum());
+  }
+
+  private static int countInterviewerSlots(DashboardPageDto page) {
+    return page.getDays().stream()
+        .mapToInt(day -> day.getInterviewerSlots().size())
+        .sum();
+  }
+}
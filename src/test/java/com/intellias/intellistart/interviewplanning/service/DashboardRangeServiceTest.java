@@ -0,0 +1,59 @@
+package com.intellias.intellistart.interviewplanning.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.intellias.intellistart.interviewplanning.exceptions.ValidationException;
+import com.intellias.intellistart.interviewplanning.service.dto.DashboardDto;
+import com.intellias.intellistart.interviewplanning.service.dto.DashboardRangeDto;
+import java.util.Collections;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class DashboardRangeServiceTest {
+
+  private static final int FROM_WEEK = 43;
+  private static final int TO_WEEK = 45;
+  private static final int MAX_WEEKS = 3;
+
+  @Mock
+  private DashboardService dashboardService;
+
+  private DashboardRangeService dashboardRangeService;
+
+  @BeforeEach
+  public void setUp() {
+    dashboardRangeService = new DashboardRangeService(MAX_WEEKS, dashboardService);
+  }
+
+  @Test
+  public void getDashboards_Should_GetAllWeeksOfRangeAtOnce() {
+    Map<Integer, DashboardDto> weeks = Map.of(
+        43, new DashboardDto(Collections.emptyList()),
+        44, new DashboardDto(Collections.emptyList()),
+        45, new DashboardDto(Collections.emptyList()));
+    Mockito.when(dashboardService.getDashboards(FROM_WEEK, TO_WEEK)).thenReturn(weeks);
+
+    DashboardRangeDto dashboards = dashboardRangeService.getDashboards(FROM_WEEK, TO_WEEK);
+
+    assertSame(weeks, dashboards.getWeeks());
+    assertEquals(FROM_WEEK, dashboards.getFromWeek());
+    assertEquals(TO_WEEK, dashboards.getToWeek());
+  }
+
+  @Test
+  public void getDashboards_When_RangeIsInvalid_Should_ThrowException() {
+    assertThrows(ValidationException.class,
+        () -> dashboardRangeService.getDashboards(TO_WEEK, FROM_WEEK));
+    assertThrows(ValidationException.class,
+        () -> dashboardRangeService.getDashboards(FROM_WEEK, FROM_WEEK + MAX_WEEKS));
+    Mockito.verifyNoInteractions(dashboardService);
+  }
+}
@@ -5,18 +5,30 @@ import com.fasterxml.jackson.databind.MapperFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.intellias.intellistart.interviewplanning.FileTestUtils;
+import com.intellias.intellistart.interviewplanning.exceptions.InvalidLimitException;
+import com.intellias.intellistart.interviewplanning.model.InterviewDayOfWeek;
 import com.intellias.intellistart.interviewplanning.model.slot.CandidateTimeSlot;
 import com.intellias.intellistart.interviewplanning.model.slot.InterviewerTimeSlot;
 import com.intellias.intellistart.interviewplanning.repository.CandidateTimeSlotRepository;
 import com.intellias.intellistart.interviewplanning.repository.InterviewerTimeSlotRepository;
+import com.intellias.intellistart.interviewplanning.service.DashboardService.SerializedDashboard;
+import com.intellias.intellistart.interviewplanning.service.dto.BookingDto;
+import com.intellias.intellistart.interviewplanning.service.dto.CompactDashboardDto;
+import com.intellias.intellistart.interviewplanning.service.dto.CompactDashboardDto.CompactBooking;
+import com.intellias.intellistart.interviewplanning.service.dto.CompactDashboardDto.CompactDay;
+import com.intellias.intellistart.interviewplanning.service.dto.CompactDashboardDto.CompactSlot;
 import com.intellias.intellistart.interviewplanning.service.dto.DashboardDto;
+import com.intellias.intellistart.interviewplanning.service.dto.DashboardDto.DashboardDay;
+import com.intellias.intellistart.interviewplanning.service.dto.DashboardDto.TimeSlot;
+import com.intellias.intellistart.interviewplanning.service.dto.DashboardFilterDto;
+import java.nio.charset.StandardCharsets;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalTime;
-import java.time.temporal.TemporalAdjuster;
-import java.time.temporal.TemporalAdjusters;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -24,11 +36,12 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
 import org.mockito.Mock;
-import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.stubbing.OngoingStubbing;
+import org.springframework.context.ApplicationEventPublisher;
 
 @ExtendWith(MockitoExtension.class)
 public class DashboardServiceTest {
@@ -38,9 +51,14 @@ public class DashboardServiceTest {
   @Mock
   private GetWeekNumberService weekService;
   @Mock
+  private InterviewerSlotTemplateService slotTemplateService;
+  @Mock
   private InterviewerTimeSlotRepository interviewerSlotRepository;
   @Mock
   private CandidateTimeSlotRepository candidateSlotRepository;
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+  private DashboardCacheService dashboardCacheService;
   private DashboardService dashboardService;
 
   private ObjectMapper objectMapper;
@@ -51,9 +69,50 @@ public class DashboardServiceTest {
         .disable(MapperFeature.USE_ANNOTATIONS)
         .registerModule(new JavaTimeModule());
 
+    dashboardCacheService = new DashboardCacheService(weekService, eventPublisher);
     dashboardService =
-        new DashboardService(weekService, interviewerSlotRepository, candidateSlotRepository
-        );
+        new DashboardService(weekService, interviewerSlotRepository, candidateSlotRepository,
+            dashboardCacheService,
+            new ObjectMapper().registerModule(new JavaTimeModule()), slotTemplateService);
+  }
+
+  @Test
+  public void toCompactDashboard_Should_ReferEmailsByIndexAndDropDescriptions() {
+    DashboardDto dashboard = new DashboardDto(List.of(DashboardDay.builder()
+        .date(LocalDate.of(2022, 10, 24))
+        .dayOfWeek(InterviewDayOfWeek.MONDAY)
+        .interviewerSlots(List.of(
+            new TimeSlot(1L, LocalTime.of(8, 0), LocalTime.of(12, 0), "first@test.com",
+                List.of(5L)),
+            new TimeSlot(2L, LocalTime.of(13, 0), LocalTime.of(15, 30), "second@test.com",
+                List.of()),
+            new TimeSlot(3L, LocalTime.of(16, 0), LocalTime.of(18, 0), "first@test.com",
+                List.of())))
+        .candidateSlots(List.of(
+            new TimeSlot(4L, LocalTime.of(9, 0), LocalTime.of(11, 0), "candidate@test.com",
+                List.of(5L))))
+        .bookings(Map.of(5L, new BookingDto(5L, 1L, 4L, LocalTime.of(9, 0),
+            LocalTime.of(10, 30), "Interview", "Interview for candidate")))
+        .build()));
+
+    CompactDashboardDto compactDashboard = DashboardService.toCompactDashboard(dashboard);
+    CompactDay day = compactDashboard.getDays().get(0);
+
+    Assertions.assertEquals(List.of("first@test.com", "second@test.com", "candidate@test.com"),
+        compactDashboard.getEmails());
+    Assertions.assertEquals(List.of(0, 1, 0), day.getInterviewerSlots().stream()
+        .map(CompactSlot::getEmail)
+        .collect(Collectors.toList()));
+    Assertions.assertEquals(2, day.getCandidateSlots().get(0).getEmail());
+    Assertions.assertEquals(15 * 60 + 30, day.getInterviewerSlots().get(1).getTo());
+    Assertions.assertEquals(new CompactBooking(5L, 1L, 4L, 9 * 60, 10 * 60 + 30, "Interview"),
+        day.getBookings().get(0));
+  }
+
+  @Test
+  public void getDashboardPage_When_LimitIsInvalid_Should_ThrowException() {
+    Assertions.assertThrows(InvalidLimitException.class, () -> dashboardService
+        .getDashboardPage(TEST_WEEK_NUM, new DashboardFilterDto(), null, 0));
   }
 
   @Test
@@ -66,48 +125,100 @@ public class DashboardServiceTest {
     LocalDate wednesdayDate = LocalDate.of(2022, 10, 26);
     LocalDate thursdayDate = LocalDate.of(2022, 10, 27);
 
-    TemporalAdjuster dayMonday = TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY);
-    TemporalAdjuster dayFriday = TemporalAdjusters.nextOrSame(DayOfWeek.FRIDAY);
+    DashboardTestInputs dashboardTestInputs = objectMapper.readValue(json,
+        DashboardTestInputs.class);
 
-    try (MockedStatic<TemporalAdjusters> adjusters = Mockito.mockStatic(TemporalAdjusters.class)) {
-      adjusters.when(() -> TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY))
-          .thenReturn(dayMonday);
-      adjusters.when(() -> TemporalAdjusters.nextOrSame(DayOfWeek.FRIDAY))
-          .thenReturn(dayFriday);
+    Mockito.when(weekService.getDateForWeekNumAndDay(TEST_WEEK_NUM, DayOfWeek.MONDAY))
+        .thenReturn(startDateOfWeek);
+    Mockito.when(weekService.getDateForWeekNumAndDay(TEST_WEEK_NUM, DayOfWeek.TUESDAY))
+        .thenReturn(tuesdayDate);
+    Mockito.when(weekService.getDateForWeekNumAndDay(TEST_WEEK_NUM, DayOfWeek.WEDNESDAY))
+        .thenReturn(wednesdayDate);
+    Mockito.when(weekService.getDateForWeekNumAndDay(TEST_WEEK_NUM, DayOfWeek.THURSDAY))
+        .thenReturn(thursdayDate);
+    Mockito.when(weekService.getDateForWeekNumAndDay(TEST_WEEK_NUM, DayOfWeek.FRIDAY))
+        .thenReturn(endDateOfWeek);
 
-      DashboardTestInputs dashboardTestInputs = objectMapper.readValue(json,
-          DashboardTestInputs.class);
+    Mockito.when(interviewerSlotRepository.findAllWithBookingsByWeekNum(TEST_WEEK_NUM))
+        .thenReturn(dashboardTestInputs.getInterviewersTimeSlots());
+    Mockito.when(candidateSlotRepository.findAllWithBookingsByDateBetween(startDateOfWeek,
+            endDateOfWeek))
+        .thenReturn(dashboardTestInputs.getCandidatesTimeSlots());
 
-      Mockito.when(weekService.getDateForWeekNumAndDay(TEST_WEEK_NUM, DayOfWeek.MONDAY))
-          .thenReturn(startDateOfWeek);
-      Mockito.when(weekService.getDateForWeekNumAndDay(TEST_WEEK_NUM, DayOfWeek.TUESDAY))
-          .thenReturn(tuesdayDate);
-      Mockito.when(weekService.getDateForWeekNumAndDay(TEST_WEEK_NUM, DayOfWeek.WEDNESDAY))
-          .thenReturn(wednesdayDate);
-      Mockito.when(weekService.getDateForWeekNumAndDay(TEST_WEEK_NUM, DayOfWeek.THURSDAY))
-          .thenReturn(thursdayDate);
-      Mockito.when(weekService.getDateForWeekNumAndDay(TEST_WEEK_NUM, DayOfWeek.FRIDAY))
-          .thenReturn(endDateOfWeek);
+    DashboardDto actualDashboard = dashboardService.getDashboard(TEST_WEEK_NUM);
 
-      Mockito.when(interviewerSlotRepository.findAllByWeekNum(TEST_WEEK_NUM))
-          .thenReturn(dashboardTestInputs.getInterviewersTimeSlots());
-      Mockito.when(weekService.getDateForWeekNumAndDay(TEST_WEEK_NUM, dayMonday))
-          .thenReturn(startDateOfWeek);
-      Mockito.when(weekService.getDateForWeekNumAndDay(TEST_WEEK_NUM, dayFriday))
-          .thenReturn(endDateOfWeek);
-      Mockito.when(candidateSlotRepository.findAllByDateBetween(startDateOfWeek, endDateOfWeek))
-          .thenReturn(dashboardTestInputs.getCandidatesTimeSlots());
+    String jsonExpected = FileTestUtils.readFile("dashboardExpectedOutputs.json");
 
-      DashboardDto actualDashboard = dashboardService.getDashboard(TEST_WEEK_NUM);
+    DashboardDto expectedDashboard = objectMapper.readValue(jsonExpected,
+        DashboardDto.class);
 
-      String jsonExpected = FileTestUtils.readFile("dashboardExpectedOutputs.json");
+    Assertions.assertEquals(expectedDashboard, actualDashboard);
+    Mockito.verify(weekService, Mockito.times(5))
+        .getDateForWeekNumAndDay(ArgumentMatchers.eq(TEST_WEEK_NUM), ArgumentMatchers.any());
+  }
 
-      DashboardDto expectedDashboard = objectMapper.readValue(jsonExpected,
-          DashboardDto.class);
+  @Test
+  public void getDashboard_When_WeekIsMaterialized_Should_NotQueryRepositories() {
+    Mockito.when(weekService.getDateForWeekNumAndDay(ArgumentMatchers.eq(TEST_WEEK_NUM),
+            ArgumentMatchers.any()))
+        .thenReturn(LocalDate.of(2022, 10, 24));
+    Mockito.when(interviewerSlotRepository.findAllWithBookingsByWeekNum(TEST_WEEK_NUM))
+        .thenReturn(Collections.emptyList());
+    Mockito.when(candidateSlotRepository.findAllWithBookingsByDateBetween(ArgumentMatchers.any(),
+            ArgumentMatchers.any()))
+        .thenReturn(Collections.emptyList());
+
+    DashboardDto firstDashboard = dashboardService.getDashboard(TEST_WEEK_NUM);
+    DashboardDto secondDashboard = dashboardService.getDashboard(TEST_WEEK_NUM);
+
+    Assertions.assertSame(firstDashboard, secondDashboard);
+    Mockito.verify(interviewerSlotRepository, Mockito.times(1))
+        .findAllWithBookingsByWeekNum(TEST_WEEK_NUM);
+    Mockito.verify(candidateSlotRepository, Mockito.times(1))
+        .findAllWithBookingsByDateBetween(ArgumentMatchers.any(), ArgumentMatchers.any());
+  }
 
-      Assertions.assertEquals(expectedDashboard, actualDashboard);
-    }
+  @Test
+  public void getSerializedDashboard_When_WeekIsMaterialized_Should_ShareSerializedBytes() {
+    Mockito.when(weekService.getDateForWeekNumAndDay(ArgumentMatchers.eq(TEST_WEEK_NUM),
+            ArgumentMatchers.any()))
+        .thenReturn(LocalDate.of(2022, 10, 24));
+    Mockito.when(interviewerSlotRepository.findAllWithBookingsByWeekNum(TEST_WEEK_NUM))
+        .thenReturn(Collections.emptyList());
+    Mockito.when(candidateSlotRepository.findAllWithBookingsByDateBetween(ArgumentMatchers.any(),
+            ArgumentMatchers.any()))
+        .thenReturn(Collections.emptyList());
+
+    SerializedDashboard firstDashboard = dashboardService.getSerializedDashboard(TEST_WEEK_NUM);
+    SerializedDashboard secondDashboard = dashboardService.getSerializedDashboard(TEST_WEEK_NUM);
+
+    Assertions.assertSame(firstDashboard.getJson(), secondDashboard.getJson());
+    Assertions.assertTrue(new String(firstDashboard.getJson(), StandardCharsets.UTF_8)
+        .startsWith("{\"days\":["));
+  }
 
+  @Test
+  public void getDashboardVersion_When_SlotsOfTemplatesAreCreated_Should_CountThem() {
+    Mockito.when(weekService.getDateForWeekNumAndDay(ArgumentMatchers.eq(TEST_WEEK_NUM),
+            ArgumentMatchers.any()))
+        .thenReturn(LocalDate.of(2022, 10, 24));
+    Mockito.when(interviewerSlotRepository.findAllWithBookingsByWeekNum(TEST_WEEK_NUM))
+        .thenReturn(Collections.emptyList());
+    Mockito.when(candidateSlotRepository.findAllWithBookingsByDateBetween(ArgumentMatchers.any(),
+            ArgumentMatchers.any()))
+        .thenReturn(Collections.emptyList());
+    Mockito.doAnswer(invocation -> {
+      dashboardCacheService.interviewerSlotCreated(InterviewerTimeSlot.builder()
+          .id(1L)
+          .weekNum(TEST_WEEK_NUM)
+          .build());
+      return null;
+    }).doNothing().when(slotTemplateService).materializeWeek(TEST_WEEK_NUM);
+
+    long version = dashboardService.getDashboardVersion(TEST_WEEK_NUM);
+
+    Assertions.assertEquals(version,
+        dashboardService.getDashboardSnapshot(TEST_WEEK_NUM).getVersion());
   }
 
   @Data
@@ -0,0 +1,119 @@
+package com.intellias.intellistart.interviewplanning.service;
+
+import com.intellias.intellistart.interviewplanning.InterviewPlanningApplication;
+import com.intellias.intellistart.interviewplanning.model.Booking;
+import com.intellias.intellistart.interviewplanning.model.InterviewDayOfWeek;
+import com.intellias.intellistart.interviewplanning.model.TimeSlotStatus;
+import com.intellias.intellistart.interviewplanning.model.User;
+import com.intellias.intellistart.interviewplanning.model.User.UserRole;
+import com.intellias.intellistart.interviewplanning.model.slot.CandidateTimeSlot;
+import com.intellias.intellistart.interviewplanning.model.slot.InterviewerTimeSlot;
+import com.intellias.intellistart.interviewplanning.repository.BookingCounterRepository;
+import com.intellias.intellistart.interviewplanning.repository.BookingLimitRepository;
+import com.intellias.intellistart.interviewplanning.repository.BookingRepository;
+import com.intellias.intellistart.interviewplanning.repository.CandidateTimeSlotRepository;
+import com.intellias.intellistart.interviewplanning.repository.InterviewerSlotTemplateRepository;
+import com.intellias.intellistart.interviewplanning.repository.InterviewerTimeSlotRepository;
+import com.intellias.intellistart.interviewplanning.repository.UserRepository;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import javax.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+/**
+ * Base of tests running against test database. Saves users, slots and bookings through
+ * repositories and deletes all of them and cached dashboards after each test.
+ */
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(classes = InterviewPlanningApplication.class,
+    properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+abstract class DatabaseTest {
+
+  @Autowired
+  protected GetWeekNumberService weekService;
+  @Autowired
+  protected UserRepository userRepository;
+  @Autowired
+  protected InterviewerTimeSlotRepository interviewerTimeSlotRepository;
+  @Autowired
+  protected InterviewerSlotTemplateRepository slotTemplateRepository;
+  @Autowired
+  protected CandidateTimeSlotRepository candidateTimeSlotRepository;
+  @Autowired
+  protected BookingRepository bookingRepository;
+  @Autowired
+  protected BookingCounterRepository bookingCounterRepository;
+  @Autowired
+  protected BookingLimitRepository bookingLimitRepository;
+  @Autowired
+  protected DashboardCacheService dashboardCacheService;
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  @AfterEach
+  public void tearDown() {
+    bookingRepository.deleteAll();
+    bookingCounterRepository.deleteAll();
+    bookingLimitRepository.deleteAll();
+    interviewerTimeSlotRepository.deleteAll();
+    slotTemplateRepository.deleteAll();
+    candidateTimeSlotRepository.deleteAll();
+    userRepository.deleteAll();
+    dashboardCacheService.invalidateAll();
+  }
+
+  protected User saveInterviewer(String email) {
+    return userRepository.save(new User(email, UserRole.INTERVIEWER));
+  }
+
+  protected InterviewerTimeSlot saveInterviewerSlot(User interviewer, int weekNum,
+      InterviewDayOfWeek dayOfWeek, LocalTime from, LocalTime to) {
+    return interviewerTimeSlotRepository.save(InterviewerTimeSlot.builder()
+        .user(interviewer)
+        .weekNum(weekNum)
+        .dayOfWeek(dayOfWeek)
+        .from(from)
+        .to(to)
+        .status(TimeSlotStatus.NEW)
+        .build());
+  }
+
+  protected CandidateTimeSlot saveCandidateSlot(String email, LocalDate date, LocalTime from,
+      LocalTime to) {
+    return candidateTimeSlotRepository.save(CandidateTimeSlot.builder()
+        .email(email)
+        .date(date)
+        .from(from)
+        .to(to)
+        .build());
+  }
+
+  protected Booking saveBooking(InterviewerTimeSlot interviewerSlot,
+      CandidateTimeSlot candidateSlot, LocalTime startTime, LocalTime endTime) {
+    return bookingRepository.save(Booking.builder()
+        .interviewerTimeSlot(interviewerSlot)
+        .candidateTimeSlot(candidateSlot)
+        .startTime(startTime)
+        .endTime(endTime)
+        .subject("Interview")
+        .description("Interview for candidate")
+        .build());
+  }
+
+  /**
+   * Get statistics of database session factory, cleared to count only statements of test.
+   */
+  protected Statistics clearStatistics() {
+    Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    statistics.clear();
+    return statistics;
+  }
+}
@@ -0,0 +1,181 @@
+package com.intellias.intellistart.interviewplanning.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.intellias.intellistart.interviewplanning.exceptions.SlotNotFoundException;
+import com.intellias.intellistart.interviewplanning.exceptions.ValidationException;
+import com.intellias.intellistart.interviewplanning.service.dto.BookingDto;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class IdempotencyServiceTest {
+
+  private static final String SCOPE = "POST /bookings coordinator@test.com";
+  private static final BookingDto BOOKING_DTO = generateBookingDto(null, "Interview");
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+      .registerModule(new JavaTimeModule());
+
+  private IdempotencyService idempotencyService;
+  private AtomicInteger runs;
+
+  @BeforeEach
+  public void setUp() {
+    idempotencyService = new IdempotencyService(2, 60L, OBJECT_MAPPER);
+    runs = new AtomicInteger();
+  }
+
+  @Test
+  public void execute_When_KeyIsRepeated_Should_ReturnStoredResult() {
+    BookingDto firstResult = idempotencyService.execute(SCOPE, "key", BOOKING_DTO, this::save);
+    BookingDto secondResult = idempotencyService.execute(SCOPE, "key",
+        generateBookingDto(null, "Interview"), this::save);
+
+    assertSame(firstResult, secondResult);
+    assertEquals(1, runs.get());
+  }
+
+  @Test
+  public void execute_When_KeyIsNotGiven_Should_RunEveryTime() {
+    idempotencyService.execute(SCOPE, null, BOOKING_DTO, this::save);
+    idempotencyService.execute(SCOPE, null, BOOKING_DTO, this::save);
+
+    assertEquals(2, runs.get());
+  }
+
+  @Test
+  public void execute_When_KeyIsUsedInAnotherScope_Should_RunAgain() {
+    idempotencyService.execute(SCOPE, "key", BOOKING_DTO, this::save);
+    idempotencyService.execute("POST /bookings another@test.com", "key", BOOKING_DTO,
+        this::save);
+
+    assertEquals(2, runs.get());
+  }
+
+  @Test
+  public void execute_When_KeyIsReusedForAnotherRequest_Should_ThrowException() {
+    idempotencyService.execute(SCOPE, "key", BOOKING_DTO, this::save);
+
+    assertThrows(ValidationException.class, () -> idempotencyService.execute(SCOPE, "key",
+        generateBookingDto(null, "Another interview"), this::save));
+    assertEquals(1, runs.get());
+  }
+
+  @Test
+  public void execute_When_RequestIsChangedByFirstRun_Should_CompareItsOriginalBody() {
+    BookingDto request = generateBookingDto(null, "Interview");
+    idempotencyService.execute(SCOPE, "key", request, () -> {
+      request.setId(1L);
+      return save();
+    });
+
+    idempotencyService.execute(SCOPE, "key", generateBookingDto(null, "Interview"), this::save);
+
+    assertEquals(1, runs.get());
+  }
+
+  @Test
+  public void execute_When_FirstRunFailed_Should_RunAgain() {
+    assertThrows(SlotNotFoundException.class,
+        () -> idempotencyService.execute(SCOPE, "key", BOOKING_DTO, () -> {
+          throw new SlotNotFoundException();
+        }));
+    idempotencyService.execute(SCOPE, "key", BOOKING_DTO, this::save);
+
+    assertEquals(1, runs.get());
+  }
+
+  @Test
+  public void execute_When_StoreIsFull_Should_EvictLeastRecentlyUsedKey() {
+    idempotencyService.execute(SCOPE, "first", BOOKING_DTO, this::save);
+    idempotencyService.execute(SCOPE, "second", BOOKING_DTO, this::save);
+    idempotencyService.execute(SCOPE, "first", BOOKING_DTO, this::save);
+    idempotencyService.execute(SCOPE, "third", BOOKING_DTO, this::save);
+    idempotencyService.execute(SCOPE, "first", BOOKING_DTO, this::save);
+    idempotencyService.execute(SCOPE, "second", BOOKING_DTO, this::save);
+
+    assertEquals(4, runs.get());
+  }
+
+  @Test
+  public void execute_When_KeyIsExpired_Should_RunAgain() {
+    idempotencyService = new IdempotencyService(2, 0L, OBJECT_MAPPER);
+
+    idempotencyService.execute(SCOPE, "key", BOOKING_DTO, this::save);
+    awaitExpiration();
+    idempotencyService.execute(SCOPE, "key", BOOKING_DTO, this::save);
+
+    assertEquals(2, runs.get());
+  }
+
+  @Test
+  public void execute_When_RetryArrivesWhileFirstRunIsInProgress_Should_WaitForIt()
+      throws InterruptedException {
+    CountDownLatch running = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    List<BookingDto> results = new CopyOnWriteArrayList<>();
+
+    Thread firstRequest = new Thread(() -> results.add(
+        idempotencyService.execute(SCOPE, "key", BOOKING_DTO, () -> {
+          running.countDown();
+          awaitQuietly(release);
+          return save();
+        })));
+    firstRequest.start();
+    running.await(5, TimeUnit.SECONDS);
+
+    Thread retry = new Thread(() -> results.add(
+        idempotencyService.execute(SCOPE, "key", BOOKING_DTO, this::save)));
+    retry.start();
+    retry.join(100);
+    release.countDown();
+    firstRequest.join(5000);
+    retry.join(5000);
+
+    assertEquals(2, results.size());
+    assertSame(results.get(0), results.get(1));
+    assertEquals(1, runs.get());
+  }
+
+  private static void awaitExpiration() {
+    try {
+      Thread.sleep(5);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static void awaitQuietly(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private BookingDto save() {
+    runs.incrementAndGet();
+    return generateBookingDto((long) runs.get(), "Interview");
+  }
+
+  private static BookingDto generateBookingDto(Long id, String subject) {
+    return BookingDto.builder()
+        .id(id)
+        .startTime(LocalTime.of(10, 0))
+        .endTime(LocalTime.of(11, 30))
+        .candidateTimeSlotId(1L)
+        .interviewerTimeSlotId(1L)
+        .subject(subject)
+        .description("Interview for candidate")
+        .build();
+  }
+}
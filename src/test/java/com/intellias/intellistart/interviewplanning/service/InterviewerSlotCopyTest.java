@@ -0,0 +1,113 @@
+package com.intellias.intellistart.interviewplanning.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.intellias.intellistart.interviewplanning.exceptions.WeekNumberNotAcceptableException;
+import com.intellias.intellistart.interviewplanning.model.InterviewDayOfWeek;
+import com.intellias.intellistart.interviewplanning.model.TimeSlotStatus;
+import com.intellias.intellistart.interviewplanning.model.User;
+import com.intellias.intellistart.interviewplanning.model.slot.InterviewerTimeSlot;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+class InterviewerSlotCopyTest extends DatabaseTest {
+
+  private static final String EMAIL = "interviewer@test.com";
+  private static final int SLOTS = 10;
+
+  @Autowired
+  private InterviewerTimeSlotService interviewerTimeSlotService;
+  @Autowired
+  private DashboardService dashboardService;
+
+  private User interviewer;
+  private int fromWeek;
+  private int toWeek;
+
+  @BeforeEach
+  public void setUp() {
+    interviewer = saveInterviewer(EMAIL);
+    User otherInterviewer = saveInterviewer("other.interviewer@test.com");
+    toWeek = weekService.getNextWeekNumber().getWeekNum();
+    fromWeek = weekService.getCurrentWeekNumber().getWeekNum();
+
+    for (int i = 0; i < SLOTS; i++) {
+      saveInterviewerSlot(interviewer, fromWeek, InterviewDayOfWeek.values()[i % 5],
+          LocalTime.of(8 + 2 * (i / 5), 0), LocalTime.of(9 + 2 * (i / 5), 30));
+    }
+    saveInterviewerSlot(otherInterviewer, fromWeek, InterviewDayOfWeek.MONDAY,
+        LocalTime.of(8, 0), LocalTime.of(9, 30));
+    saveInterviewerSlot(interviewer, toWeek, InterviewDayOfWeek.MONDAY,
+        LocalTime.of(8, 0), LocalTime.of(9, 30));
+  }
+
+  @Test
+  void copySlots_Should_CopyMissingSlotsOfInterviewerWithFixedNumberOfQueries() {
+    Statistics statistics = clearStatistics();
+
+    List<InterviewerTimeSlot> copiedSlots = interviewerTimeSlotService.copySlots(EMAIL,
+        fromWeek, toWeek);
+
+    assertTrue(statistics.getPrepareStatementCount() < SLOTS);
+    assertEquals(SLOTS - 1, copiedSlots.size());
+    assertTrue(copiedSlots.stream().allMatch(slot -> slot.getWeekNum() == toWeek
+        && slot.getStatus() == TimeSlotStatus.NEW
+        && slot.getUser().getId().equals(interviewer.getId())));
+    assertEquals(slotTimes(fromWeek), slotTimes(toWeek));
+  }
+
+  @Test
+  void copySlots_When_SlotsAreCopiedAgain_Should_NotDuplicateThem() {
+    interviewerTimeSlotService.copySlots(EMAIL, fromWeek, toWeek);
+
+    assertTrue(interviewerTimeSlotService.copySlots(EMAIL, fromWeek, toWeek).isEmpty());
+    assertEquals(SLOTS, interviewerTimeSlotRepository
+        .findAllByUserAndWeekNum(interviewer, toWeek).size());
+  }
+
+  @Test
+  void copySlots_When_SlotOverlapsSlotOfNextWeek_Should_NotCopyIt() {
+    saveInterviewerSlot(interviewer, toWeek, InterviewDayOfWeek.TUESDAY,
+        LocalTime.of(9, 0), LocalTime.of(10, 30));
+
+    List<InterviewerTimeSlot> copiedSlots = interviewerTimeSlotService.copySlots(EMAIL,
+        fromWeek, toWeek);
+
+    assertEquals(SLOTS - 3, copiedSlots.size());
+    assertTrue(copiedSlots.stream()
+        .noneMatch(slot -> slot.getDayOfWeek() == InterviewDayOfWeek.TUESDAY));
+  }
+
+  @Test
+  void copySlots_When_DashboardOfNextWeekIsCached_Should_AddCopiesToIt() {
+    dashboardService.getDashboard(toWeek);
+
+    interviewerTimeSlotService.copySlots(EMAIL, fromWeek, toWeek);
+
+    assertEquals(SLOTS, dashboardService.getDashboard(toWeek).getDays().stream()
+        .mapToInt(day -> day.getInterviewerSlots().size())
+        .sum());
+  }
+
+  @Test
+  void copySlots_When_WeeksAreNotCurrentAndNextWeek_Should_ThrowException() {
+    assertThrows(WeekNumberNotAcceptableException.class,
+        () -> interviewerTimeSlotService.copySlots(EMAIL, fromWeek, toWeek + 1));
+    assertThrows(WeekNumberNotAcceptableException.class,
+        () -> interviewerTimeSlotService.copySlots(EMAIL, toWeek, toWeek));
+  }
+
+  private List<String> slotTimes(int weekNum) {
+    return interviewerTimeSlotRepository.findAllByUserAndWeekNum(interviewer, weekNum).stream()
+        .map(slot -> slot.getDayOfWeek() + " " + slot.getFrom() + "-" + slot.getTo())
+        .sorted()
+        .collect(Collectors.toList());
+  }
+}
@@ -0,0 +1,92 @@
+package com.intellias.intellistart.interviewplanning.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.intellias.intellistart.interviewplanning.exceptions.SlotIsOverlappingException;
+import com.intellias.intellistart.interviewplanning.model.InterviewDayOfWeek;
+import com.intellias.intellistart.interviewplanning.model.User;
+import com.intellias.intellistart.interviewplanning.model.slot.InterviewerTimeSlot;
+import com.intellias.intellistart.interviewplanning.service.dto.InterviewerTimeSlotRequestForm;
+import java.time.LocalTime;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+class InterviewerSlotOverlapTest extends DatabaseTest {
+
+  private static final String EMAIL = "interviewer@test.com";
+  private static final int SLOTS = 20;
+
+  @Autowired
+  private InterviewerTimeSlotService interviewerTimeSlotService;
+  @Autowired
+  private InterviewerSlotTemplateService slotTemplateService;
+
+  private User interviewer;
+  private int nextWeek;
+  private InterviewerTimeSlot updatedSlot;
+
+  @BeforeEach
+  public void setUp() {
+    interviewer = saveInterviewer(EMAIL);
+    nextWeek = weekService.getNextWeekNumber().getWeekNum();
+    slotTemplateService.materializeWeek(nextWeek);
+
+    for (int i = 0; i < SLOTS; i++) {
+      saveSlot(InterviewDayOfWeek.values()[i % 4 + 1], LocalTime.of(8 + i / 4 * 2, 0));
+    }
+    saveSlot(InterviewDayOfWeek.MONDAY, LocalTime.of(10, 0));
+    updatedSlot = saveSlot(InterviewDayOfWeek.MONDAY, LocalTime.of(14, 0));
+  }
+
+  @Test
+  void createSlot_When_SameSlotExists_Should_ThrowExceptionWithFixedNumberOfQueries() {
+    Statistics statistics = clearStatistics();
+
+    assertThrows(SlotIsOverlappingException.class,
+        () -> interviewerTimeSlotService.createSlot(EMAIL,
+            generateSlot(InterviewDayOfWeek.MONDAY, LocalTime.of(10, 0))));
+
+    assertTrue(statistics.getPrepareStatementCount() <= 2);
+    interviewerTimeSlotService.createSlot(EMAIL,
+        generateSlot(InterviewDayOfWeek.MONDAY, LocalTime.of(10, 30)));
+    assertEquals(SLOTS + 3, interviewerTimeSlotRepository.findIdsByWeekNum(nextWeek).size());
+  }
+
+  @Test
+  void updateSlot_When_OtherSlotOverlapsOrIsSame_Should_ThrowException() {
+    assertThrows(SlotIsOverlappingException.class,
+        () -> updateSlot(LocalTime.of(11, 0), LocalTime.of(12, 30)));
+    assertThrows(SlotIsOverlappingException.class,
+        () -> updateSlot(LocalTime.of(9, 0), LocalTime.of(10, 30)));
+    assertThrows(SlotIsOverlappingException.class,
+        () -> updateSlot(LocalTime.of(10, 0), LocalTime.of(11, 30)));
+
+    assertEquals(LocalTime.of(8, 0), updateSlot(LocalTime.of(8, 0), LocalTime.of(10, 0))
+        .getFrom());
+    assertEquals(LocalTime.of(11, 30), updateSlot(LocalTime.of(11, 30), LocalTime.of(13, 0))
+        .getFrom());
+  }
+
+  private InterviewerTimeSlot updateSlot(LocalTime from, LocalTime to) {
+    return interviewerTimeSlotService.updateSlot(EMAIL, updatedSlot.getId(),
+        new InterviewerTimeSlotRequestForm(InterviewDayOfWeek.MONDAY, nextWeek, from, to),
+        interviewer);
+  }
+
+  private InterviewerTimeSlot saveSlot(InterviewDayOfWeek dayOfWeek, LocalTime from) {
+    return saveInterviewerSlot(interviewer, nextWeek, dayOfWeek, from, from.plusMinutes(90));
+  }
+
+  private InterviewerTimeSlot generateSlot(InterviewDayOfWeek dayOfWeek, LocalTime from) {
+    return InterviewerTimeSlot.builder()
+        .weekNum(nextWeek)
+        .dayOfWeek(dayOfWeek)
+        .from(from)
+        .to(from.plusMinutes(90))
+        .build();
+  }
+}
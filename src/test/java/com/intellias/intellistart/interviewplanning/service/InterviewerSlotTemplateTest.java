@@ -0,0 +1,163 @@
+package com.intellias.intellistart.interviewplanning.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.intellias.intellistart.interviewplanning.exceptions.SlotIsOverlappingException;
+import com.intellias.intellistart.interviewplanning.exceptions.ValidationException;
+import com.intellias.intellistart.interviewplanning.exceptions.WeekNumberNotAcceptableException;
+import com.intellias.intellistart.interviewplanning.model.InterviewDayOfWeek;
+import com.intellias.intellistart.interviewplanning.model.User;
+import com.intellias.intellistart.interviewplanning.model.slot.InterviewerSlotTemplate;
+import com.intellias.intellistart.interviewplanning.model.slot.InterviewerTimeSlot;
+import com.intellias.intellistart.interviewplanning.service.dto.DashboardDto;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+class InterviewerSlotTemplateTest extends DatabaseTest {
+
+  private static final String EMAIL = "interviewer@test.com";
+  private static final String OTHER_EMAIL = "other.interviewer@test.com";
+  private static final int TEMPLATES = 10;
+
+  @Autowired
+  private InterviewerSlotTemplateService slotTemplateService;
+  @Autowired
+  private DashboardService dashboardService;
+
+  private int nextWeek;
+
+  @BeforeEach
+  public void setUp() {
+    User interviewer = saveInterviewer(EMAIL);
+    saveInterviewer(OTHER_EMAIL);
+    nextWeek = weekService.getNextWeekNumber().getWeekNum();
+
+    for (int i = 0; i < TEMPLATES; i++) {
+      slotTemplateService.createTemplate(i % 2 == 0 ? EMAIL : OTHER_EMAIL,
+          generateTemplate(InterviewDayOfWeek.values()[i % 5], LocalTime.of(8 + 2 * (i / 5), 0),
+              nextWeek, nextWeek + 1));
+    }
+    saveInterviewerSlot(interviewer, nextWeek, InterviewDayOfWeek.MONDAY, LocalTime.of(8, 0),
+        LocalTime.of(9, 30));
+  }
+
+  @Test
+  void getDashboard_Should_CreateSlotsOfTemplatesOnceWithFixedNumberOfQueries() {
+    User interviewer = userRepository.findByEmail(EMAIL).orElseThrow();
+    Statistics statistics = clearStatistics();
+
+    DashboardDto dashboard = dashboardService.getDashboard(nextWeek);
+    long queries = statistics.getPrepareStatementCount();
+    slotTemplateService.materializeWeek(nextWeek);
+    slotTemplateService.materializeWeek(nextWeek + 2);
+
+    assertTrue(queries < TEMPLATES);
+    assertEquals(TEMPLATES, dashboard.getDays().stream()
+        .mapToInt(day -> day.getInterviewerSlots().size())
+        .sum());
+    assertEquals(TEMPLATES / 2, interviewerTimeSlotRepository
+        .findAllByUserAndWeekNum(interviewer, nextWeek).size());
+    assertEquals(TEMPLATES, interviewerTimeSlotRepository.findIdsByWeekNum(nextWeek).size());
+    assertTrue(interviewerTimeSlotRepository.findIdsByWeekNum(nextWeek + 2).isEmpty());
+  }
+
+  @Test
+  void materializeWeek_When_SlotOfTemplateIsChanged_Should_NotCreateItAgain() {
+    User interviewer = userRepository.findByEmail(EMAIL).orElseThrow();
+    slotTemplateService.materializeWeek(nextWeek);
+    InterviewerTimeSlot slot = interviewerTimeSlotRepository
+        .findAllByUserAndWeekNum(interviewer, nextWeek).stream()
+        .filter(existing -> existing.getDayOfWeek() == InterviewDayOfWeek.WEDNESDAY)
+        .findAny()
+        .orElseThrow();
+    slot.setFrom(LocalTime.of(15, 0));
+    slot.setTo(LocalTime.of(16, 30));
+    interviewerTimeSlotRepository.save(slot);
+
+    slotTemplateService.createTemplate(EMAIL, generateTemplate(InterviewDayOfWeek.FRIDAY,
+        LocalTime.of(18, 0), nextWeek, null));
+    slotTemplateService.materializeWeek(nextWeek);
+
+    assertEquals(List.of("FRIDAY 08:00", "FRIDAY 18:00", "MONDAY 08:00", "THURSDAY 10:00",
+            "TUESDAY 10:00", "WEDNESDAY 15:00"),
+        interviewerTimeSlotRepository.findAllByUserAndWeekNum(interviewer, nextWeek).stream()
+            .map(existing -> existing.getDayOfWeek() + " " + existing.getFrom())
+            .sorted()
+            .collect(Collectors.toList()));
+  }
+
+  @Test
+  void materializeWeek_When_SlotOfInterviewerOverlapsTemplate_Should_NotCreateSlotOfTemplate() {
+    User interviewer = userRepository.findByEmail(EMAIL).orElseThrow();
+    saveInterviewerSlot(interviewer, nextWeek, InterviewDayOfWeek.TUESDAY, LocalTime.of(11, 0),
+        LocalTime.of(12, 30));
+
+    slotTemplateService.materializeWeek(nextWeek);
+
+    assertEquals(List.of(LocalTime.of(11, 0)),
+        interviewerTimeSlotRepository.findAllByUserAndWeekNum(interviewer, nextWeek).stream()
+            .filter(slot -> slot.getDayOfWeek() == InterviewDayOfWeek.TUESDAY)
+            .map(InterviewerTimeSlot::getFrom)
+            .collect(Collectors.toList()));
+  }
+
+  @Test
+  void createTemplate_Should_KeepWeeksTogetherWithYearOfNextWeek() {
+    int currentWeek = weekService.getCurrentWeekNumber().getWeekNum();
+    int year = weekService.getCurrentYear() + (nextWeek < currentWeek ? 1 : 0);
+
+    InterviewerSlotTemplate template = slotTemplateService.createTemplate(EMAIL,
+        generateTemplate(InterviewDayOfWeek.FRIDAY, LocalTime.of(18, 0), nextWeek, null));
+
+    assertEquals(year * 100 + nextWeek, template.getFromYearWeek());
+    assertNull(template.getToYearWeek());
+  }
+
+  @Test
+  void materializeWeek_When_WeekIsNeitherCurrentNorNext_Should_NotCreateSlots() {
+    slotTemplateService.createTemplate(EMAIL, generateTemplate(InterviewDayOfWeek.FRIDAY,
+        LocalTime.of(18, 0), nextWeek, null));
+
+    slotTemplateService.materializeWeek(nextWeek + 1);
+    slotTemplateService.materializeWeek(nextWeek + 5);
+
+    assertTrue(interviewerTimeSlotRepository.findIdsByWeekNum(nextWeek + 1).isEmpty());
+    assertTrue(interviewerTimeSlotRepository.findIdsByWeekNum(nextWeek + 5).isEmpty());
+  }
+
+  @Test
+  void createTemplate_When_TemplateIsNotValid_Should_ThrowException() {
+    InterviewerSlotTemplate pastTemplate = generateTemplate(InterviewDayOfWeek.MONDAY,
+        LocalTime.of(18, 0), nextWeek - 1, null);
+    InterviewerSlotTemplate reversedTemplate = generateTemplate(InterviewDayOfWeek.MONDAY,
+        LocalTime.of(18, 0), nextWeek + 1, nextWeek);
+    InterviewerSlotTemplate overlappingTemplate = generateTemplate(InterviewDayOfWeek.MONDAY,
+        LocalTime.of(8, 0), nextWeek + 1, null);
+
+    assertThrows(WeekNumberNotAcceptableException.class,
+        () -> slotTemplateService.createTemplate(EMAIL, pastTemplate));
+    assertThrows(ValidationException.class,
+        () -> slotTemplateService.createTemplate(EMAIL, reversedTemplate));
+    assertThrows(SlotIsOverlappingException.class,
+        () -> slotTemplateService.createTemplate(EMAIL, overlappingTemplate));
+  }
+
+  private static InterviewerSlotTemplate generateTemplate(InterviewDayOfWeek dayOfWeek,
+      LocalTime from, Integer fromWeek, Integer toWeek) {
+    return InterviewerSlotTemplate.builder()
+        .dayOfWeek(dayOfWeek)
+        .from(from)
+        .to(from.plusMinutes(90))
+        .fromWeek(fromWeek)
+        .toWeek(toWeek)
+        .build();
+  }
+}
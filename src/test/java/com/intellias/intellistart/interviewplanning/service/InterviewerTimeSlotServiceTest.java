@@ -34,6 +34,8 @@ import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @ExtendWith(MockitoExtension.class)
 public class InterviewerTimeSlotServiceTest {
@@ -64,7 +66,13 @@ public class InterviewerTimeSlotServiceTest {
   @Mock
   private GetWeekNumberService weekService;
   @Mock
+  private InterviewerSlotTemplateService slotTemplateService;
+  @Mock
   private TimeSlotValidationService timeSlotValidationService;
+  @Mock
+  private DashboardCacheService dashboardCacheService;
+  @Mock
+  private BookingCounterService bookingCounterService;
 
   @Captor
   private ArgumentCaptor<InterviewerTimeSlot> timeSlotArgumentCaptor;
@@ -74,7 +82,10 @@ public class InterviewerTimeSlotServiceTest {
   @BeforeEach
   public void setUp() {
     timeSlotService = new InterviewerTimeSlotService(INTERVIEW_DURATION, bookingLimitRepository,
-        userRepository, timeSlotRepository, weekService, timeSlotValidationService);
+        userRepository, timeSlotRepository, weekService, timeSlotValidationService,
+        dashboardCacheService, slotTemplateService, bookingCounterService,
+        new BookingLockService(),
+        new TransactionTemplate(Mockito.mock(PlatformTransactionManager.class)));
 
     TIME_SLOT = InterviewerTimeSlot.builder()
         .from(LocalTime.of(10, 0))
@@ -152,8 +163,12 @@ public class InterviewerTimeSlotServiceTest {
   @Test
   public void createSlot_When_TimeSlotForUserAlreadyExist_Should_ThrowException() {
     Mockito.when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(USER));
-    Mockito.when(timeSlotRepository.findAllByUserAndWeekNum(USER, TIME_SLOT.getWeekNum()))
-        .thenReturn((Collections.singletonList(TIME_SLOT)));
+    Mockito.when(timeSlotRepository.findSameSlotIds(ArgumentMatchers.eq(USER),
+            ArgumentMatchers.eq(TIME_SLOT.getWeekNum()),
+            ArgumentMatchers.eq(TIME_SLOT.getDayOfWeek()),
+            ArgumentMatchers.eq(TIME_SLOT.getFrom()), ArgumentMatchers.eq(TIME_SLOT.getTo()),
+            ArgumentMatchers.any()))
+        .thenReturn(Collections.singletonList(SLOT_ID));
 
     assertThrows(SlotIsOverlappingException.class,
         () -> timeSlotService.createSlot(EMAIL, TIME_SLOT));
@@ -186,6 +201,8 @@ public class InterviewerTimeSlotServiceTest {
     assertEquals(TIME_SLOT.getDayOfWeek(), actualTimeSlot.getDayOfWeek());
     assertEquals(TIME_SLOT.getStatus(), actualTimeSlot.getStatus());
     assertEquals(USER, actualTimeSlot.getUser());
+    Mockito.verify(bookingCounterService).slotMoved(ArgumentMatchers.any(),
+        ArgumentMatchers.eq(TIME_SLOT_FOR_UPDATE.getWeekNum()));
   }
 
 
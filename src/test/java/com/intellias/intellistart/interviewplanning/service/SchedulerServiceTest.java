@@ -0,0 +1,287 @@
+package com.intellias.intellistart.interviewplanning.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.intellias.intellistart.interviewplanning.model.Booking;
+import com.intellias.intellistart.interviewplanning.model.BookingLimit;
+import com.intellias.intellistart.interviewplanning.model.InterviewDayOfWeek;
+import com.intellias.intellistart.interviewplanning.model.User;
+import com.intellias.intellistart.interviewplanning.model.User.UserRole;
+import com.intellias.intellistart.interviewplanning.model.WeekNumber;
+import com.intellias.intellistart.interviewplanning.model.slot.CandidateTimeSlot;
+import com.intellias.intellistart.interviewplanning.model.slot.InterviewerTimeSlot;
+import com.intellias.intellistart.interviewplanning.repository.BookingLimitRepository;
+import com.intellias.intellistart.interviewplanning.repository.CandidateTimeSlotRepository;
+import com.intellias.intellistart.interviewplanning.repository.InterviewerTimeSlotRepository;
+import com.intellias.intellistart.interviewplanning.service.dto.BookingDto;
+import com.intellias.intellistart.interviewplanning.service.dto.ScheduleProposalDto;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class SchedulerServiceTest {
+
+  private static final int WEEK_NUM = 43;
+  private static final int INTERVIEW_DURATION = 90;
+  private static final LocalDate MONDAY_DATE = LocalDate.of(2022, 10, 24);
+
+  @Mock
+  private InterviewerTimeSlotRepository interviewerTimeSlotRepository;
+  @Mock
+  private CandidateTimeSlotRepository candidateTimeSlotRepository;
+  @Mock
+  private BookingLimitRepository bookingLimitRepository;
+  @Mock
+  private BookingCounterService bookingCounterService;
+  @Mock
+  private GetWeekNumberService weekService;
+  @Mock
+  private InterviewerSlotTemplateService slotTemplateService;
+
+  private SchedulerService schedulerService;
+
+  @BeforeEach
+  public void setUp() {
+    schedulerService = new SchedulerService(INTERVIEW_DURATION, 2000L,
+        interviewerTimeSlotRepository, candidateTimeSlotRepository, bookingLimitRepository,
+        bookingCounterService, weekService, slotTemplateService);
+    Mockito.when(weekService.getDateForWeekNumAndDay(WEEK_NUM, DayOfWeek.MONDAY))
+        .thenReturn(MONDAY_DATE);
+  }
+
+  @Test
+  public void proposeBookings_Should_SkipBookedTimeBookedCandidatesAndFullInterviewers() {
+    User limitedInterviewer = generateInterviewer(1L);
+    User bookedInterviewer = generateInterviewer(2L);
+    InterviewerTimeSlot limitedSlot = generateInterviewerSlot(1L, limitedInterviewer,
+        InterviewDayOfWeek.MONDAY, LocalTime.of(10, 0), LocalTime.of(13, 0));
+    InterviewerTimeSlot bookedSlot = generateInterviewerSlot(2L, bookedInterviewer,
+        InterviewDayOfWeek.MONDAY, LocalTime.of(10, 0), LocalTime.of(11, 30));
+    bookedSlot.getBookings().add(Booking.builder().startTime(LocalTime.of(10, 0))
+        .endTime(LocalTime.of(11, 30)).build());
+
+    CandidateTimeSlot bookedCandidateSlot = generateCandidateSlot(3L, "booked@test.com",
+        MONDAY_DATE, LocalTime.of(10, 0), LocalTime.of(13, 0));
+    bookedCandidateSlot.getBookings().add(bookedSlot.getBookings().get(0));
+
+    mockSlots(List.of(limitedSlot, bookedSlot), List.of(
+        generateCandidateSlot(1L, "first@test.com", MONDAY_DATE, LocalTime.of(10, 0),
+            LocalTime.of(13, 0)),
+        generateCandidateSlot(2L, "second@test.com", MONDAY_DATE, LocalTime.of(10, 0),
+            LocalTime.of(13, 0)),
+        generateCandidateSlot(4L, "booked@test.com", MONDAY_DATE.plusDays(1),
+            LocalTime.of(10, 0), LocalTime.of(13, 0)),
+        bookedCandidateSlot));
+    mockLimits(Map.of(limitedInterviewer, 1), Map.of());
+
+    ScheduleProposalDto proposal = schedulerService.proposeBookings(WEEK_NUM);
+
+    assertEquals(1, proposal.getBookings().size());
+    assertEquals(1, proposal.getUnscheduledCandidates());
+    assertTrue(proposal.isComplete());
+
+    BookingDto booking = proposal.getBookings().get(0);
+
+    assertEquals(1L, booking.getInterviewerTimeSlotId());
+    assertEquals(1L, booking.getCandidateTimeSlotId());
+    assertEquals(LocalTime.of(10, 0), booking.getStartTime());
+    assertEquals(LocalTime.of(11, 30), booking.getEndTime());
+  }
+
+  @Test
+  public void proposeBookings_When_GreedyPlacementBlocksCandidate_Should_MoveBlocker() {
+    User firstInterviewer = generateInterviewer(1L);
+    User secondInterviewer = generateInterviewer(2L);
+    User fullInterviewer = generateInterviewer(3L);
+
+    mockSlots(List.of(
+        generateInterviewerSlot(1L, firstInterviewer, InterviewDayOfWeek.MONDAY,
+            LocalTime.of(10, 0), LocalTime.of(11, 30)),
+        generateInterviewerSlot(2L, secondInterviewer, InterviewDayOfWeek.MONDAY,
+            LocalTime.of(13, 0), LocalTime.of(14, 30)),
+        generateInterviewerSlot(3L, fullInterviewer, InterviewDayOfWeek.MONDAY,
+            LocalTime.of(16, 0), LocalTime.of(17, 30))), List.of(
+        generateCandidateSlot(1L, "flexible@test.com", MONDAY_DATE, LocalTime.of(10, 0),
+            LocalTime.of(14, 30)),
+        generateCandidateSlot(2L, "blocked@test.com", MONDAY_DATE, LocalTime.of(10, 0),
+            LocalTime.of(11, 30)),
+        generateCandidateSlot(3L, "blocked@test.com", MONDAY_DATE, LocalTime.of(16, 0),
+            LocalTime.of(17, 30))));
+    mockLimits(Map.of(fullInterviewer, 1), Map.of(3L, 1));
+
+    ScheduleProposalDto proposal = schedulerService.proposeBookings(WEEK_NUM);
+    Map<Long, Long> interviewerSlotByCandidateSlot = proposal.getBookings().stream()
+        .collect(Collectors.toMap(BookingDto::getCandidateTimeSlotId,
+            BookingDto::getInterviewerTimeSlotId));
+
+    assertEquals(Map.of(1L, 2L, 2L, 1L), interviewerSlotByCandidateSlot);
+    assertEquals(0, proposal.getUnscheduledCandidates());
+  }
+
+  @Test
+  public void proposeBookings_When_WeekHasTenThousandSlots_Should_ProposeValidBookings() {
+    Random random = new Random(42);
+    List<InterviewerTimeSlot> interviewerSlots = new ArrayList<>();
+    List<CandidateTimeSlot> candidateSlots = new ArrayList<>();
+    Map<User, Integer> limits = new HashMap<>();
+
+    for (int i = 0; i < 5000; i++) {
+      User interviewer = generateInterviewer(i / 5L);
+      InterviewDayOfWeek dayOfWeek = InterviewDayOfWeek.values()[i % 5];
+      LocalTime from = LocalTime.of(8 + random.nextInt(8), 30 * random.nextInt(2));
+      interviewerSlots.add(generateInterviewerSlot((long) i, interviewer, dayOfWeek, from,
+          from.plusHours(3 + random.nextInt(4))));
+      if (i % 5 == 0 && random.nextBoolean()) {
+        limits.put(interviewer, 1 + random.nextInt(3));
+      }
+
+      LocalTime candidateFrom = LocalTime.of(8 + random.nextInt(10), 30 * random.nextInt(2));
+      candidateSlots.add(generateCandidateSlot((long) i, "candidate" + i + "@test.com",
+          MONDAY_DATE.plusDays(random.nextInt(5)), candidateFrom,
+          candidateFrom.plusHours(2 + random.nextInt(3))));
+    }
+
+    mockSlots(interviewerSlots, candidateSlots);
+    mockLimits(limits, Map.of());
+
+    ScheduleProposalDto proposal = schedulerService.proposeBookings(WEEK_NUM);
+
+    assertFalse(proposal.getBookings().isEmpty());
+    assertProposalIsValid(proposal, interviewerSlots, candidateSlots, limits);
+  }
+
+  @Test
+  public void proposeBookings_When_TimeBudgetIsTiny_Should_ReturnInTimeWithBookingsSoFar() {
+    SchedulerService hurriedService = new SchedulerService(INTERVIEW_DURATION, 1L,
+        interviewerTimeSlotRepository, candidateTimeSlotRepository, bookingLimitRepository,
+        bookingCounterService, weekService, slotTemplateService);
+    List<InterviewerTimeSlot> interviewerSlots = new ArrayList<>();
+    List<CandidateTimeSlot> candidateSlots = new ArrayList<>();
+
+    for (int i = 0; i < 10000; i++) {
+      LocalTime from = LocalTime.of(8 + i % 8, 0);
+      if (i < 1000) {
+        interviewerSlots.add(generateInterviewerSlot((long) i, generateInterviewer(i / 5L),
+            InterviewDayOfWeek.values()[i % 5], from, from.plusHours(6)));
+      }
+      candidateSlots.add(generateCandidateSlot((long) i, "candidate" + i + "@test.com",
+          MONDAY_DATE.plusDays(i % 5), from, from.plusHours(3)));
+    }
+
+    mockSlots(interviewerSlots, candidateSlots);
+    Mockito.when(bookingLimitRepository.findAllByUserIn(ArgumentMatchers.any()))
+        .thenReturn(List.of());
+
+    long start = System.currentTimeMillis();
+    ScheduleProposalDto proposal = hurriedService.proposeBookings(WEEK_NUM);
+
+    assertTrue(System.currentTimeMillis() - start < 1000);
+    assertFalse(proposal.isComplete());
+    assertProposalIsValid(proposal, interviewerSlots, candidateSlots, Map.of());
+  }
+
+  private static void assertProposalIsValid(ScheduleProposalDto proposal,
+      List<InterviewerTimeSlot> interviewerSlots, List<CandidateTimeSlot> candidateSlots,
+      Map<User, Integer> limits) {
+    Map<Long, InterviewerTimeSlot> interviewerSlotsById = interviewerSlots.stream()
+        .collect(Collectors.toMap(InterviewerTimeSlot::getId, Function.identity()));
+    Map<Long, CandidateTimeSlot> candidateSlotsById = candidateSlots.stream()
+        .collect(Collectors.toMap(CandidateTimeSlot::getId, Function.identity()));
+    Map<Long, BookingIntervalIndex> bookedSlots = new HashMap<>();
+    Map<User, Integer> bookingCounts = new HashMap<>();
+    Set<String> candidates = new HashSet<>();
+
+    for (BookingDto booking : proposal.getBookings()) {
+      InterviewerTimeSlot interviewerSlot = interviewerSlotsById
+          .get(booking.getInterviewerTimeSlotId());
+      CandidateTimeSlot candidateSlot = candidateSlotsById.get(booking.getCandidateTimeSlotId());
+      BookingIntervalIndex bookedSlot = bookedSlots.computeIfAbsent(interviewerSlot.getId(),
+          id -> new BookingIntervalIndex());
+
+      assertTrue(candidates.add(candidateSlot.getEmail()));
+      assertEquals(MONDAY_DATE.plusDays(interviewerSlot.getDayOfWeek().ordinal()),
+          candidateSlot.getDate());
+      assertFalse(booking.getStartTime().isBefore(interviewerSlot.getFrom()));
+      assertFalse(booking.getStartTime().isBefore(candidateSlot.getFrom()));
+      assertFalse(booking.getEndTime().isAfter(interviewerSlot.getTo()));
+      assertFalse(booking.getEndTime().isAfter(candidateSlot.getTo()));
+      assertEquals(0, booking.getStartTime().getMinute() % 30);
+      assertFalse(bookedSlot.conflicts(booking.getStartTime(), booking.getEndTime()));
+
+      bookedSlot.add(booking.getStartTime(), booking.getEndTime());
+      bookingCounts.merge(interviewerSlot.getUser(), 1, Integer::sum);
+    }
+
+    limits.forEach((interviewer, limit) ->
+        assertTrue(bookingCounts.getOrDefault(interviewer, 0) <= limit));
+  }
+
+  private void mockSlots(List<InterviewerTimeSlot> interviewerSlots,
+      List<CandidateTimeSlot> candidateSlots) {
+    Mockito.when(interviewerTimeSlotRepository.findAllWithBookingsByWeekNum(WEEK_NUM))
+        .thenReturn(interviewerSlots);
+    Mockito.when(candidateTimeSlotRepository.findAllWithBookingsByDateBetween(MONDAY_DATE,
+            MONDAY_DATE.plusDays(4)))
+        .thenReturn(candidateSlots);
+  }
+
+  private void mockLimits(Map<User, Integer> limits, Map<Long, Integer> counts) {
+    Mockito.when(bookingLimitRepository.findAllByUserIn(ArgumentMatchers.any()))
+        .thenReturn(limits.entrySet().stream()
+            .map(limit -> BookingLimit.builder().user(limit.getKey())
+                .bookingLimit(limit.getValue()).build())
+            .collect(Collectors.toList()));
+    Mockito.when(weekService.getCurrentWeekNumber()).thenReturn(new WeekNumber(WEEK_NUM));
+    Mockito.when(bookingCounterService.getCounts(ArgumentMatchers.any(),
+            ArgumentMatchers.eq(WEEK_NUM)))
+        .thenReturn(counts);
+  }
+
+  private static User generateInterviewer(Long id) {
+    return new User(id, "interviewer" + id + "@test.com", UserRole.INTERVIEWER);
+  }
+
+  private static InterviewerTimeSlot generateInterviewerSlot(Long id, User interviewer,
+      InterviewDayOfWeek dayOfWeek, LocalTime from, LocalTime to) {
+    return InterviewerTimeSlot.builder()
+        .id(id)
+        .user(interviewer)
+        .weekNum(WEEK_NUM)
+        .dayOfWeek(dayOfWeek)
+        .from(from)
+        .to(to)
+        .bookings(new ArrayList<>())
+        .build();
+  }
+
+  private static CandidateTimeSlot generateCandidateSlot(Long id, String email, LocalDate date,
+      LocalTime from, LocalTime to) {
+    return CandidateTimeSlot.builder()
+        .id(id)
+        .email(email)
+        .date(date)
+        .from(from)
+        .to(to)
+        .bookings(new ArrayList<>())
+        .build();
+  }
+}
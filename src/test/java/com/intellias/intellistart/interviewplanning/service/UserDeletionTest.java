@@ -0,0 +1,77 @@
+package com.intellias.intellistart.interviewplanning.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.intellias.intellistart.interviewplanning.model.BookingCounter;
+import com.intellias.intellistart.interviewplanning.model.BookingLimit;
+import com.intellias.intellistart.interviewplanning.model.InterviewDayOfWeek;
+import com.intellias.intellistart.interviewplanning.model.User;
+import com.intellias.intellistart.interviewplanning.model.User.UserRole;
+import com.intellias.intellistart.interviewplanning.model.slot.CandidateTimeSlot;
+import com.intellias.intellistart.interviewplanning.model.slot.InterviewerTimeSlot;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+class UserDeletionTest extends DatabaseTest {
+
+  private static final int WEEK_NUM = 43;
+  private static final int SLOTS = 20;
+  private static final int BOOKINGS_PER_SLOT = 3;
+
+  @Autowired
+  private UserService userService;
+
+  private User interviewer;
+  private User otherInterviewer;
+
+  @BeforeEach
+  public void setUp() {
+    interviewer = saveInterviewer("interviewer@test.com");
+    otherInterviewer = saveInterviewer("other.interviewer@test.com");
+    bookingLimitRepository.save(BookingLimit.builder()
+        .user(interviewer)
+        .bookingLimit(5)
+        .weekNum(WEEK_NUM)
+        .build());
+    bookingCounterRepository.save(new BookingCounter(null, interviewer, WEEK_NUM, 5));
+
+    CandidateTimeSlot candidateSlot = saveCandidateSlot("candidate@test.com",
+        LocalDate.of(2022, 10, 24), LocalTime.of(8, 0), LocalTime.of(22, 0));
+
+    for (int i = 0; i < SLOTS; i++) {
+      saveSlotWithBookings(i % 2 == 0 ? interviewer : otherInterviewer, candidateSlot);
+    }
+  }
+
+  @Test
+  void deleteUserWithRole_When_UserIsInterviewer_Should_DeleteRelatedRowsInBulk() {
+    Statistics statistics = clearStatistics();
+
+    userService.deleteUserWithRole(interviewer.getId(), UserRole.INTERVIEWER);
+
+    assertTrue(statistics.getPrepareStatementCount() < SLOTS);
+    assertTrue(userRepository.findById(interviewer.getId()).isEmpty());
+    assertTrue(bookingLimitRepository.findByUser(interviewer).isEmpty());
+    assertTrue(bookingCounterRepository.findByUserAndWeekNum(interviewer, WEEK_NUM).isEmpty());
+    assertEquals(SLOTS / 2, interviewerTimeSlotRepository.count());
+    assertEquals(SLOTS / 2 * BOOKINGS_PER_SLOT, bookingRepository.count());
+    assertTrue(bookingRepository.findAll().stream()
+        .allMatch(booking -> booking.getInterviewerTimeSlot().getUser().getId()
+            .equals(otherInterviewer.getId())));
+  }
+
+  private void saveSlotWithBookings(User user, CandidateTimeSlot candidateSlot) {
+    InterviewerTimeSlot interviewerSlot = saveInterviewerSlot(user, WEEK_NUM,
+        InterviewDayOfWeek.MONDAY, LocalTime.of(8, 0), LocalTime.of(22, 0));
+
+    for (int j = 0; j < BOOKINGS_PER_SLOT; j++) {
+      saveBooking(interviewerSlot, candidateSlot, LocalTime.of(8 + 2 * j, 0),
+          LocalTime.of(9 + 2 * j, 30));
+    }
+  }
+}
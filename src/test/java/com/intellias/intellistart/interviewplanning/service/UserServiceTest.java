@@ -6,19 +6,27 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import com.intellias.intellistart.interviewplanning.exceptions.UserAlreadyExistsException;
 import com.intellias.intellistart.interviewplanning.model.User;
 import com.intellias.intellistart.interviewplanning.model.User.UserRole;
+import com.intellias.intellistart.interviewplanning.repository.BookingCounterRepository;
 import com.intellias.intellistart.interviewplanning.repository.BookingLimitRepository;
 import com.intellias.intellistart.interviewplanning.repository.BookingRepository;
+import com.intellias.intellistart.interviewplanning.repository.InterviewerSlotTemplateRepository;
 import com.intellias.intellistart.interviewplanning.repository.InterviewerTimeSlotRepository;
 import com.intellias.intellistart.interviewplanning.repository.UserRepository;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
 import org.mockito.Captor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @ExtendWith(MockitoExtension.class)
 public class UserServiceTest {
@@ -38,6 +46,14 @@ public class UserServiceTest {
   private BookingRepository bookingRepository;
   @Mock
   private InterviewerTimeSlotRepository interviewerTimeSlotRepository;
+  @Mock
+  private DashboardCacheService dashboardCacheService;
+  @Mock
+  private BookingCounterRepository bookingCounterRepository;
+  @Mock
+  private InterviewerSlotTemplateRepository slotTemplateRepository;
+  @Mock
+  private PlatformTransactionManager transactionManager;
 
 
   @Captor
@@ -47,7 +63,8 @@ public class UserServiceTest {
   @BeforeEach
   public void setUp() {
     userService = new UserService(userRepository, bookingLimitRepository, bookingRepository,
-        interviewerTimeSlotRepository);
+        interviewerTimeSlotRepository, dashboardCacheService, bookingCounterRepository,
+        slotTemplateRepository, new TransactionTemplate(transactionManager));
   }
 
   @Test
@@ -85,19 +102,58 @@ public class UserServiceTest {
   @Test
   public void deleteUserWithRole_When_RoleIsInterviewer_ShouldSuccessDelete() {
     Mockito.when(userRepository.findById(1L)).thenReturn(Optional.of(INTERVIEWER));
+    Mockito.when(bookingRepository.findIdsByInterviewer(ArgumentMatchers.eq(INTERVIEWER),
+            ArgumentMatchers.any()))
+        .thenReturn(List.of(1L, 2L), List.of(3L), Collections.emptyList());
+    Mockito.when(interviewerTimeSlotRepository.findIdsByUser(ArgumentMatchers.eq(INTERVIEWER),
+            ArgumentMatchers.any()))
+        .thenReturn(List.of(1L), Collections.emptyList());
 
     userService.deleteUserWithRole(1L, UserRole.INTERVIEWER);
 
     Mockito.verify(bookingLimitRepository, Mockito.times(1))
         .deleteByUser(INTERVIEWER);
     Mockito.verify(bookingRepository, Mockito.times(1))
-        .deleteAllByInterviewerTimeSlot_User(INTERVIEWER);
-    Mockito.verify(interviewerTimeSlotRepository, Mockito.times(1))
+        .deleteAllByIdIn(List.of(1L, 2L));
+    Mockito.verify(bookingRepository, Mockito.times(1))
+        .deleteAllByIdIn(List.of(3L));
+    Mockito.verify(bookingCounterRepository, Mockito.times(1))
         .deleteAllByUser(INTERVIEWER);
+    Mockito.verify(interviewerTimeSlotRepository, Mockito.times(1))
+        .deleteAllByIdIn(List.of(1L));
+    Mockito.verify(dashboardCacheService, Mockito.times(1)).invalidateAll();
 
     Mockito.verify(userRepository, Mockito.times(1)).delete(INTERVIEWER);
 
   }
 
+  @Test
+  void deleteUserWithRole_When_RoleIsInterviewer_Should_InvalidateDashboardsAfterCommit() {
+    Mockito.when(userRepository.findById(1L)).thenReturn(Optional.of(INTERVIEWER));
+    Mockito.when(bookingRepository.findIdsByInterviewer(ArgumentMatchers.eq(INTERVIEWER),
+            ArgumentMatchers.any()))
+        .thenReturn(Collections.emptyList());
+    Mockito.when(interviewerTimeSlotRepository.findIdsByUser(ArgumentMatchers.eq(INTERVIEWER),
+            ArgumentMatchers.any()))
+        .thenReturn(Collections.emptyList());
+
+    userService.deleteUserWithRole(1L, UserRole.INTERVIEWER);
+
+    InOrder inOrder = Mockito.inOrder(userRepository, transactionManager,
+        dashboardCacheService);
+    inOrder.verify(userRepository).delete(INTERVIEWER);
+    inOrder.verify(transactionManager).commit(ArgumentMatchers.any());
+    inOrder.verify(dashboardCacheService).invalidateAll();
+  }
+
+  @Test
+  void deleteUserWithRole_When_RoleIsCoordinator_Should_NotInvalidateDashboards() {
+    Mockito.when(userRepository.findById(1L)).thenReturn(Optional.of(COORDINATOR));
+
+    userService.deleteUserWithRole(1L, UserRole.COORDINATOR);
+
+    Mockito.verifyNoInteractions(dashboardCacheService);
+  }
+
 
 }